@@ -0,0 +1,73 @@
+package com.ticket_service.queue.service.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입장 메시지 인코딩 비교: 바이너리(QueueEnterMessage) vs 기존 JSON(ObjectMapper + String)
+ * JSON 경로는 발행 시 writeValueAsString, 수신 시 new String(body) 후 readValue를 수행한다.
+ * 실행: ./gradlew jmh (gc 프로파일러로 연산당 할당량도 함께 출력된다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueueEnterMessageCodecBenchmark {
+
+    // 1: 사용자별 발행, 200: 입장 처리 한 번의 기본 인원
+    @Param({"1", "200"})
+    private int userCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private QueueEnterMessage message;
+    private JsonEnterMessage jsonMessage;
+    private byte[] binaryBody;
+    private byte[] jsonBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<String> userIds = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            userIds.add("user-" + (100_000 + i));
+        }
+        message = QueueEnterMessage.of(42L, userIds);
+        jsonMessage = new JsonEnterMessage(42L, userIds);
+        binaryBody = message.encode();
+        jsonBody = objectMapper.writeValueAsString(jsonMessage).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return message.encode();
+    }
+
+    @Benchmark
+    public QueueEnterMessage binaryDecode() {
+        return QueueEnterMessage.decode(binaryBody);
+    }
+
+    @Benchmark
+    public String jsonEncode() throws Exception {
+        return objectMapper.writeValueAsString(jsonMessage);
+    }
+
+    @Benchmark
+    public JsonEnterMessage jsonDecode() throws Exception {
+        return objectMapper.readValue(new String(jsonBody), JsonEnterMessage.class);
+    }
+
+    public record JsonEnterMessage(Long concertId, List<String> userIds) {
+    }
+}
@@ -1,17 +1,22 @@
 package com.ticket_service.common.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private static final String VIRTUAL_THREADS_ENABLED = "spring.threads.virtual.enabled";
+
     @Value("${sse.thread-pool.core-size:10}")
     private int corePoolSize;
 
@@ -21,8 +26,13 @@ public class AsyncConfig {
     @Value("${sse.thread-pool.queue-capacity:100}")
     private int queueCapacity;
 
+    /**
+     * 거절 정책은 기본값(AbortPolicy)을 유지한다.
+     * 거절 시 처리는 SseDispatcher가 이벤트 우선순위에 따라 결정한다. (입장: 호출 스레드에서 실행, 순번: 버림)
+     */
     @Bean(name = "sseTaskExecutor")
-    public Executor sseTaskExecutor() {
+    @ConditionalOnProperty(name = VIRTUAL_THREADS_ENABLED, havingValue = "false", matchIfMissing = true)
+    public ThreadPoolTaskExecutor sseTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
@@ -33,4 +43,42 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 오픈 직후 대기실 대기자를 대기열에 등록하는 작업용
+     * 등록마다 락과 여러 번의 Redis 호출이 필요하므로 스케줄러 스레드 대신 이 풀에서 동시에 처리한다.
+     * 큐가 가득 차면 거절하며, WaitingRoomScheduler는 거절된 대기자를 대기실에 되돌려 다음 틱에 다시 넘긴다.
+     */
+    @Bean(name = "waitingRoomReleaseExecutor")
+    public ThreadPoolTaskExecutor waitingRoomReleaseExecutor(
+            @Value("${queue.waiting-room.release-concurrency:16}") int concurrency,
+            @Value("${queue.waiting-room.release-queue-capacity:2000}") int releaseQueueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(releaseQueueCapacity);
+        executor.setThreadNamePrefix("waiting-room-");
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드: 전송 작업마다 가상 스레드를 만들고 동시 전송 수만 세마포어로 제한한다.
+     * 전송은 대부분 소켓 쓰기 대기이므로 플랫폼 스레드 풀 크기에 묶이지 않는다.
+     */
+    @Bean(name = "sseTaskExecutor")
+    @ConditionalOnProperty(name = VIRTUAL_THREADS_ENABLED, havingValue = "true")
+    public Executor virtualSseTaskExecutor(@Value("${sse.virtual-threads.max-concurrency:2000}") int maxConcurrency) {
+        return new BoundedVirtualThreadExecutor("sse-vt-", maxConcurrency);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = VIRTUAL_THREADS_ENABLED, havingValue = "true")
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${server.virtual-threads.max-concurrent-requests:5000}") int maxConcurrentRequests,
+            @Value("${server.virtual-threads.acquire-timeout:1s}") Duration acquireTimeout) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeout));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
 }
@@ -0,0 +1,52 @@
+package com.ticket_service.common.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 작업마다 가상 스레드를 만들고, 동시 실행 수는 풀 크기 대신 세마포어로 제한한다.
+ * 허가를 얻지 못하면 ThreadPoolTaskExecutor의 큐가 가득 찬 경우처럼 RejectedExecutionException을 던지므로,
+ * 거절 이후의 처리(호출 스레드 실행, 버림)는 호출하는 쪽의 기존 정책을 그대로 따른다.
+ */
+public class BoundedVirtualThreadExecutor implements Executor {
+
+    private final int concurrencyLimit;
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.permits = new Semaphore(concurrencyLimit);
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("동시 실행 한도 초과: limit=" + concurrencyLimit);
+        }
+
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getActiveCount() {
+        return concurrencyLimit - permits.availablePermits();
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+}
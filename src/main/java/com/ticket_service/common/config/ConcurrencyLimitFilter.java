@@ -0,0 +1,55 @@
+package com.ticket_service.common.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드의 요청 동시 처리 한도
+ * 요청마다 가상 스레드가 생기므로 Tomcat 스레드 수가 더 이상 동시 처리량을 제한하지 않는다.
+ * 허가를 기다리는 동안 가상 스레드는 캐리어 스레드를 점유하지 않으며, 시간 안에 얻지 못하면 503으로 거절한다.
+ * SSE 요청은 비동기로 전환되면 필터를 빠져나오므로 연결 유지 시간 동안 허가를 잡고 있지 않는다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public ConcurrencyLimitFilter(int maxConcurrentRequests, Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -1,9 +1,37 @@
 package com.ticket_service.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
-}
\ No newline at end of file
+
+    public static final String ADMISSION_SCHEDULER = "admissionTaskScheduler";
+
+    /**
+     * 기본 스케줄러: 이름을 지정하지 않은 @Scheduled 작업(만료 정리, 순번 브로드캐스트, 대기실 해제 등)이 함께 쓴다.
+     * 한 작업의 Redis 호출이 길어져도 다른 작업이 밀리지 않도록 여러 스레드를 둔다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    /**
+     * 입장 처리 전용 스케줄러: 짧은 주기의 입장 처리가 다른 작업에 밀리지 않고, 다른 작업도 막지 않도록 따로 둔다.
+     */
+    @Bean(name = ADMISSION_SCHEDULER)
+    public ThreadPoolTaskScheduler admissionTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("admission-");
+        return scheduler;
+    }
+}
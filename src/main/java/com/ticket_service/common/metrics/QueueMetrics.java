@@ -1,13 +1,18 @@
 package com.ticket_service.common.metrics;
 
+import com.ticket_service.common.config.BoundedVirtualThreadExecutor;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class QueueMetrics {
@@ -16,6 +21,11 @@ public class QueueMetrics {
     private final ConcurrentHashMap<String, Counter> enterCounters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Counter> processingEnteredCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> processingExpiredCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> ghostRemovedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> lotteryDrawnCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> rateLimitedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> resumedCounters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Timer> waitingTimers = new ConcurrentHashMap<>();
 
     // Counters for ticket purchase
@@ -28,6 +38,27 @@ public class QueueMetrics {
     private final ConcurrentHashMap<String, Counter> stockSoldCounters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, DistributionSummary> soldQuantitySummaries = new ConcurrentHashMap<>();
 
+    // Adaptive processing limit metrics
+    private final ConcurrentHashMap<Long, AtomicLong> processingLimitGaugeValues = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> processingLimitAdjustedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicLong> processingShareGaugeValues = new ConcurrentHashMap<>();
+
+    // Pre-open waiting room metrics
+    private final ConcurrentHashMap<Long, AtomicLong> waitingRoomGaugeValues = new ConcurrentHashMap<>();
+
+    // SSE fan-out metrics
+    private final ConcurrentHashMap<String, Timer> fanOutTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> fanOutDeliveredCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> fanOutDroppedCounters = new ConcurrentHashMap<>();
+
+    // SSE dispatch metrics
+    private final ConcurrentHashMap<String, Counter> dispatchDroppedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> dispatchCallerRunsCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> positionConflatedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> enterRoutedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> enterDeliveryLagTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> enterRedeliveredCounters = new ConcurrentHashMap<>();
+
     public QueueMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
 
@@ -48,6 +79,7 @@ public class QueueMetrics {
         this.purchaseDurationTimer = Timer.builder("ticket.purchase.duration")
                 .description("Time taken for ticket purchase")
                 .publishPercentileHistogram()
+                .publishPercentiles(0.95)
                 .register(meterRegistry);
     }
 
@@ -64,6 +96,28 @@ public class QueueMetrics {
         getOrCreateProcessingEnteredCounter(concertId).increment();
     }
 
+    public void incrementProcessingExpired(Long concertId, int count) {
+        if (count > 0) {
+            getOrCreateProcessingExpiredCounter(concertId).increment(count);
+        }
+    }
+
+    public void incrementGhostRemoved(Long concertId, int count) {
+        getOrCreateGhostRemovedCounter(concertId).increment(count);
+    }
+
+    public void incrementLotteryDrawn(Long concertId, int count) {
+        getOrCreateLotteryDrawnCounter(concertId).increment(count);
+    }
+
+    public void incrementRateLimited(Long concertId, String scope, String layer) {
+        getOrCreateRateLimitedCounter(concertId, scope, layer).increment();
+    }
+
+    public void incrementQueueResumed(Long concertId, String state) {
+        getOrCreateResumedCounter(concertId, state).increment();
+    }
+
     // Waiting time metrics
     public void recordWaitingTime(Long concertId, long waitingTimeMs) {
         getOrCreateWaitingTimer(concertId).record(waitingTimeMs, TimeUnit.MILLISECONDS);
@@ -86,12 +140,217 @@ public class QueueMetrics {
         return purchaseDurationTimer;
     }
 
+    /**
+     * 이 서버에서 최근 구매 소요 시간의 p95 (ms). 구매가 없었으면 0을 반환한다.
+     */
+    public double getPurchaseDurationP95Millis() {
+        for (ValueAtPercentile percentile : purchaseDurationTimer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.95) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    public long getPurchaseCount() {
+        return purchaseDurationTimer.count();
+    }
+
+    /**
+     * 커넥션을 얻기 위해 대기 중인 스레드 수 (HikariCP)
+     */
+    public double getPendingConnectionCount() {
+        return meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+
+    // Adaptive processing limit metrics
+    public void recordProcessingLimit(Long concertId, int limit) {
+        processingLimitGaugeValues.computeIfAbsent(concertId, id -> {
+            AtomicLong value = new AtomicLong(limit);
+            Gauge.builder("queue.processing.limit", value, AtomicLong::get)
+                    .tag("concertId", String.valueOf(id))
+                    .description("Current adaptive processing limit")
+                    .register(meterRegistry);
+            return value;
+        }).set(limit);
+    }
+
+    public void recordProcessingShare(Long concertId, int share) {
+        processingShareGaugeValues.computeIfAbsent(concertId, id -> {
+            AtomicLong value = new AtomicLong(share);
+            Gauge.builder("queue.processing.share", value, AtomicLong::get)
+                    .tag("concertId", String.valueOf(id))
+                    .description("Current share of the global processing budget")
+                    .register(meterRegistry);
+            return value;
+        }).set(share);
+    }
+
+    // Pre-open waiting room metrics
+    public void recordWaitingRoomSize(Long concertId, int size) {
+        waitingRoomGaugeValues.computeIfAbsent(concertId, id -> {
+            AtomicLong value = new AtomicLong(size);
+            Gauge.builder("queue.waiting_room.size", value, AtomicLong::get)
+                    .tag("concertId", String.valueOf(id))
+                    .description("Users held in the in-memory pre-open waiting room on this node")
+                    .register(meterRegistry);
+            return value;
+        }).set(size);
+    }
+
+    public void incrementProcessingLimitAdjusted(Long concertId, String direction) {
+        String key = "limit:" + concertId + ":" + direction;
+        processingLimitAdjustedCounters.computeIfAbsent(key, k ->
+                Counter.builder("queue.processing.limit.adjusted")
+                        .tag("concertId", String.valueOf(concertId))
+                        .tag("direction", direction)
+                        .description("Total adaptive processing limit adjustments")
+                        .register(meterRegistry)
+        ).increment();
+    }
+
     // Stock metrics
     public void recordTicketSold(Long concertId, int quantity) {
         getOrCreateStockSoldCounter(concertId).increment(quantity);
         getOrCreateSoldQuantitySummary(concertId).record(quantity);
     }
 
+    /**
+     * 이 서버에서 집계된 구매 1건당 평균 판매 수량. 구매가 없었으면 0을 반환한다.
+     */
+    public double getAverageSoldQuantity(Long concertId) {
+        DistributionSummary summary = soldQuantitySummaries.get("quantity:" + concertId);
+        return summary != null ? summary.mean() : 0;
+    }
+
+    // SSE fan-out metrics
+    public void recordSseFanOut(String eventName, long durationNanos, int delivered, int dropped) {
+        getOrCreateFanOutTimer(eventName).record(durationNanos, TimeUnit.NANOSECONDS);
+        getOrCreateFanOutDeliveredCounter(eventName).increment(delivered);
+        getOrCreateFanOutDroppedCounter(eventName).increment(dropped);
+    }
+
+    // SSE dispatch metrics
+    public void registerSseExecutorGauges(ThreadPoolTaskExecutor executor) {
+        Gauge.builder("sse.executor.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Tasks waiting in the SSE executor queue")
+                .register(meterRegistry);
+        Gauge.builder("sse.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("SSE executor threads currently running tasks")
+                .register(meterRegistry);
+    }
+
+    public void registerSseExecutorGauges(BoundedVirtualThreadExecutor executor) {
+        Gauge.builder("sse.executor.active", executor, BoundedVirtualThreadExecutor::getActiveCount)
+                .description("SSE tasks currently running on virtual threads")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param reason shed(여유 확보를 위해 미리 버림) 또는 rejected(실행기가 거절)
+     */
+    public void incrementSseDispatchDropped(String eventName, String reason) {
+        String key = eventName + ":" + reason;
+        dispatchDroppedCounters.computeIfAbsent(key, k ->
+                Counter.builder("sse.dispatch.dropped")
+                        .tag("event", eventName)
+                        .tag("reason", reason)
+                        .description("Total best-effort SSE tasks dropped under load")
+                        .register(meterRegistry)
+        ).increment();
+    }
+
+    public void incrementSseDispatchCallerRuns(String eventName) {
+        dispatchCallerRunsCounters.computeIfAbsent(eventName, k ->
+                Counter.builder("sse.dispatch.caller_runs")
+                        .tag("event", eventName)
+                        .description("Total critical SSE tasks run on the caller thread after rejection")
+                        .register(meterRegistry)
+        ).increment();
+    }
+
+    /**
+     * @param route local(같은 서버에서 바로 전송), node(소유 서버 채널), broadcast(소유 서버를 몰라 전체 채널)
+     */
+    public void incrementEnterRouted(String route, int count) {
+        if (count <= 0) {
+            return;
+        }
+        enterRoutedCounters.computeIfAbsent(route, k ->
+                Counter.builder("queue.enter.routed")
+                        .tag("route", route)
+                        .description("Total enter events routed by connection owner")
+                        .register(meterRegistry)
+        ).increment(count);
+    }
+
+    /**
+     * 입장 메시지가 스트림에 추가된 시각부터 이 서버가 읽을 때까지 걸린 시간
+     *
+     * @param stream node(서버별 스트림) 또는 broadcast(전체 스트림)
+     */
+    public void recordEnterDeliveryLag(String stream, long lagMillis) {
+        enterDeliveryLagTimers.computeIfAbsent(stream, k ->
+                Timer.builder("queue.enter.delivery.lag")
+                        .tag("stream", stream)
+                        .description("Time from enter stream append to read on this node")
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry)
+        ).record(Math.max(0L, lagMillis), TimeUnit.MILLISECONDS);
+    }
+
+    public void incrementEnterRedelivered(String stream, int count) {
+        if (count <= 0) {
+            return;
+        }
+        enterRedeliveredCounters.computeIfAbsent(stream, k ->
+                Counter.builder("queue.enter.redelivered")
+                        .tag("stream", stream)
+                        .description("Total unacknowledged enter stream entries delivered again")
+                        .register(meterRegistry)
+        ).increment(count);
+    }
+
+    public void incrementPositionConflated(Long concertId) {
+        String key = "conflated:" + concertId;
+        positionConflatedCounters.computeIfAbsent(key, k ->
+                Counter.builder("sse.position.conflated")
+                        .tag("concertId", String.valueOf(concertId))
+                        .description("Total position broadcasts skipped while the previous one was in flight")
+                        .register(meterRegistry)
+        ).increment();
+    }
+
+    private Timer getOrCreateFanOutTimer(String eventName) {
+        return fanOutTimers.computeIfAbsent(eventName, k ->
+                Timer.builder("sse.fanout.duration")
+                        .tag("event", eventName)
+                        .description("Time taken to fan out one broadcast tick")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+        );
+    }
+
+    private Counter getOrCreateFanOutDeliveredCounter(String eventName) {
+        return fanOutDeliveredCounters.computeIfAbsent(eventName, k ->
+                Counter.builder("sse.fanout.delivered")
+                        .tag("event", eventName)
+                        .description("Total SSE events delivered by fan-out")
+                        .register(meterRegistry)
+        );
+    }
+
+    private Counter getOrCreateFanOutDroppedCounter(String eventName) {
+        return fanOutDroppedCounters.computeIfAbsent(eventName, k ->
+                Counter.builder("sse.fanout.dropped")
+                        .tag("event", eventName)
+                        .description("Total SSE events dropped by fan-out")
+                        .register(meterRegistry)
+        );
+    }
+
     private Counter getOrCreateStockSoldCounter(Long concertId) {
         String key = "sold:" + concertId;
         return stockSoldCounters.computeIfAbsent(key, k ->
@@ -144,6 +403,59 @@ public class QueueMetrics {
         );
     }
 
+    private Counter getOrCreateProcessingExpiredCounter(Long concertId) {
+        String key = "expired:" + concertId;
+        return processingExpiredCounters.computeIfAbsent(key, k ->
+                Counter.builder("queue.processing.expired")
+                        .tag("concertId", String.valueOf(concertId))
+                        .description("Total users removed from processing after entry timeout")
+                        .register(meterRegistry)
+        );
+    }
+
+    private Counter getOrCreateGhostRemovedCounter(Long concertId) {
+        String key = "ghost:" + concertId;
+        return ghostRemovedCounters.computeIfAbsent(key, k ->
+                Counter.builder("queue.waiting.ghost.removed")
+                        .tag("concertId", String.valueOf(concertId))
+                        .description("Total disconnected users removed from waiting queue")
+                        .register(meterRegistry)
+        );
+    }
+
+    private Counter getOrCreateLotteryDrawnCounter(Long concertId) {
+        String key = "lottery:" + concertId;
+        return lotteryDrawnCounters.computeIfAbsent(key, k ->
+                Counter.builder("queue.lottery.drawn")
+                        .tag("concertId", String.valueOf(concertId))
+                        .description("Total lottery registrants inserted into waiting queue at open")
+                        .register(meterRegistry)
+        );
+    }
+
+    private Counter getOrCreateResumedCounter(Long concertId, String state) {
+        String key = "resumed:" + concertId + ":" + state;
+        return resumedCounters.computeIfAbsent(key, k ->
+                Counter.builder("queue.resumed")
+                        .tag("concertId", String.valueOf(concertId))
+                        .tag("state", state)
+                        .description("Total reconnections resumed via Last-Event-ID")
+                        .register(meterRegistry)
+        );
+    }
+
+    private Counter getOrCreateRateLimitedCounter(Long concertId, String scope, String layer) {
+        String key = "rate:" + concertId + ":" + scope + ":" + layer;
+        return rateLimitedCounters.computeIfAbsent(key, k ->
+                Counter.builder("rate_limit.rejected")
+                        .tag("concertId", String.valueOf(concertId))
+                        .tag("scope", scope)
+                        .tag("layer", layer)
+                        .description("Total requests rejected by rate limiting")
+                        .register(meterRegistry)
+        );
+    }
+
     private Timer getOrCreateWaitingTimer(Long concertId) {
         String key = "waiting:" + concertId;
         return waitingTimers.computeIfAbsent(key, k ->
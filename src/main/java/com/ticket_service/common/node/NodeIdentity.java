@@ -0,0 +1,45 @@
+package com.ticket_service.common.node;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 클러스터 내에서 현재 서버를 식별하는 ID
+ * 설정값이 없으면 호스트명과 포트로 만든다. (컨테이너 재시작 후에도 유지되도록)
+ * 단, 재시작마다 호스트명이 바뀌는 환경(k8s Deployment 등)에서는 유지되지 않으므로
+ * 재시작 후에도 같은 ID가 필요한 기능은 isConfigured()로 명시 설정 여부를 확인한다.
+ */
+@Slf4j
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    // queue.node-id로 명시했는지 여부
+    private final boolean configured;
+
+    public NodeIdentity(@Value("${queue.node-id:}") String configuredNodeId,
+                        @Value("${server.port:8080}") int serverPort) {
+        this.configured = StringUtils.hasText(configuredNodeId);
+        this.nodeId = configured
+                ? configuredNodeId
+                : resolveHostName() + ":" + serverPort;
+        log.info("Node id: {}", nodeId);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
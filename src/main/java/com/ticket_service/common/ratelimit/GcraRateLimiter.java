@@ -0,0 +1,63 @@
+package com.ticket_service.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 클러스터 전체 요청 한도 (GCRA, Generic Cell Rate Algorithm)
+ * 키마다 이론상 도착 시각(TAT) 하나만 저장하므로 토큰 버킷보다 상태가 작고, 한 번의 EVAL로 판정과 갱신을 끝낸다.
+ * 서버 간 시계 차이가 없도록 Redis 시각을 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GcraRateLimiter {
+
+    /*
+     * KEYS: 한도를 적용할 키... / ARGV: 키마다 (요청 간격(ms), 허용 누적 시간(ms))
+     * 모든 키가 허용할 때만 TAT를 갱신하므로, 거절된 요청은 어느 한도도 소모하지 않는다.
+     * 결과는 허용 시 0, 거절 시 다시 시도할 수 있을 때까지 남은 시간(ms)이다.
+     */
+    private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local tats = {} " +
+            "local retryAfter = 0 " +
+            "for i = 1, #KEYS do " +
+            "  local interval = tonumber(ARGV[2 * i - 1]) " +
+            "  local tolerance = tonumber(ARGV[2 * i]) " +
+            "  local tat = tonumber(redis.call('GET', KEYS[i]) or now) " +
+            "  local newTat = math.max(tat, now) + interval " +
+            "  local wait = newTat - tolerance - now " +
+            "  if wait > retryAfter then retryAfter = wait end " +
+            "  tats[i] = newTat " +
+            "end " +
+            "if retryAfter > 0 then return math.ceil(retryAfter) end " +
+            "for i = 1, #KEYS do " +
+            "  redis.call('SET', KEYS[i], tats[i], 'PX', math.ceil(tats[i] - now)) " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+
+    /**
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(List<String> keys, List<RateLimit> limits) {
+        Object[] args = new Object[limits.size() * 2];
+        for (int i = 0; i < limits.size(); i++) {
+            RateLimit limit = limits.get(i);
+            args[2 * i] = String.valueOf(limit.emissionIntervalMillis());
+            args[2 * i + 1] = String.valueOf(limit.period().toMillis());
+        }
+
+        Long retryAfterMillis = queueRedisTemplate.execute(GCRA_SCRIPT, keys, args);
+        return retryAfterMillis != null ? retryAfterMillis : 0L;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ticket_service.common.ratelimit;
+
+/**
+ * 서버 로컬 토큰 버킷
+ * 한 서버에서만 봐도 한도를 넘은 요청은 Redis를 거치지 않고 바로 거절한다.
+ * 요청이 여러 서버로 나뉘는 정상 사용자는 로컬 한도에 걸리지 않으므로 판정은 GCRA(Redis)가 맡는다.
+ */
+class LocalTokenBucket {
+
+    private final double capacity;
+    private final double refillPerMillis;
+    private double tokens;
+    private long lastRefillAt;
+
+    LocalTokenBucket(RateLimit limit, long now) {
+        this.capacity = limit.permits();
+        this.refillPerMillis = 1.0 / limit.emissionIntervalMillis();
+        this.tokens = capacity;
+        this.lastRefillAt = now;
+    }
+
+    /**
+     * @return 허용되면 0, 거절되면 토큰 하나가 찰 때까지 남은 시간(ms)
+     */
+    synchronized long tryConsume(long now) {
+        refill(now);
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return 0L;
+        }
+        return (long) Math.ceil((1.0 - tokens) / refillPerMillis);
+    }
+
+    /**
+     * 가져간 토큰 하나를 돌려준다. 요청이 다른 한도(다른 버킷 또는 GCRA)에서 거절되어 처리되지 않은 경우에 호출한다.
+     */
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1.0);
+    }
+
+    /**
+     * @return 버킷이 가득 차서 더 이상 상태를 보관할 필요가 없으면 true
+     */
+    synchronized boolean isIdle(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillAt) {
+            tokens = Math.min(capacity, tokens + (now - lastRefillAt) * refillPerMillis);
+            lastRefillAt = now;
+        }
+    }
+}
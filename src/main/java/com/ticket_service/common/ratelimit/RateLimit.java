@@ -0,0 +1,30 @@
+package com.ticket_service.common.ratelimit;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * period 동안 permits회 (예: 5/10s)
+ * 한 번에 permits회까지 몰아서 허용하고, 이후에는 period / permits 간격으로 한 번씩 허용한다.
+ */
+public record RateLimit(int permits, Duration period) {
+
+    public RateLimit {
+        if (permits <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("요청 한도는 0보다 커야 합니다: " + permits + "/" + period);
+        }
+    }
+
+    public static RateLimit parse(String value) {
+        String[] permitsAndPeriod = value.trim().split("/");
+        return new RateLimit(Integer.parseInt(permitsAndPeriod[0].trim()), DurationStyle.detectAndParse(permitsAndPeriod[1].trim()));
+    }
+
+    /**
+     * @return 요청 하나가 차지하는 시간(ms)
+     */
+    public double emissionIntervalMillis() {
+        return (double) period.toMillis() / permits;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ticket_service.common.ratelimit;
+
+import com.ticket_service.common.dto.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 요청 한도 초과는 대기열/구매 API 모두에서 발생하므로 패키지를 한정하지 않는다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class RateLimitExceptionHandler {
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRateLimitExceeded(RateLimitExceededException e) {
+        log.debug("Rate limit exceeded: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.of(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), null));
+    }
+}
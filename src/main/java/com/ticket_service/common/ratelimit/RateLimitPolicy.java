@@ -0,0 +1,58 @@
+package com.ticket_service.common.ratelimit;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * API별 요청 한도 설정
+ * 사용자별/IP별 기본 한도를 두고, 공연별로 사용자 한도를 따로 지정할 수 있다. (예: 7=2/10s,8=1/5s)
+ */
+@Component
+public class RateLimitPolicy {
+
+    @Getter
+    private final boolean enabled;
+    private final Map<RateLimitScope, ScopePolicy> policies = new HashMap<>();
+
+    public RateLimitPolicy(@Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.subscribe.user:5/10s}") String subscribeUser,
+                           @Value("${rate-limit.subscribe.ip:100/10s}") String subscribeIp,
+                           @Value("${rate-limit.subscribe.concerts:}") String subscribeConcerts,
+                           @Value("${rate-limit.purchase.user:5/1s}") String purchaseUser,
+                           @Value("${rate-limit.purchase.ip:50/1s}") String purchaseIp,
+                           @Value("${rate-limit.purchase.concerts:}") String purchaseConcerts) {
+        this.enabled = enabled;
+        policies.put(RateLimitScope.SUBSCRIBE, new ScopePolicy(RateLimit.parse(subscribeUser), RateLimit.parse(subscribeIp), parseConcerts(subscribeConcerts)));
+        policies.put(RateLimitScope.PURCHASE, new ScopePolicy(RateLimit.parse(purchaseUser), RateLimit.parse(purchaseIp), parseConcerts(purchaseConcerts)));
+    }
+
+    public RateLimit userLimit(RateLimitScope scope, Long concertId) {
+        ScopePolicy policy = policies.get(scope);
+        return policy.concertUserLimits().getOrDefault(concertId, policy.userLimit());
+    }
+
+    public RateLimit ipLimit(RateLimitScope scope) {
+        return policies.get(scope).ipLimit();
+    }
+
+    private static Map<Long, RateLimit> parseConcerts(String concerts) {
+        Map<Long, RateLimit> limits = new HashMap<>();
+        if (!StringUtils.hasText(concerts)) {
+            return limits;
+        }
+
+        for (String concert : concerts.split(",")) {
+            String[] idAndLimit = concert.trim().split("=");
+            limits.put(Long.parseLong(idAndLimit[0].trim()), RateLimit.parse(idAndLimit[1]));
+        }
+        return limits;
+    }
+
+    private record ScopePolicy(RateLimit userLimit, RateLimit ipLimit, Map<Long, RateLimit> concertUserLimits) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.ticket_service.common.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitScope {
+
+    SUBSCRIBE("subscribe"),
+    PURCHASE("purchase");
+
+    private final String value;
+}
@@ -0,0 +1,97 @@
+package com.ticket_service.common.ratelimit;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.redis.RateLimitKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별/IP별 요청 한도
+ * 락 획득이나 대기열 조회 전에 호출해, 봇이나 새로고침 폭주가 Redis와 DB까지 도달하지 않도록 한다.
+ *
+ * 1. 로컬 토큰 버킷: 이 서버에 들어온 요청만으로 한도를 넘으면 Redis 없이 거절
+ * 2. GCRA (Redis): 사용자/IP 한도를 한 번의 EVAL로 함께 판정해 클러스터 전체 한도를 적용
+ *
+ * 판정은 모두 허용되거나 모두 거절되므로, 거절된 요청이 로컬 버킷에서 가져간 토큰은 돌려준다.
+ * 돌려주지 않으면 거절될 때마다 로컬 버킷이 더 비어 정상 요청까지 로컬에서 거절된다.
+ *
+ * Redis 장애 시에는 요청을 막지 않는다. (대기열 자체의 중복/권한 검사가 뒤에 있다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private final RateLimitPolicy rateLimitPolicy;
+    private final GcraRateLimiter gcraRateLimiter;
+    private final QueueMetrics queueMetrics;
+
+    private final Map<String, LocalTokenBucket> localBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * @throws RateLimitExceededException 한도를 넘은 경우
+     */
+    public void check(RateLimitScope scope, Long concertId, String userId, String ip) {
+        if (!rateLimitPolicy.isEnabled()) {
+            return;
+        }
+
+        String userKey = RateLimitKey.user(scope.getValue(), concertId, userId);
+        String ipKey = RateLimitKey.ip(scope.getValue(), concertId, ip);
+        RateLimit userLimit = rateLimitPolicy.userLimit(scope, concertId);
+        RateLimit ipLimit = rateLimitPolicy.ipLimit(scope);
+
+        long now = System.currentTimeMillis();
+        LocalTokenBucket userBucket = localBucket(userKey, userLimit, now);
+        LocalTokenBucket ipBucket = localBucket(ipKey, ipLimit, now);
+        long userRetryAfter = userBucket.tryConsume(now);
+        long ipRetryAfter = ipBucket.tryConsume(now);
+        if (userRetryAfter > 0 || ipRetryAfter > 0) {
+            if (userRetryAfter == 0) {
+                userBucket.refund();
+            }
+            if (ipRetryAfter == 0) {
+                ipBucket.refund();
+            }
+            reject(scope, concertId, "local", Math.max(userRetryAfter, ipRetryAfter));
+        }
+
+        long retryAfter;
+        try {
+            retryAfter = gcraRateLimiter.tryAcquire(List.of(userKey, ipKey), List.of(userLimit, ipLimit));
+        } catch (Exception e) {
+            log.warn("요청 한도 확인 실패, 허용 처리: scope={}, concertId={}", scope.getValue(), concertId, e);
+            return;
+        }
+        if (retryAfter > 0) {
+            userBucket.refund();
+            ipBucket.refund();
+            reject(scope, concertId, "cluster", retryAfter);
+        }
+    }
+
+    /**
+     * 가득 찬 로컬 버킷은 새로 만든 버킷과 같으므로 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.local-cleanup-interval:60s}")
+    public void evictIdleBuckets() {
+        long now = System.currentTimeMillis();
+        localBuckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+    }
+
+    private LocalTokenBucket localBucket(String key, RateLimit limit, long now) {
+        return localBuckets.computeIfAbsent(key, k -> new LocalTokenBucket(limit, now));
+    }
+
+    private void reject(RateLimitScope scope, Long concertId, String layer, long retryAfterMillis) {
+        queueMetrics.incrementRateLimited(concertId, scope.getValue(), layer);
+        long retryAfterSeconds = Math.max(1L, (retryAfterMillis + 999) / 1000);
+        throw new RateLimitExceededException("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+}
@@ -7,6 +7,14 @@ public class LockKey {
     private static final String QUEUE_USER_LOCK_PREFIX = "LOCK:QUEUE:USER:";
     // 대기열 → 처리열 일괄 입장 시 사용하는 분산락
     private static final String QUEUE_ENTER_LOCK_PREFIX = "LOCK:QUEUE:ENTER:";
+    // 만료된 처리열 정리 작업을 한 서버만 수행하도록 하는 락
+    private static final String PROCESSING_SWEEP_LOCK_KEY = "LOCK:QUEUE:PROCESSING_SWEEP";
+    // 연결이 끊긴 대기자 정리 작업을 한 서버만 수행하도록 하는 락
+    private static final String GHOST_SWEEP_LOCK_KEY = "LOCK:QUEUE:GHOST_SWEEP";
+    // 처리열 최대 인원 조정을 한 서버만 수행하도록 하는 락
+    private static final String PROCESSING_LIMIT_LOCK_KEY = "LOCK:QUEUE:PROCESSING_LIMIT";
+    // 오픈 시각 추첨 등록을 한 서버만 수행하도록 하는 락
+    private static final String LOTTERY_DRAW_LOCK_PREFIX = "LOCK:QUEUE:LOTTERY_DRAW:";
 
     public static String ticketStock(Long concertId) {
         return TICKET_STOCK_LOCK_PREFIX + concertId;
@@ -19,4 +27,20 @@ public class LockKey {
     public static String queueEnter(Long concertId) {
         return QUEUE_ENTER_LOCK_PREFIX + concertId;
     }
+
+    public static String processingSweep() {
+        return PROCESSING_SWEEP_LOCK_KEY;
+    }
+
+    public static String ghostSweep() {
+        return GHOST_SWEEP_LOCK_KEY;
+    }
+
+    public static String processingLimit() {
+        return PROCESSING_LIMIT_LOCK_KEY;
+    }
+
+    public static String lotteryDraw(Long concertId) {
+        return LOTTERY_DRAW_LOCK_PREFIX + concertId;
+    }
 }
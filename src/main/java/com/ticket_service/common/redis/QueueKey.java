@@ -2,13 +2,130 @@ package com.ticket_service.common.redis;
 
 public class QueueKey {
     private static final String WAITING_QUEUE_PREFIX = "QUEUE:WAITING:";
-    private static final String PROCESSING_SET_PREFIX = "SET:PROCESSING:";
+    // 레인별 입장 순서 상태 (레인 -> 누적 기회, 다음 차례 레인)
+    private static final String LANE_DEFICIT_PREFIX = "STAT:LANE_DEFICIT:";
+    // 사용자별 입장 만료 시각을 score로 갖는 ZSET
+    private static final String PROCESSING_SET_PREFIX = "ZSET:PROCESSING:";
+    // 처리열을 가진 공연 ID 목록
+    private static final String ACTIVE_CONCERTS_KEY = "SET:ACTIVE_CONCERTS";
+    // 리더 서버가 매 틱 발행하는 순번 스냅샷 (user -> rank 해시)
+    private static final String POSITION_SNAPSHOT_PREFIX = "SNAPSHOT:POSITION:";
+    // 순번 스냅샷을 만들 리더 서버 선출용 리스
+    private static final String POSITION_SNAPSHOT_LEASE_PREFIX = "LEASE:POSITION:";
+    // 대기자별 마지막 연결 확인 시각을 score로 갖는 ZSET
+    private static final String PRESENCE_PREFIX = "ZSET:PRESENCE:";
+    // 연결 확인 대상 대기자가 있는 공연 ID 목록
+    private static final String PRESENCE_CONCERTS_KEY = "SET:PRESENCE_CONCERTS";
+    // 공연별 처리열 최대 인원 (구매 지연에 따라 조정)
+    private static final String PROCESSING_LIMIT_PREFIX = "STAT:PROCESSING_LIMIT:";
+    // 전체 입장 예산 중 공연별 몫
+    private static final String PROCESSING_SHARE_PREFIX = "STAT:PROCESSING_SHARE:";
+    // 예산 몫이 배분된 공연 ID 목록
+    private static final String PROCESSING_SHARE_CONCERTS_KEY = "SET:PROCESSING_SHARE_CONCERTS";
+    // 서버별 구매 경로 상태 보고 (nodeId -> 보고 시각, p95, 커넥션 대기 수, 구매 건수)
+    private static final String PURCHASE_HEALTH_KEY = "STAT:PURCHASE_HEALTH";
+    // 공연별 입장 처리를 맡을 리더 서버 선출용 리스
+    private static final String ADMISSION_LEASE_PREFIX = "LEASE:ADMISSION:";
+    // 오픈 전 추첨 응모자 목록 (lane:userId)
+    private static final String LOTTERY_ENTRIES_PREFIX = "SET:LOTTERY:";
+    // 추첨이 남아 있는 공연 ID 목록
+    private static final String LOTTERY_CONCERTS_KEY = "SET:LOTTERY_CONCERTS";
+
+    private static final String LOTTERY_DRAWING_PREFIX = "SET:LOTTERY_DRAWING:";
+    // 공연별 사용자 SSE 연결을 가진 서버 (userId -> nodeId 해시)
+    private static final String CONNECTION_OWNER_PREFIX = "HASH:CONNECTION:";
+    // 연결 소유 서버를 모르는 입장 메시지 (서버마다 consumer group을 가진다)
+    private static final String ENTER_STREAM_KEY = "STREAM:ENTER";
+    // 서버별 입장 메시지
+    private static final String NODE_ENTER_STREAM_PREFIX = "STREAM:ENTER:";
+    // 클러스터 전체 누적 입장 인원 (입장 속도 추정용)
+    private static final String ADMITTED_COUNT_PREFIX = "STAT:ADMITTED:";
 
     public static String waitingQueue(Long concertId) {
         return WAITING_QUEUE_PREFIX + concertId;
     }
 
+    public static String waitingQueueLane(Long concertId, String lane) {
+        return WAITING_QUEUE_PREFIX + concertId + ":" + lane;
+    }
+
+    public static String laneDeficit(Long concertId) {
+        return LANE_DEFICIT_PREFIX + concertId;
+    }
+
     public static String processingSet(Long concertId) {
         return PROCESSING_SET_PREFIX + concertId;
     }
+
+    public static String activeConcerts() {
+        return ACTIVE_CONCERTS_KEY;
+    }
+
+    public static String positionSnapshot(Long concertId, long version) {
+        return POSITION_SNAPSHOT_PREFIX + concertId + ":" + version;
+    }
+
+    public static String positionSnapshotVersion(Long concertId) {
+        return POSITION_SNAPSHOT_PREFIX + concertId + ":VERSION";
+    }
+
+    public static String positionSnapshotLease(Long concertId) {
+        return POSITION_SNAPSHOT_LEASE_PREFIX + concertId;
+    }
+
+    public static String presence(Long concertId) {
+        return PRESENCE_PREFIX + concertId;
+    }
+
+    public static String presenceConcerts() {
+        return PRESENCE_CONCERTS_KEY;
+    }
+
+    public static String processingLimit(Long concertId) {
+        return PROCESSING_LIMIT_PREFIX + concertId;
+    }
+
+    public static String processingShare(Long concertId) {
+        return PROCESSING_SHARE_PREFIX + concertId;
+    }
+
+    public static String processingShareConcerts() {
+        return PROCESSING_SHARE_CONCERTS_KEY;
+    }
+
+    public static String purchaseHealth() {
+        return PURCHASE_HEALTH_KEY;
+    }
+
+    public static String admissionLease(Long concertId) {
+        return ADMISSION_LEASE_PREFIX + concertId;
+    }
+
+    public static String admittedCount(Long concertId) {
+        return ADMITTED_COUNT_PREFIX + concertId;
+    }
+
+    public static String lotteryEntries(Long concertId) {
+        return LOTTERY_ENTRIES_PREFIX + concertId;
+    }
+
+    public static String lotteryConcerts() {
+        return LOTTERY_CONCERTS_KEY;
+    }
+
+    public static String lotteryDrawing(Long concertId) {
+        return LOTTERY_DRAWING_PREFIX + concertId;
+    }
+
+    public static String connectionOwners(Long concertId) {
+        return CONNECTION_OWNER_PREFIX + concertId;
+    }
+
+    public static String enterStream() {
+        return ENTER_STREAM_KEY;
+    }
+
+    public static String nodeEnterStream(String nodeId) {
+        return NODE_ENTER_STREAM_PREFIX + nodeId;
+    }
 }
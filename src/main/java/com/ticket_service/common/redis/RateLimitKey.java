@@ -0,0 +1,14 @@
+package com.ticket_service.common.redis;
+
+public class RateLimitKey {
+    // GCRA 이론상 도착 시각(TAT). 요청 주체별로 하나씩 존재한다.
+    private static final String RATE_LIMIT_PREFIX = "RATE:";
+
+    public static String user(String scope, Long concertId, String userId) {
+        return RATE_LIMIT_PREFIX + scope + ":" + concertId + ":USER:" + userId;
+    }
+
+    public static String ip(String scope, Long concertId, String ip) {
+        return RATE_LIMIT_PREFIX + scope + ":" + concertId + ":IP:" + ip;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ticket_service.common.redis;
+
+import com.ticket_service.common.node.NodeIdentity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 짧은 TTL을 가진 Redis 리스로 클러스터에서 한 서버만 작업을 수행하도록 한다.
+ * 보유 중인 리스는 다시 획득할 때 연장되므로, 리더 서버가 살아있는 동안 리더가 유지된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLease {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) " +
+            "if owner == ARGV[1] then " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "  return 1 " +
+            "end " +
+            "if owner then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    /**
+     * 리스를 획득하거나, 이미 보유 중이면 연장한다.
+     *
+     * @return 현재 서버가 리스를 보유하면 true
+     */
+    public boolean tryAcquire(String key, Duration leaseTime) {
+        Long result = queueRedisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(key),
+                nodeIdentity.getNodeId(),
+                String.valueOf(leaseTime.toMillis())
+        );
+        return result != null && result == 1L;
+    }
+}
@@ -1,17 +1,35 @@
 package com.ticket_service.common.redis;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisPubSubConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${redis.pubsub.virtual-threads.max-concurrency:500}")
+    private int maxListenerConcurrency;
+
+    /**
+     * 가상 스레드 모드에서는 메시지 처리도 가상 스레드에서 수행한다.
+     * 동시 처리 수가 한도에 도달하면 구독 스레드가 대기하므로, 처리가 밀리면 Redis 수신도 함께 늦춰진다.
+     */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory queueRedisConnectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(queueRedisConnectionFactory);
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-sub-vt-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxListenerConcurrency);
+            container.setTaskExecutor(executor);
+        }
         return container;
     }
 }
@@ -85,4 +85,29 @@ public class RedissonLockTemplate {
             }
         }
     }
+
+    /**
+     * 락을 기다리지 않는다. 다른 곳에서 락을 보유 중이면 작업 없이 whenBusy를 반환한다.
+     */
+    public <T> T tryExecuteWithLock(String key, Supplier<T> action, T whenBusy) {
+        RLock lock = redissonClient.getLock(key);
+        boolean locked = false;
+
+        try {
+            locked = lock.tryLock(0, leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+
+            if (!locked) {
+                return whenBusy;
+            }
+
+            return action.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return whenBusy;
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
 }
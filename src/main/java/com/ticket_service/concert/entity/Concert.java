@@ -1,6 +1,8 @@
 package com.ticket_service.concert.entity;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -25,10 +27,14 @@ public class Concert {
 
     private LocalDateTime closeAt;
 
+    @Enumerated(EnumType.STRING)
+    private QueueMode queueMode;
+
     @Builder
-    public Concert(String title, LocalDateTime openAt, LocalDateTime closeAt) {
+    public Concert(String title, LocalDateTime openAt, LocalDateTime closeAt, QueueMode queueMode) {
         this.title = title;
         this.openAt = openAt;
         this.closeAt = closeAt;
+        this.queueMode = queueMode != null ? queueMode : QueueMode.FIFO;
     }
 }
@@ -0,0 +1,8 @@
+package com.ticket_service.concert.entity;
+
+public enum QueueMode {
+    // 요청 순서대로 대기열에 등록
+    FIFO,
+    // 오픈 전 응모자를 오픈 시각에 무작위 순서로 한 번에 등록
+    LOTTERY
+}
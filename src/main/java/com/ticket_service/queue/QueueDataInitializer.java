@@ -17,7 +17,10 @@ import java.util.Set;
 public class QueueDataInitializer implements ApplicationRunner {
 
     private static final String WAITING_QUEUE_PATTERN = "QUEUE:WAITING:*";
-    private static final String PROCESSING_SET_PATTERN = "SET:PROCESSING:*";
+    private static final String PROCESSING_SET_PATTERN = "ZSET:PROCESSING:*";
+    private static final String PRESENCE_PATTERN = "ZSET:PRESENCE:*";
+    private static final String LOTTERY_PATTERN = "SET:LOTTERY*";
+    private static final String CONNECTION_OWNER_PATTERN = "HASH:CONNECTION:*";
 
     private final RedisTemplate<String, String> queueRedisTemplate;
 
@@ -31,6 +34,9 @@ public class QueueDataInitializer implements ApplicationRunner {
 
         deletedCount += deleteKeysByPattern(WAITING_QUEUE_PATTERN);
         deletedCount += deleteKeysByPattern(PROCESSING_SET_PATTERN);
+        deletedCount += deleteKeysByPattern(PRESENCE_PATTERN);
+        deletedCount += deleteKeysByPattern(LOTTERY_PATTERN);
+        deletedCount += deleteKeysByPattern(CONNECTION_OWNER_PATTERN);
 
         log.info("Queue data initialized. Deleted {} keys.", deletedCount);
     }
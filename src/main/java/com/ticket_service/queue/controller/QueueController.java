@@ -1,14 +1,19 @@
 package com.ticket_service.queue.controller;
 
 import com.ticket_service.common.dto.ApiResponse;
+import com.ticket_service.common.ratelimit.RateLimitScope;
+import com.ticket_service.common.ratelimit.RateLimiter;
 import com.ticket_service.queue.controller.dto.QueueEnterRequest;
+import com.ticket_service.queue.service.QueueLanes;
 import com.ticket_service.queue.service.QueueOrchestrationService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,11 +25,17 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class QueueController {
 
     private final QueueOrchestrationService queueOrchestrationService;
+    private final QueueLanes queueLanes;
+    private final RateLimiter rateLimiter;
 
-    /** 대기열 등록 + SSE 구독 */
+    /** 대기열 등록 + SSE 구독 (재연결 시 Last-Event-ID로 기존 상태를 이어받는다) */
     @PostMapping(value = "/{concertId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@PathVariable Long concertId, @RequestBody QueueEnterRequest request) {
-        return queueOrchestrationService.registerAndSubscribe(concertId, request.getUserId());
+    public SseEmitter subscribe(@PathVariable Long concertId,
+                                @RequestBody QueueEnterRequest request,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                HttpServletRequest servletRequest) {
+        rateLimiter.check(RateLimitScope.SUBSCRIBE, concertId, request.getUserId(), servletRequest.getRemoteAddr());
+        return queueOrchestrationService.registerAndSubscribe(concertId, request.getUserId(), queueLanes.resolve(request.getLane()), lastEventId);
     }
 
     /** 대기열 취소 */
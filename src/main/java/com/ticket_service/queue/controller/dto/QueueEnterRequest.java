@@ -5,8 +5,11 @@ import lombok.Getter;
 @Getter
 public class QueueEnterRequest {
     private final String userId;
+    // 대기열 레인 (없으면 기본 레인)
+    private final String lane;
 
-    public QueueEnterRequest(String userId) {
+    public QueueEnterRequest(String userId, String lane) {
         this.userId = userId;
+        this.lane = lane;
     }
 }
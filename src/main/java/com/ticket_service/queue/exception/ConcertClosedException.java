@@ -0,0 +1,7 @@
+package com.ticket_service.queue.exception;
+
+public class ConcertClosedException extends RuntimeException {
+    public ConcertClosedException(String message) {
+        super(message);
+    }
+}
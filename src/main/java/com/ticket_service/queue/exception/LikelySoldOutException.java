@@ -0,0 +1,7 @@
+package com.ticket_service.queue.exception;
+
+public class LikelySoldOutException extends RuntimeException {
+    public LikelySoldOutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ticket_service.queue.exception;
+
+public class NodeDrainingException extends RuntimeException {
+    public NodeDrainingException(String message) {
+        super(message);
+    }
+}
@@ -4,7 +4,9 @@ import com.ticket_service.common.dto.ApiResponse;
 import com.ticket_service.common.metrics.QueueMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -44,4 +46,33 @@ public class QueueExceptionHandler {
         log.warn("Queue full: {}", e.getMessage());
         return ApiResponse.of(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null);
     }
+
+    @ExceptionHandler(LikelySoldOutException.class)
+    @ResponseStatus(HttpStatus.GONE)
+    public ApiResponse<Void> handleLikelySoldOut(LikelySoldOutException e) {
+        log.debug("Likely sold out: {}", e.getMessage());
+        return ApiResponse.of(HttpStatus.GONE, e.getMessage(), null);
+    }
+
+    @ExceptionHandler(ConcertClosedException.class)
+    @ResponseStatus(HttpStatus.GONE)
+    public ApiResponse<Void> handleConcertClosed(ConcertClosedException e) {
+        log.debug("Concert closed: {}", e.getMessage());
+        return ApiResponse.of(HttpStatus.GONE, e.getMessage(), null);
+    }
+
+    @ExceptionHandler(NodeDrainingException.class)
+    public ResponseEntity<ApiResponse<Void>> handleNodeDraining(NodeDrainingException e) {
+        log.debug("Node draining: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.of(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null));
+    }
+
+    @ExceptionHandler(UnknownQueueLaneException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiResponse<Void> handleUnknownQueueLane(UnknownQueueLaneException e) {
+        log.debug("Unknown queue lane: {}", e.getMessage());
+        return ApiResponse.of(HttpStatus.BAD_REQUEST, e.getMessage(), null);
+    }
 }
@@ -0,0 +1,7 @@
+package com.ticket_service.queue.exception;
+
+public class UnknownQueueLaneException extends RuntimeException {
+    public UnknownQueueLaneException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,128 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.redis.QueueKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연별 처리열 최대 인원 (클러스터 공용)
+ * ProcessingLimitController가 값을 조정하고, 각 서버는 짧은 시간 동안 캐시해서 읽는다.
+ *
+ * - 적응형 한도: 구매 경로 상태에 따라 AIMD로 조정된 값. 조정된 적이 없으면 queue.max-processing-count
+ * - 예산 몫: 전체 입장 예산을 공연별 수요에 따라 나눈 값. 배분된 적이 없거나 예산을 쓰지 않으면(total=0) 제한 없음
+ *   수요 목록에서 빠진 공연의 몫은 다음 배분 때 지우므로, 수요가 사라진 공연에 예전 몫이 남아 적용되지 않는다.
+ *
+ * 실제 한도는 둘 중 작은 값이다.
+ */
+@Component
+public class AdaptiveProcessingLimit {
+
+    private static final Duration LIMIT_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final QueueMetrics queueMetrics;
+    private final int initialLimit;
+    private final boolean budgetEnabled;
+    private final long cacheTtlMillis;
+    private final ConcurrentHashMap<Long, CachedLimit> cache = new ConcurrentHashMap<>();
+
+    public AdaptiveProcessingLimit(RedisTemplate<String, String> queueRedisTemplate,
+                                   QueueMetrics queueMetrics,
+                                   @Value("${queue.max-processing-count:100}") int initialLimit,
+                                   @Value("${queue.global-budget.total:0}") int globalBudget,
+                                   @Value("${queue.adaptive-limit.cache-ttl:1s}") Duration cacheTtl) {
+        this.queueRedisTemplate = queueRedisTemplate;
+        this.queueMetrics = queueMetrics;
+        this.initialLimit = initialLimit;
+        this.budgetEnabled = globalBudget > 0;
+        this.cacheTtlMillis = cacheTtl.toMillis();
+    }
+
+    /**
+     * @return 적응형 한도와 예산 몫 중 작은 값
+     */
+    public int get(Long concertId) {
+        CachedLimit cached = fetch(concertId);
+        return Math.min(cached.limit(), cached.share());
+    }
+
+    public int getAdaptiveLimit(Long concertId) {
+        return fetch(concertId).limit();
+    }
+
+    public void update(Long concertId, int limit) {
+        queueRedisTemplate.opsForValue().set(QueueKey.processingLimit(concertId), Integer.toString(limit), LIMIT_TTL);
+        cache.computeIfPresent(concertId, (id, cached) -> new CachedLimit(limit, cached.share(), cached.fetchedAt()));
+        queueMetrics.recordProcessingLimit(concertId, limit);
+    }
+
+    /**
+     * 이번 배분 결과로 공연별 몫을 교체한다. 이전에 몫이 있었지만 이번 결과에 없는 공연의 몫은 지운다.
+     * 예산을 쓰지 않으면 빈 결과로 호출해 남아 있던 몫을 모두 지운다.
+     */
+    public void updateShares(Map<Long, Integer> shares) {
+        Set<String> previous = queueRedisTemplate.opsForSet().members(QueueKey.processingShareConcerts());
+        if (previous != null) {
+            List<String> staleKeys = new ArrayList<>();
+            for (String member : previous) {
+                Long concertId = Long.parseLong(member);
+                if (!shares.containsKey(concertId)) {
+                    staleKeys.add(QueueKey.processingShare(concertId));
+                    cache.computeIfPresent(concertId, (id, cached) -> new CachedLimit(cached.limit(), Integer.MAX_VALUE, cached.fetchedAt()));
+                }
+            }
+            if (!staleKeys.isEmpty()) {
+                queueRedisTemplate.delete(staleKeys);
+            }
+        }
+
+        shares.forEach(this::updateShare);
+        queueRedisTemplate.delete(QueueKey.processingShareConcerts());
+        if (!shares.isEmpty()) {
+            String[] members = shares.keySet().stream().map(String::valueOf).toArray(String[]::new);
+            queueRedisTemplate.opsForSet().add(QueueKey.processingShareConcerts(), members);
+            queueRedisTemplate.expire(QueueKey.processingShareConcerts(), LIMIT_TTL);
+        }
+    }
+
+    private void updateShare(Long concertId, int share) {
+        queueRedisTemplate.opsForValue().set(QueueKey.processingShare(concertId), Integer.toString(share), LIMIT_TTL);
+        cache.computeIfPresent(concertId, (id, cached) -> new CachedLimit(cached.limit(), share, cached.fetchedAt()));
+        queueMetrics.recordProcessingShare(concertId, share);
+    }
+
+    private CachedLimit fetch(Long concertId) {
+        long now = System.currentTimeMillis();
+        CachedLimit cached = cache.get(concertId);
+        if (cached != null && now - cached.fetchedAt() < cacheTtlMillis) {
+            return cached;
+        }
+
+        List<String> values = queueRedisTemplate.opsForValue().multiGet(
+                List.of(QueueKey.processingLimit(concertId), QueueKey.processingShare(concertId)));
+        String limit = values != null ? values.get(0) : null;
+        // 예산을 쓰지 않도록 바뀐 뒤에는 지워지기 전의 몫이 남아 있어도 무시한다
+        String share = budgetEnabled && values != null ? values.get(1) : null;
+
+        CachedLimit fetched = new CachedLimit(
+                limit != null ? Integer.parseInt(limit) : initialLimit,
+                share != null ? Integer.parseInt(share) : Integer.MAX_VALUE,
+                now
+        );
+        cache.put(concertId, fetched);
+        queueMetrics.recordProcessingLimit(concertId, fetched.limit());
+        return fetched;
+    }
+
+    private record CachedLimit(int limit, int share, long fetchedAt) {
+    }
+}
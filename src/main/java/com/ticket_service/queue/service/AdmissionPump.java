@@ -0,0 +1,142 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.config.SchedulingConfig;
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.common.redis.RedisLease;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 → 처리열 입장 처리
+ * 공연별로 리스를 획득한 한 서버만 입장을 처리하므로 입장 락 경합이 없다.
+ *
+ * 1. 주기 실행: 대기자가 있는 모든 공연을 일정 간격으로 입장 처리
+ * 2. 신호 실행: 구매 완료/취소/만료로 자리가 비면 요청 스레드는 신호만 보내고,
+ *    리더 서버는 다음 틱에 해당 공연을 바로 입장 처리한다.
+ *
+ * 신호는 Pub/Sub으로 모든 서버에 전달되며, 리더가 아닌 서버에서는 리스 확인 후 무시된다.
+ */
+@Slf4j
+@Component
+public class AdmissionPump implements MessageListener {
+
+    public static final String ADMISSION_SIGNAL_CHANNEL = "queue:admission";
+
+    private final QueueService queueService;
+    private final QueueEventPublisher queueEventPublisher;
+    private final WaitingPresence waitingPresence;
+    private final RedisLease redisLease;
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final NodeDrain nodeDrain;
+
+    private final long intervalMillis;
+    private final Duration leaseTime;
+    private final Set<Long> signalledConcertIds = ConcurrentHashMap.newKeySet();
+    private long lastFullRunAt;
+
+    public AdmissionPump(QueueService queueService,
+                         QueueEventPublisher queueEventPublisher,
+                         WaitingPresence waitingPresence,
+                         RedisLease redisLease,
+                         RedisTemplate<String, String> queueRedisTemplate,
+                         RedisMessageListenerContainer redisMessageListenerContainer,
+                         NodeDrain nodeDrain,
+                         @Value("${queue.admission.interval:500ms}") Duration interval) {
+        this.queueService = queueService;
+        this.queueEventPublisher = queueEventPublisher;
+        this.waitingPresence = waitingPresence;
+        this.redisLease = redisLease;
+        this.queueRedisTemplate = queueRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.nodeDrain = nodeDrain;
+        this.intervalMillis = interval.toMillis();
+        // 리더가 몇 주기 동안 응답이 없을 때만 다른 서버가 넘겨받는다
+        this.leaseTime = interval.multipliedBy(4);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ADMISSION_SIGNAL_CHANNEL));
+        log.info("Redis Pub/Sub 구독 시작: channel={}", ADMISSION_SIGNAL_CHANNEL);
+    }
+
+    /**
+     * 처리열에 자리가 생겼음을 알린다. 요청 스레드에서 락 없이 호출된다.
+     */
+    public void signal(Long concertId) {
+        signalledConcertIds.add(concertId);
+        queueRedisTemplate.convertAndSend(ADMISSION_SIGNAL_CHANNEL, String.valueOf(concertId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            signalledConcertIds.add(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 입장 신호: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 종료 중인 서버는 입장 처리를 하지 않는다. 리스가 만료되면 다른 서버가 이어받는다.
+     * 전용 스케줄러에서 실행되므로 다른 @Scheduled 작업과 스레드를 나눠 쓰지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${queue.admission.tick:100ms}", scheduler = SchedulingConfig.ADMISSION_SCHEDULER)
+    public void pump() {
+        if (nodeDrain.isDraining()) {
+            return;
+        }
+        for (Long concertId : drainDueConcerts(System.currentTimeMillis())) {
+            try {
+                if (redisLease.tryAcquire(QueueKey.admissionLease(concertId), leaseTime)) {
+                    admit(concertId);
+                }
+            } catch (Exception e) {
+                log.warn("입장 처리 실패: concertId={}", concertId, e);
+            }
+        }
+    }
+
+    private Set<Long> drainDueConcerts(long now) {
+        Set<Long> concertIds = new HashSet<>();
+        for (Long concertId : signalledConcertIds) {
+            signalledConcertIds.remove(concertId);
+            concertIds.add(concertId);
+        }
+
+        if (now - lastFullRunAt >= intervalMillis) {
+            lastFullRunAt = now;
+            concertIds.addAll(waitingPresence.getConcertIds());
+        }
+        return concertIds;
+    }
+
+    /**
+     * 남은 자리만큼 한 번에 입장시키고 입장한 사용자 전체를 하나의 Redis Pub/Sub 메시지로 발행한다.
+     * 각 서버의 QueueEventSubscriber가 메시지를 받아 자신에게 연결된 사용자에게만 SSE를 전송한다.
+     */
+    private void admit(Long concertId) {
+        List<String> enteredUsers = queueService.permitProcessing(concertId);
+        if (enteredUsers.isEmpty()) {
+            return;
+        }
+        queueEventPublisher.publishEnterEvents(concertId, enteredUsers);
+        log.debug("입장 처리: concertId={}, count={}", concertId, enteredUsers.size());
+    }
+}
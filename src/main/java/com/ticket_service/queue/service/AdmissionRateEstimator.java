@@ -0,0 +1,97 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연별 입장 속도(명/초)를 지수이동평균으로 추정하고 예상 대기 시간을 계산한다.
+ * 입장 속도는 클러스터 전체 누적 입장 인원의 증가량으로 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionRateEstimator {
+
+    // 이 속도보다 느리면 예상 시간을 제공하지 않는다
+    private static final double MIN_RATE_PER_SECOND = 0.01;
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final Map<Long, RateState> states = new ConcurrentHashMap<>();
+
+    @Value("${queue.eta.smoothing:0.3}")
+    private double smoothing;
+
+    @Value("${queue.eta.granularity:10s}")
+    private Duration granularity;
+
+    /**
+     * 누적 입장 인원을 읽어 입장 속도를 갱신한다. 순번 브로드캐스트 틱마다 호출한다.
+     *
+     * @return 갱신된 입장 속도 (명/초)
+     */
+    public double update(Long concertId) {
+        String value = queueRedisTemplate.opsForValue().get(QueueKey.admittedCount(concertId));
+        long admitted = value != null ? Long.parseLong(value) : 0L;
+        long now = System.currentTimeMillis();
+
+        RateState state = states.computeIfAbsent(concertId, id -> new RateState(admitted, now));
+        return state.update(admitted, now, smoothing);
+    }
+
+    /**
+     * 마지막으로 추정한 입장 속도로 예상 대기 시간을 계산한다.
+     * 클라이언트 표시와 프레임 캐시 재사용을 위해 granularity 단위로 올림한다.
+     *
+     * @return 예상 대기 시간(초), 입장 속도를 아직 모르거나 대기열이 멈춰있으면 null
+     */
+    public Long estimateWaitSeconds(Long concertId, long position) {
+        RateState state = states.get(concertId);
+        if (state == null) {
+            return null;
+        }
+
+        double rate = state.getRate();
+        if (rate < MIN_RATE_PER_SECOND) {
+            return null;
+        }
+
+        long seconds = (long) Math.ceil((position + 1) / rate);
+        long step = Math.max(granularity.toSeconds(), 1L);
+        return ((seconds + step - 1) / step) * step;
+    }
+
+    private static class RateState {
+
+        private long lastAdmitted;
+        private long lastSampledAt;
+        private double rate;
+
+        RateState(long admitted, long sampledAt) {
+            this.lastAdmitted = admitted;
+            this.lastSampledAt = sampledAt;
+        }
+
+        synchronized double update(long admitted, long now, double smoothing) {
+            long elapsedMs = now - lastSampledAt;
+            if (elapsedMs < 1000) {
+                return rate;
+            }
+
+            double sample = Math.max(admitted - lastAdmitted, 0L) * 1000.0 / elapsedMs;
+            rate = rate == 0.0 ? sample : smoothing * sample + (1 - smoothing) * rate;
+            lastAdmitted = admitted;
+            lastSampledAt = now;
+            return rate;
+        }
+
+        synchronized double getRate() {
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.concert.entity.Concert;
+import com.ticket_service.concert.entity.QueueMode;
+import com.ticket_service.concert.repository.ConcertRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연별 대기열 방식과 오픈/종료 시각
+ * 구독 요청마다 DB를 조회하지 않도록 서버별로 캐시한다.
+ * 오픈/종료 여부는 캐시한 시각과 현재 시각을 매번 비교하므로 캐시 TTL과 관계없이 정확히 바뀐다.
+ */
+@Component
+public class ConcertSchedule {
+
+    private final ConcertRepository concertRepository;
+    private final long cacheTtlMillis;
+    private final ConcurrentHashMap<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    public ConcertSchedule(ConcertRepository concertRepository,
+                           @Value("${queue.schedule-cache-ttl:10s}") Duration cacheTtl) {
+        this.concertRepository = concertRepository;
+        this.cacheTtlMillis = cacheTtl.toMillis();
+    }
+
+    /**
+     * @return 오픈 시각이 정해져 있고 아직 오픈 전이면 true
+     */
+    public boolean isBeforeOpen(Long concertId, long now) {
+        return now < get(concertId, now).openAtMillis();
+    }
+
+    /**
+     * @return 종료 시각이 정해져 있고 이미 지났으면 true
+     */
+    public boolean isClosed(Long concertId, long now) {
+        long closeAtMillis = get(concertId, now).closeAtMillis();
+        return closeAtMillis > 0 && now >= closeAtMillis;
+    }
+
+    /**
+     * @return 추첨 방식 공연이고 아직 오픈 전이면 true
+     */
+    public boolean isBeforeLotteryDraw(Long concertId, long now) {
+        Entry entry = get(concertId, now);
+        return entry.mode() == QueueMode.LOTTERY && now < entry.openAtMillis();
+    }
+
+    /**
+     * @return 오픈 시각(epoch ms). 오픈 시각이 없으면 0
+     */
+    public long getOpenAtMillis(Long concertId, long now) {
+        return get(concertId, now).openAtMillis();
+    }
+
+    private Entry get(Long concertId, long now) {
+        Entry cached = cache.get(concertId);
+        if (cached != null && now - cached.fetchedAt() < cacheTtlMillis) {
+            return cached;
+        }
+
+        Entry entry = concertRepository.findById(concertId)
+                .map(concert -> toEntry(concert, now))
+                .orElseGet(() -> new Entry(QueueMode.FIFO, 0L, 0L, now));
+        cache.put(concertId, entry);
+        return entry;
+    }
+
+    private static Entry toEntry(Concert concert, long now) {
+        return new Entry(concert.getQueueMode(), toMillis(concert.getOpenAt()), toMillis(concert.getCloseAt()), now);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    private record Entry(QueueMode mode, long openAtMillis, long closeAtMillis, long fetchedAt) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.node.NodeIdentity;
+import com.ticket_service.common.redis.QueueKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 사용자의 SSE 연결을 가진 서버 (클러스터 공용, userId -> nodeId 해시)
+ * 입장 이벤트를 모든 서버에 보내지 않고 연결을 가진 서버에만 보내기 위해 사용한다.
+ * 다른 서버로 재연결하면 그 서버가 덮어쓰며, 기록이 없거나 오래된 경우에도 해당 서버가 무시할 뿐 이벤트가 잘못 전달되지는 않는다.
+ * 구독이 이어지는 동안 해시 전체의 TTL이 계속 연장되므로, 입장 이벤트 전달/입장 시간 만료/유령 사용자 제거/취소 시점에 각 사용자의 기록을 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionOwnership {
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    // 연결은 이 시간이 지나면 끊기므로, 그 동안 새 연결이 없던 공연의 기록은 쓸모가 없다
+    @Value("${queue.sse-timeout}")
+    private Duration sseTimeout;
+
+    /**
+     * 현재 서버를 사용자 연결의 소유자로 기록한다.
+     */
+    public void claim(Long concertId, String userId) {
+        byte[] rawKey = raw(QueueKey.connectionOwners(concertId));
+        byte[] rawUserId = raw(userId);
+        byte[] rawNodeId = raw(nodeIdentity.getNodeId());
+        queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hSet(rawKey, rawUserId, rawNodeId);
+            connection.keyCommands().pExpire(rawKey, sseTimeout.toMillis());
+            return null;
+        });
+    }
+
+    public void release(Long concertId, String userId) {
+        queueRedisTemplate.opsForHash().delete(QueueKey.connectionOwners(concertId), userId);
+    }
+
+    /**
+     * 여러 사용자의 기록을 한 번의 HDEL로 지운다.
+     */
+    public void release(Long concertId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        queueRedisTemplate.opsForHash().delete(QueueKey.connectionOwners(concertId), userIds.toArray());
+    }
+
+    /**
+     * @return 사용자 순서대로의 소유 서버 id (기록이 없으면 null)
+     */
+    public List<String> owners(Long concertId, List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> values = queueRedisTemplate.opsForHash()
+                .multiGet(QueueKey.connectionOwners(concertId), new ArrayList<>(userIds));
+        List<String> owners = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Object value = values != null && i < values.size() ? values.get(i) : null;
+            owners.add(value != null ? value.toString() : null);
+        }
+        return owners;
+    }
+
+    public boolean isLocal(String nodeId) {
+        return nodeIdentity.getNodeId().equals(nodeId);
+    }
+
+    public String getLocalNodeId() {
+        return nodeIdentity.getNodeId();
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ticket_service.queue.service;
+
+import java.util.List;
+
+/**
+ * 같은 만료 시각으로 함께 입장한 사용자 묶음
+ */
+public record ExpiringSlot(Long concertId, List<String> userIds, long deadline) {
+}
@@ -0,0 +1,4 @@
+package com.ticket_service.queue.service;
+
+public record FanOutResult(int delivered, int dropped, long durationMs) {
+}
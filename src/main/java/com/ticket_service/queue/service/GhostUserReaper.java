@@ -0,0 +1,85 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.redis.LockKey;
+import com.ticket_service.common.redis.RedissonLockTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 연결이 끊긴 대기자(유령 사용자)를 대기열에서 제거한다.
+ * 탭을 닫은 사용자가 대기열에 남아 있으면 아무도 쓰지 않는 처리열 자리를 입장 시간 내내 차지하게 된다.
+ *
+ * 1. heartbeat: 각 서버가 자신에게 연결된 대기자의 확인 시각을 갱신
+ * 2. reap: 유예 시간 동안 어느 서버에서도 확인되지 않은 대기자를 제거 (한 서버만 수행)
+ *
+ * 유예 시간 안에 다시 구독한 사용자는 기존 순번을 유지한다.
+ * 오픈 전 공연의 연결은 대기실(PreOpenWaitingRoom) 또는 추첨 응모자이므로 확인 시각을 갱신하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GhostUserReaper {
+
+    private final SseEmitterService sseEmitterService;
+    private final WaitingPresence waitingPresence;
+    private final ConcertSchedule concertSchedule;
+    private final ConnectionOwnership connectionOwnership;
+    private final RedissonLockTemplate redissonLockTemplate;
+    private final QueueMetrics queueMetrics;
+
+    @Value("${queue.presence.grace-period:60s}")
+    private Duration gracePeriod;
+
+    @Value("${queue.presence.reap-batch-size:500}")
+    private int reapBatchSize;
+
+    @Scheduled(fixedDelayString = "${queue.presence.heartbeat-interval:10s}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Long concertId : sseEmitterService.getActiveConcertIds()) {
+            if (concertSchedule.isBeforeOpen(concertId, now)) {
+                continue;
+            }
+            try {
+                waitingPresence.touch(concertId, sseEmitterService.getConnectedUserIds(concertId), now);
+            } catch (Exception e) {
+                log.warn("대기자 연결 확인 갱신 실패: concertId={}", concertId, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${queue.presence.reap-interval:15s}")
+    public void reapGhostUsers() {
+        redissonLockTemplate.tryExecuteWithLock(LockKey.ghostSweep(), () -> {
+            long cutoff = System.currentTimeMillis() - gracePeriod.toMillis();
+            for (Long concertId : waitingPresence.getConcertIds()) {
+                try {
+                    reapConcert(concertId, cutoff);
+                } catch (Exception e) {
+                    log.warn("연결 끊긴 대기자 정리 실패: concertId={}", concertId, e);
+                }
+            }
+        });
+    }
+
+    private void reapConcert(Long concertId, long cutoff) {
+        WaitingPresence.ReapResult result;
+        int removedCount = 0;
+        do {
+            result = waitingPresence.reap(concertId, cutoff, reapBatchSize);
+            connectionOwnership.release(concertId, result.removedUserIds());
+            removedCount += result.removedUserIds().size();
+        } while (result.scanned() == reapBatchSize);
+
+        if (removedCount > 0) {
+            queueMetrics.incrementGhostRemoved(concertId, removedCount);
+            log.info("연결 끊긴 대기자 제거: concertId={}, count={}", concertId, removedCount);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.redis.LockKey;
+import com.ticket_service.common.redis.RedissonLockTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 추첨 방식 공연의 오픈 처리
+ * 오픈 시각이 지나면 한 서버가 응모자를 무작위 순서로 섞어 대기열에 한 번에 등록하고,
+ * 모든 서버가 자신에게 연결된 응모자에게 순번을 한 번에 전송한다.
+ *
+ * 오픈 순간 구독 요청이 몰리지 않으며, 오픈 전에 응모한 사용자는 접속 시각과 관계없이 공정한 순번을 받는다.
+ * 등록된 응모자는 연결 확인 시각을 오픈 시각으로 갱신하므로, 유예 시간 안에 접속하지 않으면 GhostUserReaper가 제거한다.
+ * 응모는 레인별 등록이 끝난 뒤에만 지우므로, 등록 도중 실패하면 남은 응모자는 다음 틱에 다시 추첨된다.
+ */
+@Slf4j
+@Component
+public class LotteryDraw implements MessageListener {
+
+    public static final String LOTTERY_DRAWN_CHANNEL = "queue:lottery";
+
+    private final LotteryRegistry lotteryRegistry;
+    private final ConcertSchedule concertSchedule;
+    private final WaitingQueue waitingQueue;
+    private final WaitingPresence waitingPresence;
+    private final AdmissionPump admissionPump;
+    private final QueuePositionBatchScheduler queuePositionBatchScheduler;
+    private final RedissonLockTemplate redissonLockTemplate;
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final QueueMetrics queueMetrics;
+    private final SseDispatcher sseDispatcher;
+
+    public LotteryDraw(LotteryRegistry lotteryRegistry,
+                       ConcertSchedule concertSchedule,
+                       WaitingQueue waitingQueue,
+                       WaitingPresence waitingPresence,
+                       AdmissionPump admissionPump,
+                       QueuePositionBatchScheduler queuePositionBatchScheduler,
+                       RedissonLockTemplate redissonLockTemplate,
+                       RedisTemplate<String, String> queueRedisTemplate,
+                       RedisMessageListenerContainer redisMessageListenerContainer,
+                       QueueMetrics queueMetrics,
+                       SseDispatcher sseDispatcher) {
+        this.lotteryRegistry = lotteryRegistry;
+        this.concertSchedule = concertSchedule;
+        this.waitingQueue = waitingQueue;
+        this.waitingPresence = waitingPresence;
+        this.admissionPump = admissionPump;
+        this.queuePositionBatchScheduler = queuePositionBatchScheduler;
+        this.redissonLockTemplate = redissonLockTemplate;
+        this.queueRedisTemplate = queueRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.queueMetrics = queueMetrics;
+        this.sseDispatcher = sseDispatcher;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(LOTTERY_DRAWN_CHANNEL));
+        log.info("Redis Pub/Sub 구독 시작: channel={}", LOTTERY_DRAWN_CHANNEL);
+    }
+
+    /**
+     * 오픈 시각이 지난 공연의 응모자를 대기열에 등록한다.
+     * 응모가 더 이상 남지 않은 공연은 추첨 대상 목록에서 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${queue.lottery.draw-check-interval:200ms}")
+    public void drawDueConcerts() {
+        long now = System.currentTimeMillis();
+        for (Long concertId : lotteryRegistry.getConcertIds()) {
+            if (concertSchedule.isBeforeLotteryDraw(concertId, now)) {
+                continue;
+            }
+
+            try {
+                redissonLockTemplate.tryExecuteWithLock(LockKey.lotteryDraw(concertId), () -> draw(concertId));
+            } catch (Exception e) {
+                log.warn("추첨 등록 실패: concertId={}", concertId, e);
+            }
+        }
+    }
+
+    /**
+     * 추첨이 끝났다는 신호를 받으면 이 서버에 연결된 응모자에게 순번을 바로 전송한다.
+     * 부하로 버려지면 다음 주기 브로드캐스트에서 전송된다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long concertId = Long.parseLong(body);
+            sseDispatcher.submitBestEffort("lottery-drawn", () -> queuePositionBatchScheduler.broadcastNow(concertId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 추첨 완료 신호: {}", body);
+        }
+    }
+
+    private void draw(Long concertId) {
+        List<LotteryRegistry.LotteryEntry> entries = lotteryRegistry.claim(concertId);
+        if (entries.isEmpty()) {
+            lotteryRegistry.complete(concertId);
+            return;
+        }
+
+        Collections.shuffle(entries, ThreadLocalRandom.current());
+        Map<String, LaneDraw> drawsByLane = groupByLane(entries);
+
+        // 모든 score를 오픈 시각 이전으로 두어, 오픈 후 추첨 전까지 들어온 일반 등록자보다도 항상 앞선다
+        long now = System.currentTimeMillis();
+        long openAtMillis = concertSchedule.getOpenAtMillis(concertId, now);
+        long baseScore = openAtMillis > 0 ? Math.min(openAtMillis, now) : now;
+        int drawnCount = 0;
+        for (Map.Entry<String, LaneDraw> lane : drawsByLane.entrySet()) {
+            List<String> userIds = lane.getValue().userIds();
+            waitingQueue.addAll(concertId, lane.getKey(), userIds, baseScore - userIds.size());
+            waitingPresence.touch(concertId, userIds, now);
+            lotteryRegistry.remove(concertId, lane.getValue().entries());
+            drawnCount += userIds.size();
+        }
+
+        queueMetrics.incrementLotteryDrawn(concertId, drawnCount);
+        log.info("추첨 등록 완료: concertId={}, count={}", concertId, drawnCount);
+
+        queueRedisTemplate.convertAndSend(LOTTERY_DRAWN_CHANNEL, String.valueOf(concertId));
+        admissionPump.signal(concertId);
+    }
+
+    /**
+     * 섞인 순서를 유지한 채 레인별로 나눈다. 여러 레인에 응모한 사용자는 먼저 뽑힌 레인에만 등록하고,
+     * 나머지 레인의 응모는 등록한 레인과 함께 지운다.
+     */
+    private static Map<String, LaneDraw> groupByLane(List<LotteryRegistry.LotteryEntry> entries) {
+        Map<String, String> laneByUser = new HashMap<>();
+        Map<String, LaneDraw> drawsByLane = new LinkedHashMap<>();
+        for (LotteryRegistry.LotteryEntry entry : entries) {
+            String lane = laneByUser.putIfAbsent(entry.userId(), entry.lane());
+            if (lane == null) {
+                lane = entry.lane();
+                drawsByLane.computeIfAbsent(lane, key -> new LaneDraw(new ArrayList<>(), new ArrayList<>()))
+                        .userIds().add(entry.userId());
+            }
+            drawsByLane.get(lane).entries().add(entry);
+        }
+        return drawsByLane;
+    }
+
+    private record LaneDraw(List<String> userIds, List<LotteryRegistry.LotteryEntry> entries) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 오픈 전 추첨 응모자 목록
+ * 응모는 SET에 추가만 하므로 대기열 등록(락, 중복/용량 검사)보다 훨씬 가볍다.
+ * 멤버는 "lane:userId" 형식이며, 레인 이름에는 ':'가 들어갈 수 없다. (QueueLanes 설정 형식)
+ *
+ * 추첨은 응모 목록을 추첨 중 목록으로 옮긴 뒤 읽고, 대기열 등록이 끝난 응모만 추첨 중 목록에서 지운다.
+ * 등록 도중 실패해도 남은 응모는 추첨 중 목록에 있으므로 다음 추첨에서 다시 읽힌다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LotteryRegistry {
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    // 새 응모를 이전 추첨에서 남은 응모와 합쳐 추첨 중 목록으로 옮긴다
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SUNIONSTORE', KEYS[2], KEYS[2], KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return redis.call('SCARD', KEYS[2])",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+
+    public void register(Long concertId, String userId, String lane) {
+        queueRedisTemplate.opsForSet().add(QueueKey.lotteryEntries(concertId), lane + ":" + userId);
+        queueRedisTemplate.opsForSet().add(QueueKey.lotteryConcerts(), String.valueOf(concertId));
+    }
+
+    /**
+     * 응모를 추첨 중 목록으로 옮긴 뒤 모두 읽는다. 옮기는 동안 들어온 응모는 다음 호출에서 읽힌다.
+     * 읽은 응모는 지우지 않으며, 대기열에 등록한 뒤 remove로 지운다.
+     */
+    public List<LotteryEntry> claim(Long concertId) {
+        String drawingKey = QueueKey.lotteryDrawing(concertId);
+        Long count = queueRedisTemplate.execute(CLAIM_SCRIPT, List.of(QueueKey.lotteryEntries(concertId), drawingKey));
+        if (count == null || count == 0) {
+            return new ArrayList<>();
+        }
+
+        List<LotteryEntry> entries = new ArrayList<>(count.intValue());
+        try (Cursor<String> cursor = queueRedisTemplate.opsForSet().scan(drawingKey, ScanOptions.scanOptions().count(SCAN_BATCH_SIZE).build())) {
+            while (cursor.hasNext()) {
+                String member = cursor.next();
+                int separator = member.indexOf(':');
+                entries.add(new LotteryEntry(member.substring(separator + 1), member.substring(0, separator)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 대기열에 등록한 응모를 추첨 중 목록에서 지운다.
+     */
+    public void remove(Long concertId, Collection<LotteryEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Object[] members = entries.stream()
+                .map(entry -> entry.lane() + ":" + entry.userId())
+                .toArray();
+        queueRedisTemplate.opsForSet().remove(QueueKey.lotteryDrawing(concertId), members);
+    }
+
+    /**
+     * 추첨이 끝난 공연을 목록에서 제거한다.
+     */
+    public void complete(Long concertId) {
+        queueRedisTemplate.opsForSet().remove(QueueKey.lotteryConcerts(), String.valueOf(concertId));
+    }
+
+    public Set<Long> getConcertIds() {
+        Set<String> members = queueRedisTemplate.opsForSet().members(QueueKey.lotteryConcerts());
+        if (members == null || members.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> concertIds = new HashSet<>();
+        for (String member : members) {
+            concertIds.add(Long.parseLong(member));
+        }
+        return concertIds;
+    }
+
+    public record LotteryEntry(String userId, String lane) {
+    }
+}
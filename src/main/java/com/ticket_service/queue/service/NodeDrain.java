@@ -0,0 +1,87 @@
+package com.ticket_service.queue.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 서버 종료 시 SSE 연결 넘기기
+ * 롤링 배포 중 한 서버의 연결이 한꺼번에 끊기면 모두 같은 순간에 다른 서버로 재접속한다.
+ * 종료가 시작되면 새 구독을 받지 않고, 연결된 대기자에게 무작위 대기 시간을 담은 재연결 이벤트를 보낸 뒤 연결을 닫는다.
+ *
+ * 대기자의 순번은 Redis에 남아 있으며, 연결 확인 시각을 갱신한 뒤 닫으므로 유예 시간 안에 다시 구독하면 순번을 이어간다.
+ * 이 단계는 웹 서버의 graceful shutdown보다 먼저 실행되어, 이후에는 진행 중인 구매 요청만 남는다.
+ * Redis/DB 커넥션 풀은 모든 lifecycle 단계가 끝난 뒤 빈 소멸 시 닫힌다.
+ */
+@Slf4j
+@Component
+public class NodeDrain implements SmartLifecycle {
+
+    // 웹 서버 graceful shutdown (DEFAULT_PHASE - 1024)보다 먼저 중지된다
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 512;
+
+    private final SseEmitterService sseEmitterService;
+    private final WaitingPresence waitingPresence;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long reconnectJitterMillis;
+
+    private volatile boolean running;
+    private volatile boolean draining;
+
+    public NodeDrain(SseEmitterService sseEmitterService,
+                     WaitingPresence waitingPresence,
+                     ApplicationEventPublisher eventPublisher,
+                     @Value("${queue.drain.reconnect-jitter:10s}") Duration reconnectJitter) {
+        this.sseEmitterService = sseEmitterService;
+        this.waitingPresence = waitingPresence;
+        this.eventPublisher = eventPublisher;
+        this.reconnectJitterMillis = reconnectJitter.toMillis();
+    }
+
+    /**
+     * @return 종료 중이라 새 구독과 입장 처리를 받지 않으면 true
+     */
+    public boolean isDraining() {
+        return draining;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        draining = true;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        long now = System.currentTimeMillis();
+        for (Long concertId : sseEmitterService.getActiveConcertIds()) {
+            try {
+                waitingPresence.touch(concertId, sseEmitterService.getConnectedUserIds(concertId), now);
+            } catch (Exception e) {
+                log.warn("종료 전 연결 확인 갱신 실패: concertId={}", concertId, e);
+            }
+        }
+
+        int reconnected = sseEmitterService.reconnectAll(reconnectJitterMillis);
+        log.info("SSE 연결 넘기기 완료: reconnected={}, jitterMs={}", reconnected, reconnectJitterMillis);
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,97 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.common.redis.RedisLease;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 전체가 공유하는 대기 순번 스냅샷
+ * 공연별로 리스를 획득한 한 서버만 대기열 전체를 읽고 user -> rank 해시를 새 버전으로 저장한다.
+ * 나머지 서버는 버전 포인터를 따라가 자신에게 연결된 사용자의 순번만 HMGET으로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PositionSnapshot {
+
+    private static final int READ_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final RedisLease redisLease;
+
+    @Value("${queue.position-broadcast-interval:5s}")
+    private Duration broadcastInterval;
+
+    public boolean tryAcquireLease(Long concertId) {
+        return redisLease.tryAcquire(QueueKey.positionSnapshotLease(concertId), snapshotTtl());
+    }
+
+    /**
+     * 전체 대기자의 순번으로 새 스냅샷을 저장한 뒤 버전 포인터를 교체한다.
+     * 포인터는 스냅샷 저장이 끝난 후에 바뀌므로 읽는 쪽은 항상 완성된 스냅샷만 본다.
+     *
+     * @return 전달받은 순번
+     */
+    public Map<String, Long> publish(Long concertId, Map<String, Long> positions) {
+        if (positions.isEmpty()) {
+            queueRedisTemplate.delete(QueueKey.positionSnapshotVersion(concertId));
+            return positions;
+        }
+
+        Map<String, String> encoded = new HashMap<>();
+        positions.forEach((userId, position) -> encoded.put(userId, Long.toString(position)));
+
+        long version = System.currentTimeMillis();
+        String snapshotKey = QueueKey.positionSnapshot(concertId, version);
+        queueRedisTemplate.opsForHash().putAll(snapshotKey, encoded);
+        // 포인터보다 늦게 만료되도록 한 틱만큼 여유를 둔다
+        queueRedisTemplate.expire(snapshotKey, snapshotTtl().plus(broadcastInterval).toMillis(), TimeUnit.MILLISECONDS);
+        queueRedisTemplate.opsForValue().set(QueueKey.positionSnapshotVersion(concertId), Long.toString(version), snapshotTtl());
+
+        return positions;
+    }
+
+    /**
+     * 최신 스냅샷에서 주어진 사용자들의 순번을 읽는다.
+     *
+     * @return 스냅샷이 없으면 null, 있으면 스냅샷에 존재하는 사용자의 순번
+     */
+    public Map<String, Long> read(Long concertId, List<String> userIds) {
+        String version = queueRedisTemplate.opsForValue().get(QueueKey.positionSnapshotVersion(concertId));
+        if (version == null) {
+            return null;
+        }
+
+        String snapshotKey = QueueKey.positionSnapshot(concertId, Long.parseLong(version));
+        HashOperations<String, String, String> hashOperations = queueRedisTemplate.opsForHash();
+        Map<String, Long> positions = new HashMap<>();
+
+        for (int from = 0; from < userIds.size(); from += READ_BATCH_SIZE) {
+            List<String> batch = userIds.subList(from, Math.min(from + READ_BATCH_SIZE, userIds.size()));
+            List<String> ranks = hashOperations.multiGet(snapshotKey, batch);
+            for (int i = 0; i < batch.size(); i++) {
+                String rank = ranks.get(i);
+                if (rank != null) {
+                    positions.put(batch.get(i), Long.parseLong(rank));
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * 리더는 매 틱 리스를 연장하고 발행하므로, 두 틱 동안 발행이 없을 때만 리스와 포인터가 만료되어 다른 서버가 이어받는다.
+     */
+    private Duration snapshotTtl() {
+        return broadcastInterval.multipliedBy(2);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ticket_service.queue.service;
+
+public record PositionUpdate(SseConnection connection, long position, Long estimatedWaitSeconds) {
+
+    public PositionUpdate(SseConnection connection, long position) {
+        this(connection, position, null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ticket_service.queue.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 순번 이벤트 전송 여부를 결정한다.
+ * 대기열 앞쪽 사용자는 순번이 바뀔 때마다, 뒤쪽 사용자는 구간별 주기가 지나고
+ * 순번이 의미 있게(절대값 또는 비율 기준) 줄었을 때만 전송한다.
+ * 작은 변화라도 max-silence 동안 알리지 못했다면 전송한다.
+ */
+@Component
+public class PositionUpdatePolicy {
+
+    private final long headRank;
+    private final long middleRank;
+    private final long middleIntervalMs;
+    private final long tailIntervalMs;
+    private final long minAbsoluteChange;
+    private final double minRelativeChange;
+    private final long maxSilenceMs;
+
+    public PositionUpdatePolicy(@Value("${queue.position-update.head-rank:1000}") long headRank,
+                                @Value("${queue.position-update.middle-rank:5000}") long middleRank,
+                                @Value("${queue.position-update.middle-interval:15s}") Duration middleInterval,
+                                @Value("${queue.position-update.tail-interval:30s}") Duration tailInterval,
+                                @Value("${queue.position-update.min-absolute-change:10}") long minAbsoluteChange,
+                                @Value("${queue.position-update.min-relative-change:0.05}") double minRelativeChange,
+                                @Value("${queue.position-update.max-silence:60s}") Duration maxSilence) {
+        this.headRank = headRank;
+        this.middleRank = middleRank;
+        this.middleIntervalMs = middleInterval.toMillis();
+        this.tailIntervalMs = tailInterval.toMillis();
+        this.minAbsoluteChange = minAbsoluteChange;
+        this.minRelativeChange = minRelativeChange;
+        this.maxSilenceMs = maxSilence.toMillis();
+    }
+
+    public boolean shouldSend(SseConnection connection, long position, long nowMillis) {
+        if (!connection.hasSentPosition()) {
+            return true;
+        }
+        return shouldSend(connection.getLastSentPosition(), connection.getLastSentAtMillis(), position, nowMillis);
+    }
+
+    boolean shouldSend(long lastSentPosition, long lastSentAtMillis, long position, long nowMillis) {
+        if (position == lastSentPosition) {
+            return false;
+        }
+        if (position < headRank) {
+            return true;
+        }
+
+        long elapsed = nowMillis - lastSentAtMillis;
+        if (elapsed < intervalFor(position)) {
+            return false;
+        }
+
+        long change = Math.abs(lastSentPosition - position);
+        if (change >= minAbsoluteChange || change >= lastSentPosition * minRelativeChange) {
+            return true;
+        }
+        return elapsed >= maxSilenceMs;
+    }
+
+    private long intervalFor(long position) {
+        return position < middleRank ? middleIntervalMs : tailIntervalMs;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ticket_service.queue.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 오픈 전 대기실 (서버별 메모리)
+ * 오픈 전에 들어온 구독 요청은 Redis 대기열 대신 이 서버의 메모리에만 보관한다.
+ * 오픈 전 재시도가 Redis와 사용자 락에 몰리지 않으며, 서버마다 자신에게 연결된 대기자만 관리하므로 서버 간 조정이 없다.
+ *
+ * 대기자마다 오픈 시각 이후의 무작위 입장 시각(release-jitter 이내)을 정해 두고,
+ * WaitingRoomScheduler가 입장 시각이 된 대기자부터 실제 대기열에 등록한다.
+ * 대기열 score는 입장 시각이 아닌 대기실에 들어온 시각이므로, 흩어진 입장 시각과 관계없이
+ * 대기실 안의 도착 순서를 유지하며 오픈 후에 바로 등록한 사용자보다 항상 앞선다.
+ */
+@Component
+public class PreOpenWaitingRoom {
+
+    private final long releaseJitterMillis;
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    public PreOpenWaitingRoom(@Value("${queue.waiting-room.release-jitter:10s}") Duration releaseJitter) {
+        this.releaseJitterMillis = releaseJitter.toMillis();
+    }
+
+    /**
+     * 대기실에 입장한다. 다시 구독한 대기자는 처음 정해진 입장 시각을 유지한다.
+     */
+    public void join(Long concertId, String userId, String lane, long openAtMillis, long now) {
+        Room room = rooms.computeIfAbsent(concertId, id -> new Room(openAtMillis));
+        long queueScore = Math.min(now, openAtMillis - 1);
+        room.guests.computeIfAbsent(userId, id -> new Guest(userId, lane, openAtMillis + jitter(), queueScore));
+    }
+
+    public void leave(Long concertId, String userId) {
+        Room room = rooms.get(concertId);
+        if (room != null) {
+            room.guests.remove(userId);
+        }
+    }
+
+    public Set<Long> getConcertIds() {
+        return rooms.keySet();
+    }
+
+    public long getOpenAtMillis(Long concertId) {
+        Room room = rooms.get(concertId);
+        return room != null ? room.openAtMillis : 0L;
+    }
+
+    public Collection<Guest> getGuests(Long concertId) {
+        Room room = rooms.get(concertId);
+        return room != null ? room.guests.values() : List.of();
+    }
+
+    public int size(Long concertId) {
+        Room room = rooms.get(concertId);
+        return room != null ? room.guests.size() : 0;
+    }
+
+    /**
+     * 입장 시각이 된 대기자를 꺼낸다. 오픈 후 대기자가 모두 나간 대기실은 제거한다.
+     */
+    public List<Guest> pollDue(Long concertId, long now) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return List.of();
+        }
+
+        List<Guest> due = new ArrayList<>();
+        for (Guest guest : room.guests.values()) {
+            if (guest.releaseAtMillis() <= now && room.guests.remove(guest.userId(), guest)) {
+                due.add(guest);
+            }
+        }
+
+        if (now >= room.openAtMillis && room.guests.isEmpty()) {
+            rooms.remove(concertId, room);
+        }
+        return due;
+    }
+
+    /**
+     * 대기열 등록을 넘기지 못한 대기자를 입장 시각과 score를 유지한 채 되돌린다. 다음 틱에 다시 꺼내진다.
+     */
+    public void requeue(Long concertId, long openAtMillis, Guest guest) {
+        Room room = rooms.computeIfAbsent(concertId, id -> new Room(openAtMillis));
+        room.guests.putIfAbsent(guest.userId(), guest);
+    }
+
+    private long jitter() {
+        return releaseJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(releaseJitterMillis) : 0L;
+    }
+
+    /**
+     * @param queueScore 대기열 등록 시 사용할 score (대기실에 들어온 시각, 오픈 시각보다 작다)
+     */
+    public record Guest(String userId, String lane, long releaseAtMillis, long queueScore) {
+    }
+
+    private static class Room {
+
+        private final long openAtMillis;
+        private final Map<String, Guest> guests = new ConcurrentHashMap<>();
+
+        Room(long openAtMillis) {
+            this.openAtMillis = openAtMillis;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.LockKey;
+import com.ticket_service.common.redis.RedissonLockTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 입장 시간이 만료된 사용자를 처리열에서 회수하고 다음 대기자를 입장시킨다.
+ *
+ * 1. 매 틱: 이 서버가 입장시킨 사용자를 SlotExpiryWheel에서 꺼내 만료 처리 (구매 완료로 이미 빠진 사용자는 무시)
+ * 2. 주기적 정리: 서버 재시작 등으로 휠에서 빠진 사용자를 처리열 전체에서 찾아 회수 (한 서버만 수행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessingExpiryReaper {
+
+    private final SlotExpiryWheel slotExpiryWheel;
+    private final ProcessingSet processingSet;
+    private final QueueService queueService;
+    private final QueueOrchestrationService queueOrchestrationService;
+    private final RedissonLockTemplate redissonLockTemplate;
+
+    @Value("${queue.expiry.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    @Scheduled(fixedDelayString = "${queue.expiry.tick:1s}")
+    public void reapExpiredSlots() {
+        List<ExpiringSlot> expiredSlots = slotExpiryWheel.advance(System.currentTimeMillis());
+        if (expiredSlots.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<String>> candidatesByConcert = new LinkedHashMap<>();
+        for (ExpiringSlot slot : expiredSlots) {
+            candidatesByConcert.computeIfAbsent(slot.concertId(), id -> new ArrayList<>())
+                    .addAll(slot.userIds());
+        }
+
+        candidatesByConcert.forEach((concertId, candidates) -> {
+            try {
+                List<String> expiredUsers = queueService.expireProcessing(concertId, candidates);
+                queueOrchestrationService.onProcessingExpired(concertId, expiredUsers);
+            } catch (Exception e) {
+                log.warn("입장 만료 처리 실패: concertId={}", concertId, e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${queue.expiry.sweep-interval:30s}")
+    public void sweepExpiredSlots() {
+        redissonLockTemplate.tryExecuteWithLock(LockKey.processingSweep(), () -> {
+            for (Long concertId : processingSet.getActiveConcertIds()) {
+                try {
+                    sweepConcert(concertId);
+                } catch (Exception e) {
+                    log.warn("입장 만료 정리 실패: concertId={}", concertId, e);
+                }
+            }
+        });
+    }
+
+    private void sweepConcert(Long concertId) {
+        List<String> expiredUsers;
+        do {
+            expiredUsers = queueService.reclaimExpiredProcessing(concertId, sweepBatchSize);
+            queueOrchestrationService.onProcessingExpired(concertId, expiredUsers);
+        } while (expiredUsers.size() == sweepBatchSize);
+    }
+}
@@ -0,0 +1,204 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.node.NodeIdentity;
+import com.ticket_service.common.redis.LockKey;
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.common.redis.RedissonLockTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구매 경로 상태에 따라 공연별 처리열 최대 인원을 AIMD 방식으로 조정한다.
+ *
+ * 1. 각 서버는 매 주기 자신의 구매 소요 시간 p95, 커넥션 대기 수, 구매 건수를 Redis에 보고
+ * 2. 한 서버가 최근 보고들을 모아 가장 나쁜 값을 기준으로 판단
+ *    - 목표를 넘으면 배수로 감소 (빠르게 DB를 보호)
+ *    - 목표 이내이고 구매가 있었으며 처리열이 가득 차 있으면 일정량 증가 (천천히 여유를 확인)
+ *    - 그 외에는 유지 (근거 없이 늘리지 않음)
+ * 3. 같은 서버가 전체 입장 예산(queue.global-budget.total)을 공연별 수요(대기 + 처리 인원)에 비례해 나눈다
+ *    - 모든 DB를 공유하므로 동시에 열린 공연들의 입장 인원 합계가 예산을 넘지 않도록 한다
+ *    - 공연마다 최소 몫을 보장하므로 합계는 예산을 최소 몫만큼 넘을 수 있다
+ *    - 대기자와 처리 인원이 모두 사라져 수요 목록에서 빠진 공연의 몫은 지운다
+ */
+@Slf4j
+@Component
+public class ProcessingLimitController {
+
+    private static final String INCREASE = "increase";
+    private static final String DECREASE = "decrease";
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final ProcessingSet processingSet;
+    private final WaitingQueue waitingQueue;
+    private final WaitingPresence waitingPresence;
+    private final AdaptiveProcessingLimit adaptiveProcessingLimit;
+    private final QueueMetrics queueMetrics;
+    private final NodeIdentity nodeIdentity;
+    private final RedissonLockTemplate redissonLockTemplate;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int increaseStep;
+    private final double decreaseFactor;
+    private final double targetP95Millis;
+    private final double targetPendingConnections;
+    private final long reportTtlMillis;
+    private final int globalBudget;
+    private final int minShare;
+
+    private long lastPurchaseCount;
+
+    public ProcessingLimitController(RedisTemplate<String, String> queueRedisTemplate,
+                                     ProcessingSet processingSet,
+                                     WaitingQueue waitingQueue,
+                                     WaitingPresence waitingPresence,
+                                     AdaptiveProcessingLimit adaptiveProcessingLimit,
+                                     QueueMetrics queueMetrics,
+                                     NodeIdentity nodeIdentity,
+                                     RedissonLockTemplate redissonLockTemplate,
+                                     @Value("${queue.adaptive-limit.min:20}") int minLimit,
+                                     @Value("${queue.adaptive-limit.max:2000}") int maxLimit,
+                                     @Value("${queue.adaptive-limit.increase-step:10}") int increaseStep,
+                                     @Value("${queue.adaptive-limit.decrease-factor:0.7}") double decreaseFactor,
+                                     @Value("${queue.adaptive-limit.target-p95:500ms}") Duration targetP95,
+                                     @Value("${queue.adaptive-limit.target-pending-connections:2}") double targetPendingConnections,
+                                     @Value("${queue.adaptive-limit.interval:5s}") Duration interval,
+                                     @Value("${queue.global-budget.total:0}") int globalBudget,
+                                     @Value("${queue.global-budget.min-share:20}") int minShare) {
+        this.queueRedisTemplate = queueRedisTemplate;
+        this.processingSet = processingSet;
+        this.waitingQueue = waitingQueue;
+        this.waitingPresence = waitingPresence;
+        this.adaptiveProcessingLimit = adaptiveProcessingLimit;
+        this.queueMetrics = queueMetrics;
+        this.nodeIdentity = nodeIdentity;
+        this.redissonLockTemplate = redissonLockTemplate;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.targetP95Millis = targetP95.toMillis();
+        this.targetPendingConnections = targetPendingConnections;
+        // 보고가 두 주기 넘게 없으면 내려간 서버로 본다
+        this.reportTtlMillis = interval.multipliedBy(3).toMillis();
+        this.globalBudget = globalBudget;
+        this.minShare = minShare;
+    }
+
+    @Scheduled(fixedDelayString = "${queue.adaptive-limit.interval:5s}")
+    public void adjust() {
+        reportLocalHealth();
+        redissonLockTemplate.tryExecuteWithLock(LockKey.processingLimit(), () -> {
+            PurchaseHealth health = collectClusterHealth();
+            Set<Long> concertIds = new HashSet<>(processingSet.getActiveConcertIds());
+            concertIds.addAll(waitingPresence.getConcertIds());
+
+            Map<Long, Long> demands = new HashMap<>();
+            for (Long concertId : concertIds) {
+                try {
+                    adjustConcert(concertId, health);
+                    demands.put(concertId, waitingQueue.size(concertId) + processingSet.size(concertId));
+                } catch (Exception e) {
+                    log.warn("처리열 최대 인원 조정 실패: concertId={}", concertId, e);
+                }
+            }
+
+            // 예산을 쓰지 않으면 빈 배분으로 교체해 남아 있던 몫을 지운다
+            adaptiveProcessingLimit.updateShares(globalBudget > 0 ? divideBudget(demands) : Map.of());
+        });
+    }
+
+    private void adjustConcert(Long concertId, PurchaseHealth health) {
+        int current = adaptiveProcessingLimit.getAdaptiveLimit(concertId);
+        int next = nextLimit(current, health, processingSet.size(concertId));
+        if (next == current) {
+            return;
+        }
+
+        adaptiveProcessingLimit.update(concertId, next);
+        queueMetrics.incrementProcessingLimitAdjusted(concertId, next > current ? INCREASE : DECREASE);
+        log.info("처리열 최대 인원 조정: concertId={}, {} -> {}, p95={}ms, pending={}",
+                concertId, current, next, (long) health.p95Millis(), health.pendingConnections());
+    }
+
+    int nextLimit(int current, PurchaseHealth health, long inUse) {
+        if (health.p95Millis() > targetP95Millis || health.pendingConnections() > targetPendingConnections) {
+            return Math.max(minLimit, (int) (current * decreaseFactor));
+        }
+        if (health.purchases() > 0 && inUse >= current) {
+            return Math.min(maxLimit, current + increaseStep);
+        }
+        return current;
+    }
+
+    /**
+     * 전체 예산을 수요에 비례해 나눈다. 공연 수가 많아 최소 몫의 합이 예산을 넘으면 균등하게 나눈다.
+     */
+    Map<Long, Integer> divideBudget(Map<Long, Long> demands) {
+        Map<Long, Integer> shares = new HashMap<>();
+        if (demands.isEmpty()) {
+            return shares;
+        }
+
+        int effectiveMinShare = Math.max(1, Math.min(minShare, globalBudget / demands.size()));
+        long totalDemand = demands.values().stream().mapToLong(Long::longValue).sum();
+
+        demands.forEach((concertId, demand) -> {
+            int proportional = totalDemand > 0 ? (int) (globalBudget * demand / totalDemand) : 0;
+            shares.put(concertId, Math.max(effectiveMinShare, proportional));
+        });
+        return shares;
+    }
+
+    private void reportLocalHealth() {
+        long purchaseCount = queueMetrics.getPurchaseCount();
+        long purchases = purchaseCount - lastPurchaseCount;
+        lastPurchaseCount = purchaseCount;
+
+        String report = System.currentTimeMillis()
+                + ":" + queueMetrics.getPurchaseDurationP95Millis()
+                + ":" + queueMetrics.getPendingConnectionCount()
+                + ":" + purchases;
+        queueRedisTemplate.opsForHash().put(QueueKey.purchaseHealth(), nodeIdentity.getNodeId(), report);
+        queueRedisTemplate.expire(QueueKey.purchaseHealth(), Duration.ofMillis(reportTtlMillis));
+    }
+
+    private PurchaseHealth collectClusterHealth() {
+        HashOperations<String, String, String> hashOperations = queueRedisTemplate.opsForHash();
+        Map<String, String> reports = hashOperations.entries(QueueKey.purchaseHealth());
+        long cutoff = System.currentTimeMillis() - reportTtlMillis;
+
+        double p95Millis = 0;
+        double pendingConnections = 0;
+        long purchases = 0;
+        for (String report : reports.values()) {
+            String[] fields = report.split(":");
+            if (Long.parseLong(fields[0]) < cutoff) {
+                continue;
+            }
+            p95Millis = Math.max(p95Millis, Double.parseDouble(fields[1]));
+            pendingConnections = Math.max(pendingConnections, Double.parseDouble(fields[2]));
+            purchases += Long.parseLong(fields[3]);
+        }
+        return new PurchaseHealth(p95Millis, pendingConnections, purchases);
+    }
+
+    /**
+     * @param p95Millis 서버 중 가장 높은 구매 소요 시간 p95
+     * @param pendingConnections 서버 중 가장 많은 커넥션 대기 수
+     * @param purchases 직전 주기 동안 클러스터 전체 구매 건수
+     */
+    record PurchaseHealth(double p95Millis, double pendingConnections, long purchases) {
+    }
+}
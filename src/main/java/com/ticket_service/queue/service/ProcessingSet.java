@@ -4,59 +4,193 @@ import com.ticket_service.common.redis.QueueKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 처리열 (입장한 사용자 목록)
+ * 사용자별 만료 시각(epoch ms)을 score로 갖는 ZSET이며, 만료 시각이 지난 사용자는 처리열에 없는 것으로 본다.
+ */
 @Component
 @RequiredArgsConstructor
 public class ProcessingSet {
 
+    private static final Duration ADMITTED_COUNT_TTL = Duration.ofDays(1);
+
+    // 만료 시각이 지난 사용자를 최대 ARGV[2]명까지 꺼낸다
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "if #expired > 0 then redis.call('ZREM', KEYS[1], unpack(expired)) end " +
+            "return expired",
+            List.class
+    );
+
+    // 후보 사용자 중 만료 시각이 지난 사용자만 제거한다 (구매 완료로 이미 빠진 사용자는 무시)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REMOVE_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+            "local removed = {} " +
+            "for i = 2, #ARGV do " +
+            "  local score = redis.call('ZSCORE', KEYS[1], ARGV[i]) " +
+            "  if score and tonumber(score) <= tonumber(ARGV[1]) then " +
+            "    redis.call('ZREM', KEYS[1], ARGV[i]) " +
+            "    table.insert(removed, ARGV[i]) " +
+            "  end " +
+            "end " +
+            "return removed",
+            List.class
+    );
+
     private final RedisTemplate<String, String> queueRedisTemplate;
+    private final AdaptiveProcessingLimit adaptiveProcessingLimit;
 
     @Value("${queue.entry-timeout}")
     private Duration entryTimeout;
 
-    @Value("${queue.max-processing-count:100}")
-    private int maxProcessingCount;
-
     public boolean contains(Long concertId, String userId) {
         String key = QueueKey.processingSet(concertId);
-        return Boolean.TRUE.equals(queueRedisTemplate.opsForSet().isMember(key, userId));
+        Double deadline = queueRedisTemplate.opsForZSet().score(key, userId);
+        return deadline != null && deadline > System.currentTimeMillis();
     }
 
-    public void add(Long concertId, String userId) {
+    /**
+     * @return 입장 만료까지 남은 시간 (ms). 처리열에 없거나 만료되었으면 null
+     */
+    public Long remainingMillis(Long concertId, String userId) {
         String key = QueueKey.processingSet(concertId);
-        queueRedisTemplate.opsForSet().add(key, userId);
-        queueRedisTemplate.expire(key, entryTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        Double deadline = queueRedisTemplate.opsForZSet().score(key, userId);
+        if (deadline == null) {
+            return null;
+        }
+        long remaining = deadline.longValue() - System.currentTimeMillis();
+        return remaining > 0 ? remaining : null;
+    }
+
+    /**
+     * @return 입장 만료 시각 (epoch ms)
+     */
+    public long add(Long concertId, String userId) {
+        return addAll(concertId, List.of(userId));
     }
 
-    public void addAll(Long concertId, List<String> userIds) {
+    /**
+     * 사용자들을 같은 만료 시각으로 처리열에 추가한다.
+     *
+     * @return 입장 만료 시각 (epoch ms)
+     */
+    public long addAll(Long concertId, List<String> userIds) {
         String key = QueueKey.processingSet(concertId);
+        long deadline = System.currentTimeMillis() + entryTimeout.toMillis();
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
         for (String userId : userIds) {
-            queueRedisTemplate.opsForSet().add(key, userId);
+            tuples.add(TypedTuple.of(userId, (double) deadline));
         }
+        queueRedisTemplate.opsForZSet().add(key, tuples);
         queueRedisTemplate.expire(key, entryTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        markActive(concertId);
+        incrementAdmittedCount(concertId, userIds.size());
+        return deadline;
     }
 
     public void remove(Long concertId, String userId) {
         String key = QueueKey.processingSet(concertId);
-        queueRedisTemplate.opsForSet().remove(key, userId);
+        queueRedisTemplate.opsForZSet().remove(key, userId);
+    }
+
+    /**
+     * 만료 시각이 지난 사용자를 최대 limit명까지 원자적으로 꺼낸다.
+     * 여러 서버가 동시에 호출해도 한 사용자는 한 서버에만 반환된다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> pollExpired(Long concertId, long now, int limit) {
+        String key = QueueKey.processingSet(concertId);
+        List<String> expired = queueRedisTemplate.execute(
+                POLL_EXPIRED_SCRIPT,
+                List.of(key),
+                String.valueOf(now),
+                String.valueOf(limit)
+        );
+        return expired != null ? expired : Collections.emptyList();
+    }
+
+    /**
+     * 후보 사용자 중 만료 시각이 지난 사용자만 원자적으로 제거한다.
+     *
+     * @return 제거된 사용자
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> removeExpired(Long concertId, List<String> candidates, long now) {
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Object[] args = new Object[candidates.size() + 1];
+        args[0] = String.valueOf(now);
+        for (int i = 0; i < candidates.size(); i++) {
+            args[i + 1] = candidates.get(i);
+        }
+
+        List<String> removed = queueRedisTemplate.execute(
+                REMOVE_EXPIRED_SCRIPT,
+                List.of(QueueKey.processingSet(concertId)),
+                args
+        );
+        return removed != null ? removed : Collections.emptyList();
     }
 
     public long size(Long concertId) {
         String key = QueueKey.processingSet(concertId);
-        Long size = queueRedisTemplate.opsForSet().size(key);
+        Long size = queueRedisTemplate.opsForZSet().zCard(key);
         return size != null ? size : 0L;
     }
 
     public boolean hasCapacity(Long concertId) {
-        return size(concertId) < maxProcessingCount;
+        return size(concertId) < adaptiveProcessingLimit.get(concertId);
     }
 
     public long remainingCapacity(Long concertId) {
-        return maxProcessingCount - size(concertId);
+        return adaptiveProcessingLimit.get(concertId) - size(concertId);
+    }
+
+    /**
+     * 처리열을 가진 공연 목록. 다른 서버가 입장시킨 사용자의 만료를 정리할 때 사용한다.
+     */
+    public Set<Long> getActiveConcertIds() {
+        Set<String> members = queueRedisTemplate.opsForSet().members(QueueKey.activeConcerts());
+        if (members == null || members.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> concertIds = new HashSet<>();
+        for (String member : members) {
+            concertIds.add(Long.parseLong(member));
+        }
+        return concertIds;
+    }
+
+    private void markActive(Long concertId) {
+        String key = QueueKey.activeConcerts();
+        queueRedisTemplate.opsForSet().add(key, String.valueOf(concertId));
+        queueRedisTemplate.expire(key, ADMITTED_COUNT_TTL);
+    }
+
+    /**
+     * 클러스터 전체 누적 입장 인원을 증가시킨다.
+     * 서버별 queue.processing.entered 카운터는 자기 서버의 입장만 세므로, 입장 속도 추정에는 이 값을 사용한다.
+     */
+    private void incrementAdmittedCount(Long concertId, int count) {
+        String key = QueueKey.admittedCount(concertId);
+        queueRedisTemplate.opsForValue().increment(key, count);
+        queueRedisTemplate.expire(key, ADMITTED_COUNT_TTL);
     }
 }
@@ -0,0 +1,44 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.queue.service.dto.QueueEnterMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@ConditionalOnProperty(name = QueueEnterTransport.PROPERTY, havingValue = "pubsub", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PubSubQueueEnterTransport implements QueueEnterTransport {
+
+    public static final String QUEUE_ENTER_CHANNEL = "queue:enter";
+    private static final String NODE_ENTER_CHANNEL_PREFIX = "queue:enter:";
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+
+    public static String nodeEnterChannel(String nodeId) {
+        return NODE_ENTER_CHANNEL_PREFIX + nodeId;
+    }
+
+    @Override
+    public void sendToNode(String nodeId, QueueEnterMessage message) {
+        publish(nodeEnterChannel(nodeId), message);
+    }
+
+    @Override
+    public void broadcast(QueueEnterMessage message) {
+        publish(QUEUE_ENTER_CHANNEL, message);
+    }
+
+    /**
+     * 바이너리 메시지이므로 템플릿의 문자열 직렬화를 거치지 않고 그대로 발행한다.
+     */
+    private void publish(String channel, QueueEnterMessage message) {
+        byte[] payload = message.encode();
+        queueRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.publish(channel.getBytes(StandardCharsets.UTF_8), payload));
+    }
+}
@@ -0,0 +1,23 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.queue.service.dto.QueueEnterMessage;
+
+/**
+ * 입장 메시지를 다른 서버로 전달하는 방식 (queue.enter-transport)
+ * pubsub: Redis Pub/Sub. 수신 서버가 구독 중이 아니면 메시지가 유실된다.
+ * stream: Redis Streams. 서버별 consumer group이 읽은 위치를 기억하므로, 잠시 멈췄던 서버도 이어서 받는다.
+ */
+public interface QueueEnterTransport {
+
+    String PROPERTY = "queue.enter-transport";
+
+    /**
+     * 연결을 가진 서버에만 전달한다.
+     */
+    void sendToNode(String nodeId, QueueEnterMessage message);
+
+    /**
+     * 연결을 가진 서버를 모를 때 모든 서버에 전달한다.
+     */
+    void broadcast(QueueEnterMessage message);
+}
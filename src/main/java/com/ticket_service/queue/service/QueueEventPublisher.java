@@ -1,33 +1,87 @@
 package com.ticket_service.queue.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket_service.common.metrics.QueueMetrics;
 import com.ticket_service.queue.service.dto.QueueEnterMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class QueueEventPublisher {
 
-    public static final String QUEUE_ENTER_CHANNEL = "queue:enter";
+    // 메시지 하나의 크기를 제한한다 (메시지 전체가 Redis와 수신 서버의 버퍼에 한 번에 쌓인다)
+    static final int MAX_USERS_PER_MESSAGE = 1000;
+
+    private final QueueEnterTransport queueEnterTransport;
+    private final ConnectionOwnership connectionOwnership;
+    private final SseEmitterService sseEmitterService;
+    private final QueueMetrics queueMetrics;
+
+    /**
+     * 입장 처리 한 번에 입장한 사용자를 연결을 가진 서버별로 묶어 전달한다.
+     * 이 서버에 연결된 사용자는 Redis를 거치지 않고 바로 전송하고,
+     * 다른 서버의 사용자는 그 서버로, 소유 서버를 모르는 사용자만 모든 서버로 보낸다.
+     * 입장 이벤트는 버려지면 안 되므로 SSE 실행기를 거치지 않고 호출 스레드(AdmissionPump)에서 바로 발행한다.
+     * 입장한 사용자는 더 이상 라우팅할 일이 없으므로 발행 후 연결 소유 기록을 지운다.
+     */
+    public void publishEnterEvents(Long concertId, List<String> userIds) {
+        List<String> owners = connectionOwnership.owners(concertId, userIds);
+
+        List<String> localUsers = new ArrayList<>();
+        List<String> unknownUsers = new ArrayList<>();
+        Map<String, List<String>> usersByNode = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            String owner = owners.get(i);
+            if (owner == null) {
+                unknownUsers.add(userIds.get(i));
+            } else if (connectionOwnership.isLocal(owner)) {
+                localUsers.add(userIds.get(i));
+            } else {
+                usersByNode.computeIfAbsent(owner, k -> new ArrayList<>()).add(userIds.get(i));
+            }
+        }
+
+        if (!localUsers.isEmpty()) {
+            sseEmitterService.sendEnterAndCompleteToLocal(concertId, localUsers);
+        }
+        int routed = 0;
+        for (Map.Entry<String, List<String>> entry : usersByNode.entrySet()) {
+            String nodeId = entry.getKey();
+            forEachChunk(concertId, entry.getValue(), message -> queueEnterTransport.sendToNode(nodeId, message));
+            routed += entry.getValue().size();
+        }
+        forEachChunk(concertId, unknownUsers, queueEnterTransport::broadcast);
+        releaseOwnership(concertId, userIds, unknownUsers);
+
+        queueMetrics.incrementEnterRouted("local", localUsers.size());
+        queueMetrics.incrementEnterRouted("node", routed);
+        queueMetrics.incrementEnterRouted("broadcast", unknownUsers.size());
+        log.info("[PUB] 입장 이벤트 발행: concertId={}, local={}, nodes={}, broadcast={}",
+                concertId, localUsers.size(), usersByNode.size(), unknownUsers.size());
+    }
 
-    private final RedisTemplate<String, String> queueRedisTemplate;
-    private final ObjectMapper objectMapper;
+    private void releaseOwnership(Long concertId, List<String> userIds, List<String> unknownUsers) {
+        if (unknownUsers.size() == userIds.size()) {
+            return;
+        }
+        List<String> ownedUsers = new ArrayList<>(userIds);
+        ownedUsers.removeAll(new HashSet<>(unknownUsers));
+        connectionOwnership.release(concertId, ownedUsers);
+    }
 
-    @Async("sseTaskExecutor")
-    public void publishEnterEvent(Long concertId, String userId) {
-        try {
-            QueueEnterMessage message = QueueEnterMessage.of(concertId, userId);
-            String json = objectMapper.writeValueAsString(message);
-            queueRedisTemplate.convertAndSend(QUEUE_ENTER_CHANNEL, json);
-            log.info("[PUB] 입장 이벤트 발행: concertId={}, userId={}", concertId, userId);
-        } catch (JsonProcessingException e) {
-            log.error("입장 이벤트 직렬화 실패: concertId={}, userId={}", concertId, userId, e);
+    private static void forEachChunk(Long concertId, List<String> userIds, Consumer<QueueEnterMessage> sender) {
+        for (int from = 0; from < userIds.size(); from += MAX_USERS_PER_MESSAGE) {
+            List<String> chunk = userIds.subList(from, Math.min(from + MAX_USERS_PER_MESSAGE, userIds.size()));
+            sender.accept(QueueEnterMessage.of(concertId, chunk));
         }
     }
 }
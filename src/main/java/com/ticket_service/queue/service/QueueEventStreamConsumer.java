@@ -0,0 +1,258 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.node.NodeIdentity;
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.queue.service.dto.QueueEnterMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 입장 메시지 스트림 소비 (Streams 전달 방식)
+ * 이 서버의 nodeId를 consumer group 이름으로 써서, 서버별 스트림과 전체 스트림을 각자의 읽기 위치로 읽는다.
+ * 한 번의 XREADGROUP으로 최대 batch-size건을 읽고, 이 서버의 연결로 전송한 뒤 모든 전송이 성공하면 ACK한다.
+ *
+ * 처리 중 실패하거나 전송에 실패한 사용자가 있어 ACK하지 못한 메시지는 pending 목록에 남으며, 일정 시간이 지나면 다시 읽어 전송한다.
+ * 입장 이벤트 전송은 연결을 저장소에서 꺼낸 뒤 보내므로 같은 메시지를 두 번 처리해도 한 번만 전송되며,
+ * 전송에 실패한 사용자가 그 사이 이 서버에 다시 연결했다면 다시 처리할 때 입장 이벤트를 받는다.
+ *
+ * group 이름이 바뀌면 새 group이 최신 위치부터 읽으므로 이전 group에 남은 pending 메시지를 영영 받지 못한다.
+ * 따라서 재시작해도 같은 이름이 유지되도록 queue.node-id를 명시해야 하며, 없으면 기동하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = QueueEnterTransport.PROPERTY, havingValue = "stream")
+public class QueueEventStreamConsumer implements StreamListener<byte[], MapRecord<byte[], byte[], byte[]>> {
+
+    private static final byte[] PAYLOAD_FIELD = StreamQueueEnterTransport.PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisConnectionFactory queueRedisConnectionFactory;
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final SseEmitterService sseEmitterService;
+    private final QueueMetrics queueMetrics;
+    private final String nodeId;
+    private final int batchSize;
+    private final Duration pollTimeout;
+    private final long pendingRetryMillis;
+
+    private StreamMessageListenerContainer<byte[], MapRecord<byte[], byte[], byte[]>> container;
+
+    public QueueEventStreamConsumer(RedisConnectionFactory queueRedisConnectionFactory,
+                                    RedisTemplate<String, String> queueRedisTemplate,
+                                    SseEmitterService sseEmitterService,
+                                    QueueMetrics queueMetrics,
+                                    NodeIdentity nodeIdentity,
+                                    @Value("${queue.enter-stream.batch-size:100}") int batchSize,
+                                    @Value("${queue.enter-stream.poll-timeout:100ms}") Duration pollTimeout,
+                                    @Value("${queue.enter-stream.pending-retry:5s}") Duration pendingRetry) {
+        if (!nodeIdentity.isConfigured()) {
+            throw new IllegalStateException("Streams 전달 방식(queue.enter-transport=stream)에서는 재시작 후에도 유지되는 queue.node-id를 설정해야 합니다.");
+        }
+        this.queueRedisConnectionFactory = queueRedisConnectionFactory;
+        this.queueRedisTemplate = queueRedisTemplate;
+        this.sseEmitterService = sseEmitterService;
+        this.queueMetrics = queueMetrics;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.batchSize = batchSize;
+        this.pollTimeout = pollTimeout;
+        this.pendingRetryMillis = pendingRetry.toMillis();
+    }
+
+    /**
+     * 처음 뜬 서버는 지금부터의 메시지만 읽고, 재시작한 서버는 group에 남은 위치부터 이어서 읽는다.
+     */
+    @PostConstruct
+    public void start() {
+        // 메시지가 바이너리이므로 역직렬화 없이 바이트 배열 그대로 받는다
+        StreamMessageListenerContainerOptions<byte[], MapRecord<byte[], byte[], byte[]>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .batchSize(batchSize)
+                        .pollTimeout(pollTimeout)
+                        .serializer(RedisSerializer.byteArray())
+                        .errorHandler(e -> log.warn("입장 스트림 읽기 실패", e))
+                        .build();
+        container = StreamMessageListenerContainer.create(queueRedisConnectionFactory, options);
+
+        Consumer consumer = Consumer.from(nodeId, nodeId);
+        for (String key : streamKeys()) {
+            createGroup(key);
+            container.register(
+                    StreamReadRequest.builder(StreamOffset.create(key.getBytes(StandardCharsets.UTF_8), ReadOffset.lastConsumed()))
+                            .cancelOnError(e -> false)
+                            .consumer(consumer)
+                            .autoAcknowledge(false)
+                            .build(),
+                    this
+            );
+        }
+        container.start();
+        log.info("입장 스트림 소비 시작: streams={}, group={}", streamKeys(), nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Override
+    public void onMessage(MapRecord<byte[], byte[], byte[]> record) {
+        String key = new String(record.getStream(), StandardCharsets.UTF_8);
+        queueMetrics.recordEnterDeliveryLag(streamTag(key), System.currentTimeMillis() - record.getId().getTimestamp());
+        deliver(key, record.getId(), payload(record)).thenAccept(delivered -> {
+            if (delivered) {
+                acknowledge(key, record.getId());
+            }
+        });
+    }
+
+    /**
+     * 읽었지만 ACK하지 못한 메시지 중 pending-retry보다 오래된 것을 다시 전송한다.
+     * 방금 읽어 처리 중인 메시지는 추가 시각이 최근이므로 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${queue.enter-stream.pending-retry:5s}")
+    public void retryPending() {
+        long threshold = System.currentTimeMillis() - pendingRetryMillis;
+        Consumer consumer = Consumer.from(nodeId, nodeId);
+        for (String key : streamKeys()) {
+            try {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                List<ByteRecord> pending = queueRedisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                        connection.streamCommands().xReadGroup(
+                                consumer,
+                                StreamReadOptions.empty().count(batchSize),
+                                StreamOffset.create(rawKey, ReadOffset.from("0"))
+                        ));
+                if (pending == null) {
+                    continue;
+                }
+
+                for (ByteRecord record : pending) {
+                    if (record.getId().getTimestamp() > threshold) {
+                        continue;
+                    }
+                    deliver(key, record.getId(), payload(record)).thenAccept(delivered -> {
+                        if (delivered) {
+                            acknowledge(key, record.getId());
+                            queueMetrics.incrementEnterRedelivered(streamTag(key), 1);
+                        }
+                    });
+                }
+            } catch (DataAccessException e) {
+                log.warn("입장 스트림 pending 재처리 실패: stream={}", key, e);
+            }
+        }
+    }
+
+    /**
+     * @return 모든 전송이 끝나 ACK해도 되면 true로 완료되는 Future (잘못된 메시지도 다시 읽을 필요가 없으므로 true)
+     */
+    private CompletableFuture<Boolean> deliver(String key, RecordId recordId, byte[] payload) {
+        if (payload == null) {
+            log.warn("잘못된 입장 스트림 메시지: stream={}, id={}", key, recordId);
+            return CompletableFuture.completedFuture(true);
+        }
+
+        QueueEnterMessage enterMessage;
+        try {
+            enterMessage = QueueEnterMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 입장 스트림 메시지: stream={}, id={}", key, recordId, e);
+            return CompletableFuture.completedFuture(true);
+        }
+
+        try {
+            return sseEmitterService.sendEnterAndCompleteToLocalAsync(enterMessage.getConcertId(), enterMessage.getUserIds())
+                    .handle((sent, failure) -> {
+                        if (failure != null) {
+                            log.error("입장 이벤트 처리 실패: stream={}, id={}", key, recordId, failure);
+                            return false;
+                        }
+                        if (!sent) {
+                            log.warn("입장 이벤트 전송 실패, pending으로 남김: stream={}, id={}", key, recordId);
+                        }
+                        log.info("[STREAM] 입장 이벤트 수신: concertId={}, count={}, sent={}",
+                                enterMessage.getConcertId(), enterMessage.getUserIds().size(), sent);
+                        return sent;
+                    });
+        } catch (RuntimeException e) {
+            log.error("입장 이벤트 처리 실패: stream={}, id={}", key, recordId, e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    /**
+     * trim으로 삭제된 pending 메시지는 값이 비어 있으므로 null을 반환한다.
+     */
+    private static byte[] payload(MapRecord<byte[], byte[], byte[]> record) {
+        Map<byte[], byte[]> value = record.getValue();
+        if (value == null) {
+            return null;
+        }
+        for (Map.Entry<byte[], byte[]> field : value.entrySet()) {
+            if (Arrays.equals(field.getKey(), PAYLOAD_FIELD)) {
+                return field.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void acknowledge(String key, RecordId recordId) {
+        try {
+            queueRedisTemplate.opsForStream().acknowledge(key, nodeId, recordId);
+        } catch (DataAccessException e) {
+            log.warn("입장 스트림 ACK 실패: stream={}, id={}", key, recordId, e);
+        }
+    }
+
+    private void createGroup(String key) {
+        try {
+            queueRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.streamCommands().xGroupCreate(key.getBytes(StandardCharsets.UTF_8), nodeId, ReadOffset.latest(), true);
+                return null;
+            });
+        } catch (DataAccessException e) {
+            String message = String.valueOf(e.getMostSpecificCause().getMessage());
+            if (!message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private List<String> streamKeys() {
+        return List.of(QueueKey.nodeEnterStream(nodeId), QueueKey.enterStream());
+    }
+
+    private static String streamTag(String key) {
+        return QueueKey.enterStream().equals(key) ? "broadcast" : "node";
+    }
+}
@@ -1,55 +1,50 @@
 package com.ticket_service.queue.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ticket_service.queue.service.dto.QueueEnterEvent;
 import com.ticket_service.queue.service.dto.QueueEnterMessage;
-import com.ticket_service.queue.service.dto.QueueEventType;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * 입장 이벤트 구독 (Pub/Sub 전달 방식)
+ * 이 서버 전용 채널에는 이 서버에 연결된 사용자만 담겨 오고,
+ * 전체 채널에는 연결 소유 서버를 알 수 없는 사용자만 담겨 온다.
+ */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = QueueEnterTransport.PROPERTY, havingValue = "pubsub", matchIfMissing = true)
 @RequiredArgsConstructor
 public class QueueEventSubscriber implements MessageListener {
 
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final SseEmitterService sseEmitterService;
-    private final ObjectMapper objectMapper;
+    private final ConnectionOwnership connectionOwnership;
 
     @PostConstruct
     public void subscribe() {
+        String nodeChannel = PubSubQueueEnterTransport.nodeEnterChannel(connectionOwnership.getLocalNodeId());
         redisMessageListenerContainer.addMessageListener(
                 this,
-                new ChannelTopic(QueueEventPublisher.QUEUE_ENTER_CHANNEL)
+                List.of(new ChannelTopic(PubSubQueueEnterTransport.QUEUE_ENTER_CHANNEL), new ChannelTopic(nodeChannel))
         );
-        log.info("Redis Pub/Sub 구독 시작: channel={}", QueueEventPublisher.QUEUE_ENTER_CHANNEL);
+        log.info("Redis Pub/Sub 구독 시작: channel={}, {}", PubSubQueueEnterTransport.QUEUE_ENTER_CHANNEL, nodeChannel);
     }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String json = new String(message.getBody());
-            QueueEnterMessage enterMessage = objectMapper.readValue(json, QueueEnterMessage.class);
-
-            Long concertId = enterMessage.getConcertId();
-            String userId = enterMessage.getUserId();
-
-            sseEmitterService.sendEventAndCompleteAsync(
-                    concertId,
-                    userId,
-                    QueueEventType.ENTER,
-                    QueueEnterEvent.processing()
-            ).thenAccept(sent -> {
-                if (sent) {
-                    log.info("[SUB] 입장 이벤트 전송 성공: concertId={}, userId={}", concertId, userId);
-                }
-            });
+            QueueEnterMessage enterMessage = QueueEnterMessage.decode(message.getBody());
+            int local = sseEmitterService.sendEnterAndCompleteToLocal(enterMessage.getConcertId(), enterMessage.getUserIds());
+            log.info("[SUB] 입장 이벤트 수신: concertId={}, count={}, local={}",
+                    enterMessage.getConcertId(), enterMessage.getUserIds().size(), local);
         } catch (Exception e) {
             log.error("입장 이벤트 처리 실패", e);
         }
@@ -0,0 +1,79 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.queue.exception.UnknownQueueLaneException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공연별 대기열 레인 설정 (예: presale:5,member:3,general:2)
+ * 레인마다 별도의 ZSET을 가지며, 입장 시 가중치 비율로 각 레인에서 꺼낸다.
+ * 기본 레인은 기존 대기열 키를 그대로 사용하므로 레인을 쓰지 않는 공연은 이전과 같다.
+ */
+@Getter
+@Component
+public class QueueLanes {
+
+    public static final String DEFAULT_LANE = "general";
+
+    private final List<String> names;
+    private final List<Integer> weights;
+
+    public QueueLanes(@Value("${queue.lanes:general:1}") String lanes) {
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        for (String lane : lanes.split(",")) {
+            String[] nameAndWeight = lane.trim().split(":");
+            int weight = Integer.parseInt(nameAndWeight[1].trim());
+            if (weight <= 0) {
+                throw new IllegalArgumentException("레인 가중치는 0보다 커야 합니다: " + lane);
+            }
+            parsed.put(nameAndWeight[0].trim(), weight);
+        }
+        parsed.putIfAbsent(DEFAULT_LANE, 1);
+
+        this.names = Collections.unmodifiableList(new ArrayList<>(parsed.keySet()));
+        this.weights = Collections.unmodifiableList(new ArrayList<>(parsed.values()));
+    }
+
+    /**
+     * @return 요청한 레인 (없으면 기본 레인)
+     */
+    public String resolve(String lane) {
+        if (!StringUtils.hasText(lane)) {
+            return DEFAULT_LANE;
+        }
+        if (!names.contains(lane)) {
+            throw new UnknownQueueLaneException("존재하지 않는 대기열입니다: " + lane);
+        }
+        return lane;
+    }
+
+    public boolean isSingleLane() {
+        return names.size() == 1;
+    }
+
+    public String key(Long concertId, String lane) {
+        return DEFAULT_LANE.equals(lane)
+                ? QueueKey.waitingQueue(concertId)
+                : QueueKey.waitingQueueLane(concertId, lane);
+    }
+
+    /**
+     * @return 설정 순서대로 정렬된 레인별 대기열 키
+     */
+    public List<String> keys(Long concertId) {
+        List<String> keys = new ArrayList<>(names.size());
+        for (String lane : names) {
+            keys.add(key(concertId, lane));
+        }
+        return keys;
+    }
+}
@@ -1,6 +1,12 @@
 package com.ticket_service.queue.service;
 
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.queue.exception.ConcertClosedException;
+import com.ticket_service.queue.exception.NodeDrainingException;
+import com.ticket_service.queue.exception.NotInQueueException;
+import com.ticket_service.queue.service.dto.QueueCountdownEvent;
 import com.ticket_service.queue.service.dto.QueueEventType;
+import com.ticket_service.queue.service.dto.QueueLotteryEvent;
 import com.ticket_service.queue.service.dto.QueuePositionEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,36 +22,159 @@ public class QueueOrchestrationService {
 
     private final QueueService queueService;
     private final SseEmitterService sseEmitterService;
-    private final QueueEventPublisher queueEventPublisher;
+    private final AdmissionPump admissionPump;
+    private final AdmissionRateEstimator admissionRateEstimator;
+    private final WaitingPresence waitingPresence;
+    private final ConcertSchedule concertSchedule;
+    private final LotteryRegistry lotteryRegistry;
+    private final PreOpenWaitingRoom preOpenWaitingRoom;
+    private final NodeDrain nodeDrain;
+    private final QueueMetrics queueMetrics;
+    private final ConnectionOwnership connectionOwnership;
 
     /**
      * 대기열 등록 + SSE 구독
      * 등록 후 대기 순번 또는 즉시 입장 이벤트를 전송한다.
      *
      * 중요: emitter를 먼저 생성한 후 대기열에 추가해야 함.
-     * 그렇지 않으면 다른 스레드에서 enterNextAndNotify 호출 시
+     * 그렇지 않으면 AdmissionPump가 먼저 입장시킬 때
      * emitter가 없어 enter 이벤트를 놓칠 수 있음.
+     *
+     * 연결이 끊긴 후 유예 시간 안에 다시 구독한 대기자는 기존 순번을 그대로 이어간다.
+     * 연결 확인 시각을 먼저 갱신하므로 그 사이 GhostUserReaper가 제거하지 않는다.
      */
     public SseEmitter registerAndSubscribe(Long concertId, String userId) {
+        return registerAndSubscribe(concertId, userId, QueueLanes.DEFAULT_LANE);
+    }
+
+    /**
+     * 지정한 레인의 대기열에 등록한다. 순번은 레인 안에서의 순서다.
+     * 추첨 방식 공연의 오픈 전에는 응모만 받고, 순번은 오픈 시각에 LotteryDraw가 전송한다.
+     * 그 외 공연의 오픈 전에는 Redis에 접근하지 않고 이 서버의 대기실(PreOpenWaitingRoom)에만 보관한다.
+     */
+    public SseEmitter registerAndSubscribe(Long concertId, String userId, String lane) {
+        return registerAndSubscribe(concertId, userId, lane, null);
+    }
+
+    /**
+     * 재연결한 클라이언트는 마지막으로 받은 이벤트 id(Last-Event-ID)를 함께 보낸다.
+     * 이미 입장한 사용자는 대기열에 다시 등록하지 않고 입장 이벤트를 다시 받으며,
+     * 대기 중인 사용자는 기존 순번을 이어간다.
+     */
+    public SseEmitter registerAndSubscribe(Long concertId, String userId, String lane, String lastEventId) {
+        if (nodeDrain.isDraining()) {
+            throw new NodeDrainingException("서버가 종료 중입니다. 잠시 후 다시 구독해주세요.");
+        }
+
+        long now = System.currentTimeMillis();
+        if (concertSchedule.isClosed(concertId, now)) {
+            throw new ConcertClosedException("판매가 종료된 공연입니다.");
+        }
+
         SseEmitter emitter = sseEmitterService.createEmitter(concertId, userId);
-        Long position = queueService.enterWaitingQueue(concertId, userId);
+
+        if (lastEventId != null && resume(concertId, userId, lastEventId)) {
+            return emitter;
+        }
+
+        if (concertSchedule.isBeforeLotteryDraw(concertId, now)) {
+            waitingPresence.touch(concertId, userId, now);
+            connectionOwnership.claim(concertId, userId);
+            lotteryRegistry.register(concertId, userId, lane);
+            long secondsUntilDraw = secondsUntil(concertSchedule.getOpenAtMillis(concertId, now), now);
+            sseEmitterService.sendEvent(concertId, userId, QueueEventType.LOTTERY_REGISTERED, new QueueLotteryEvent(secondsUntilDraw));
+            return emitter;
+        }
+
+        if (concertSchedule.isBeforeOpen(concertId, now)) {
+            long openAtMillis = concertSchedule.getOpenAtMillis(concertId, now);
+            preOpenWaitingRoom.join(concertId, userId, lane, openAtMillis, now);
+            sseEmitterService.sendEvent(concertId, userId, QueueEventType.COUNTDOWN, new QueueCountdownEvent(secondsUntil(openAtMillis, now)));
+            return emitter;
+        }
+
+        enterAndNotify(concertId, userId, lane, now, now);
+        return emitter;
+    }
+
+    /**
+     * 재연결한 사용자의 처리열 상태를 확인한다.
+     * 처리열에 있으면 연결이 끊긴 동안 놓쳤을 수 있는 입장 이벤트를 남은 구매 가능 시간으로 다시 보낸다.
+     * 마지막으로 받은 이벤트가 입장인데 처리열에 없으면 구매 가능 시간이 지난 것이므로 대기열 뒤에 다시 넣지 않는다.
+     * 그 외에는 일반 구독과 같이 처리하며, 대기 중인 사용자는 enterAndNotify에서 기존 순번을 이어간다.
+     *
+     * @return 재연결 처리가 끝났으면 true
+     */
+    private boolean resume(Long concertId, String userId, String lastEventId) {
+        Long remainingSeconds = queueService.getProcessingRemainingSeconds(concertId, userId);
+        if (remainingSeconds != null) {
+            sseEmitterService.sendEnterAndComplete(concertId, userId, remainingSeconds);
+            queueMetrics.incrementQueueResumed(concertId, "enter");
+            return true;
+        }
+
+        if (SseEventIds.isEnter(lastEventId)) {
+            sseEmitterService.completeEmitter(concertId, userId);
+            queueMetrics.incrementQueueResumed(concertId, "expired");
+            throw new NotInQueueException("구매 가능 시간이 만료되었습니다. 다시 대기열에 등록해주세요.");
+        }
+
+        queueMetrics.incrementQueueResumed(concertId, "waiting");
+        return false;
+    }
+
+    /**
+     * 오픈 후 입장 시각이 된 대기실 사용자를 실제 대기열에 등록한다. (WaitingRoomScheduler)
+     * score는 대기실에 들어온 시각이므로 입장 시각의 무작위 지연이 순번을 바꾸지 않는다.
+     */
+    public void releaseFromWaitingRoom(Long concertId, String userId, String lane, long queueScore) {
+        enterAndNotify(concertId, userId, lane, System.currentTimeMillis(), queueScore);
+    }
+
+    /**
+     * 대기열에 등록하기 전에 연결 소유 서버를 기록해야 입장 이벤트가 이 서버로 전달된다.
+     */
+    private void enterAndNotify(Long concertId, String userId, String lane, long now, long queueScore) {
+        waitingPresence.touch(concertId, userId, now);
+        connectionOwnership.claim(concertId, userId);
+
+        Long position = queueService.getPosition(concertId, userId);
+        if (position == null) {
+            position = enterOrRelease(concertId, userId, lane, queueScore);
+        }
 
         if (queueService.hasProcessingCapacity(concertId)) {
-            enterNextAndNotify(concertId);
+            admissionPump.signal(concertId);
         } else {
-            sseEmitterService.sendEvent(concertId, userId, QueueEventType.QUEUE_POSITION, new QueuePositionEvent(position));
+            Long estimatedWaitSeconds = admissionRateEstimator.estimateWaitSeconds(concertId, position);
+            sseEmitterService.sendEvent(concertId, userId, QueueEventType.QUEUE_POSITION, new QueuePositionEvent(position, estimatedWaitSeconds));
         }
+    }
 
-        return emitter;
+    private static long secondsUntil(long targetMillis, long now) {
+        return Math.max(0L, (targetMillis - now + 999) / 1000);
+    }
+
+    /**
+     * 대기열 등록이 거절되면 (가득 참, 매진 예상 등) 미리 만든 연결을 바로 정리한다.
+     */
+    private Long enterOrRelease(Long concertId, String userId, String lane, long queueScore) {
+        try {
+            return queueService.enterWaitingQueue(concertId, userId, lane, queueScore);
+        } catch (RuntimeException e) {
+            waitingPresence.remove(concertId, userId);
+            sseEmitterService.completeEmitter(concertId, userId);
+            throw e;
+        }
     }
 
     /**
      * 구매 완료 시 호출
-     * 처리열에서 제거 → 다음 대기자 입장
+     * 처리열에서 제거 → 입장 신호
      */
     public void onPurchaseComplete(Long concertId, String userId) {
         queueService.completeProcessing(concertId, userId);
-        enterNextAndNotify(concertId);
+        admissionPump.signal(concertId);
     }
 
     public boolean isInProcessing(Long concertId, String userId) {
@@ -54,23 +183,27 @@ public class QueueOrchestrationService {
 
     /**
      * 취소 시 호출
-     * 대기열/처리열에서 제거 → SSE 종료 → 다음 대기자 입장
+     * 대기실/대기열/처리열에서 제거 → SSE 종료 → 입장 신호
      */
     public void onCancel(Long concertId, String userId) {
+        preOpenWaitingRoom.leave(concertId, userId);
         queueService.removeFromQueue(concertId, userId);
+        waitingPresence.remove(concertId, userId);
+        connectionOwnership.release(concertId, userId);
         sseEmitterService.completeEmitter(concertId, userId);
-        enterNextAndNotify(concertId);
+        admissionPump.signal(concertId);
     }
 
     /**
-     * 다음 대기자들을 입장시키고 Redis Pub/Sub으로 입장 이벤트를 발행한다.
-     * 각 서버의 QueueEventSubscriber가 메시지를 받아 해당 사용자에게 SSE를 전송한다.
-     * 순번 업데이트는 QueuePositionBatchScheduler에서 주기적으로 처리한다.
+     * 입장 시간 만료 시 호출
+     * 만료된 사용자는 이미 처리열에서 제거된 상태이며, 비워진 자리는 AdmissionPump가 채운다.
      */
-    private void enterNextAndNotify(Long concertId) {
-        List<String> enteredUsers = queueService.permitProcessing(concertId);
-        enteredUsers.forEach(enteredUserId ->
-                queueEventPublisher.publishEnterEvent(concertId, enteredUserId)
-        );
+    public void onProcessingExpired(Long concertId, List<String> expiredUserIds) {
+        if (expiredUserIds.isEmpty()) {
+            return;
+        }
+        connectionOwnership.release(concertId, expiredUserIds);
+        log.info("입장 시간 만료: concertId={}, count={}", concertId, expiredUserIds.size());
+        admissionPump.signal(concertId);
     }
 }
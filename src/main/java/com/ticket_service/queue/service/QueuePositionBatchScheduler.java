@@ -1,13 +1,20 @@
 package com.ticket_service.queue.service;
 
+import com.ticket_service.common.metrics.QueueMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
@@ -16,21 +23,176 @@ public class QueuePositionBatchScheduler {
 
     private final QueueService queueService;
     private final SseEmitterService sseEmitterService;
+    private final PositionSnapshot positionSnapshot;
+    private final PositionUpdatePolicy positionUpdatePolicy;
+    private final AdmissionRateEstimator admissionRateEstimator;
+    private final ConcertSchedule concertSchedule;
+    private final QueueMetrics queueMetrics;
 
+    // 공연별 브로드캐스트 주기 (틱 단위). 대기열이 움직이지 않으면 늘어난다.
+    private final Map<Long, ConcertCadence> cadences = new ConcurrentHashMap<>();
+
+    @Value("${queue.position-update.max-idle-backoff:6}")
+    private int maxIdleBackoff;
+
+    /**
+     * 이 서버에 연결된 사용자의 순번만 조회해 전송한다.
+     * 대기열 전체는 공연별 리더 서버만 한 번 읽어 스냅샷으로 공유하므로
+     * 나머지 서버의 비용은 로컬 연결 수에 비례한다.
+     *
+     * 순번이 의미 있게 바뀐 사용자에게만 전송하며 (PositionUpdatePolicy),
+     * 대기열이 움직이지 않는 공연은 다음 브로드캐스트까지의 틱 수를 최대 max-idle-backoff까지 두 배씩 늘린다.
+     * 오픈 전 공연은 대기열에 아무도 없으므로 순번을 조회하지 않는다.
+     *
+     * 스냅샷 리스를 가진 서버는 자신의 주기와 관계없이 매 틱 스냅샷을 발행한다.
+     * 리더가 주기를 늘려도 다른 서버가 오래된 스냅샷을 읽지 않으며, 리스가 만료되어 리더가 바뀌지 않는다.
+     */
     @Scheduled(fixedDelayString = "${queue.position-broadcast-interval:5s}")
     public void broadcastPositions() {
         Set<Long> activeConcertIds = sseEmitterService.getActiveConcertIds();
+        cadences.keySet().retainAll(activeConcertIds);
 
+        long now = System.currentTimeMillis();
         for (Long concertId : activeConcertIds) {
+            if (concertSchedule.isBeforeOpen(concertId, now)) {
+                continue;
+            }
             try {
-                List<String> waitingUsers = queueService.getWaitingUsers(concertId);
-                if (!waitingUsers.isEmpty()) {
-                    sseEmitterService.broadcastPositionsAsync(concertId, waitingUsers)
-                            .thenRun(() -> log.debug("순번 브로드캐스트 완료: concertId={}, userCount={}", concertId, waitingUsers.size()));
+                Map<String, Long> publishedPositions = publishSnapshotIfLeader(concertId);
+                ConcertCadence cadence = cadences.computeIfAbsent(concertId, id -> new ConcertCadence());
+                if (!cadence.tick()) {
+                    continue;
                 }
+                broadcastConcert(concertId, cadence, publishedPositions, false);
             } catch (Exception e) {
                 log.error("순번 브로드캐스트 실패: concertId={}", concertId, e);
             }
         }
     }
+
+    /**
+     * 추첨 등록처럼 순번이 한꺼번에 정해졌을 때 다음 주기를 기다리지 않고 바로 전송한다.
+     * 스냅샷은 등록 이전 상태일 수 있으므로 순번을 직접 조회한다.
+     */
+    public void broadcastNow(Long concertId) {
+        ConcertCadence cadence = cadences.computeIfAbsent(concertId, id -> new ConcertCadence());
+        try {
+            broadcastConcert(concertId, cadence, null, true);
+        } catch (Exception e) {
+            log.error("순번 브로드캐스트 실패: concertId={}", concertId, e);
+        }
+    }
+
+    /**
+     * @param publishedPositions 이번 틱에 이 서버가 발행한 전체 순번 (리더가 아니면 null)
+     */
+    private void broadcastConcert(Long concertId, ConcertCadence cadence, Map<String, Long> publishedPositions, boolean bypassSnapshot) {
+        Collection<SseConnection> connections = sseEmitterService.getConnections(concertId);
+        List<String> connectedUsers = new ArrayList<>(connections.size());
+        for (SseConnection connection : connections) {
+            connectedUsers.add(connection.getUserId());
+        }
+        if (connectedUsers.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> positions = bypassSnapshot
+                ? queueService.getPositions(concertId, connectedUsers)
+                : resolvePositions(concertId, connectedUsers, publishedPositions);
+        admissionRateEstimator.update(concertId);
+        long now = System.currentTimeMillis();
+        boolean moved = false;
+        List<PositionUpdate> updates = new ArrayList<>();
+
+        for (SseConnection connection : connections) {
+            Long position = positions.get(connection.getUserId());
+            if (position == null) {
+                continue;
+            }
+            moved |= connection.observePosition(position);
+            if (positionUpdatePolicy.shouldSend(connection, position, now)) {
+                updates.add(new PositionUpdate(connection, position, admissionRateEstimator.estimateWaitSeconds(concertId, position)));
+            }
+        }
+
+        cadence.record(moved, maxIdleBackoff);
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        // 이전 전송이 아직 끝나지 않았으면 이번 틱은 건너뛴다. 보내지 못한 순번은 다음 틱에 최신 값으로 전송된다.
+        if (!cadence.tryStartBroadcast()) {
+            queueMetrics.incrementPositionConflated(concertId);
+            return;
+        }
+
+        sseEmitterService.broadcastPositionsAsync(updates)
+                .whenComplete((result, e) -> cadence.finishBroadcast())
+                .thenAccept(result -> log.debug("순번 브로드캐스트 완료: concertId={}, candidates={}, delivered={}, dropped={}, durationMs={}",
+                        concertId, positions.size(), result.delivered(), result.dropped(), result.durationMs()));
+    }
+
+    /**
+     * 리스를 획득하거나 연장한 서버만 대기열 전체를 읽어 스냅샷을 발행한다.
+     *
+     * @return 발행한 전체 순번, 리더가 아니면 null
+     */
+    private Map<String, Long> publishSnapshotIfLeader(Long concertId) {
+        if (!positionSnapshot.tryAcquireLease(concertId)) {
+            return null;
+        }
+        return positionSnapshot.publish(concertId, queueService.getAllPositions(concertId));
+    }
+
+    /**
+     * 리더는 이번 틱에 발행한 순번을 그대로 쓰고, 나머지는 스냅샷을 읽는다.
+     * 아직 스냅샷이 없으면 파이프라인 ZRANK로 직접 조회한다.
+     */
+    private Map<String, Long> resolvePositions(Long concertId, List<String> connectedUsers, Map<String, Long> publishedPositions) {
+        if (publishedPositions != null) {
+            Map<String, Long> positions = new HashMap<>();
+            for (String userId : connectedUsers) {
+                Long position = publishedPositions.get(userId);
+                if (position != null) {
+                    positions.put(userId, position);
+                }
+            }
+            return positions;
+        }
+
+        Map<String, Long> positions = positionSnapshot.read(concertId, connectedUsers);
+        return positions != null ? positions : queueService.getPositions(concertId, connectedUsers);
+    }
+
+    /**
+     * 공연별 브로드캐스트 간격
+     * 순번 변화가 없으면 간격(틱 수)을 두 배로 늘리고, 변화가 생기면 매 틱으로 되돌린다.
+     */
+    private static class ConcertCadence {
+
+        private int backoff = 1;
+        private int ticksUntilDue = 0;
+        private final AtomicBoolean broadcasting = new AtomicBoolean();
+
+        boolean tick() {
+            if (ticksUntilDue > 0) {
+                ticksUntilDue--;
+                return false;
+            }
+            return true;
+        }
+
+        void record(boolean moved, int maxBackoff) {
+            backoff = moved ? 1 : Math.min(backoff * 2, Math.max(maxBackoff, 1));
+            ticksUntilDue = backoff - 1;
+        }
+
+        boolean tryStartBroadcast() {
+            return broadcasting.compareAndSet(false, true);
+        }
+
+        void finishBroadcast() {
+            broadcasting.set(false);
+        }
+    }
 }
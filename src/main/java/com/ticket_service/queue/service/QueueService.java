@@ -1,22 +1,59 @@
 package com.ticket_service.queue.service;
 
 import java.util.List;
+import java.util.Map;
 
 public interface QueueService {
 
     Long enterWaitingQueue(Long concertId, String userId);
 
+    Long enterWaitingQueue(Long concertId, String userId, String lane);
+
+    /**
+     * 지정한 score(대기열 정렬 기준 시각)로 등록한다.
+     */
+    Long enterWaitingQueue(Long concertId, String userId, String lane, long score);
+
     void completeProcessing(Long concertId, String userId);
 
     void removeFromQueue(Long concertId, String userId);
 
     boolean isInProcessing(Long concertId, String userId);
 
+    /**
+     * @return 남은 구매 가능 시간 (초, 올림). 처리열에 없으면 null
+     */
+    Long getProcessingRemainingSeconds(Long concertId, String userId);
+
     List<String> permitProcessing(Long concertId);
 
     String permitOneProcessing(Long concertId);
 
     boolean hasProcessingCapacity(Long concertId);
 
-    List<String> getWaitingUsers(Long concertId);
+    /**
+     * @return 전체 대기자의 레인별 순번
+     */
+    Map<String, Long> getAllPositions(Long concertId);
+
+    /**
+     * @return 대기 순번 (대기열에 없으면 null)
+     */
+    Long getPosition(Long concertId, String userId);
+
+    Map<String, Long> getPositions(Long concertId, List<String> userIds);
+
+    /**
+     * 후보 사용자 중 입장 시간이 만료된 사용자를 처리열에서 제거한다.
+     *
+     * @return 제거된 사용자
+     */
+    List<String> expireProcessing(Long concertId, List<String> candidates);
+
+    /**
+     * 입장 시간이 만료된 사용자를 최대 limit명까지 처리열에서 제거한다.
+     *
+     * @return 제거된 사용자
+     */
+    List<String> reclaimExpiredProcessing(Long concertId, int limit);
 }
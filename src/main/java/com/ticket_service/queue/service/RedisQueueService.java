@@ -4,11 +4,13 @@ import com.ticket_service.common.metrics.QueueMetrics;
 import com.ticket_service.common.redis.LockKey;
 import com.ticket_service.common.redis.RedissonLockTemplate;
 import com.ticket_service.queue.exception.AlreadyInQueueException;
+import com.ticket_service.queue.exception.LikelySoldOutException;
 import com.ticket_service.queue.exception.QueueFullException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -18,14 +20,26 @@ public class RedisQueueService implements QueueService {
     private final ProcessingSet processingSet;
     private final RedissonLockTemplate redissonLockTemplate;
     private final QueueMetrics queueMetrics;
+    private final SlotExpiryWheel slotExpiryWheel;
+    private final StockAwareQueueCap stockAwareQueueCap;
 
     @Override
     public Long enterWaitingQueue(Long concertId, String userId) {
+        return enterWaitingQueue(concertId, userId, QueueLanes.DEFAULT_LANE);
+    }
+
+    @Override
+    public Long enterWaitingQueue(Long concertId, String userId, String lane) {
+        return enterWaitingQueue(concertId, userId, lane, System.currentTimeMillis());
+    }
+
+    @Override
+    public Long enterWaitingQueue(Long concertId, String userId, String lane, long score) {
         return redissonLockTemplate.executeWithLock(
                 LockKey.queueUser(concertId, userId),
                 () -> {
                     validateEntry(concertId, userId);
-                    waitingQueue.add(concertId, userId);
+                    waitingQueue.add(concertId, userId, lane, score);
                     queueMetrics.incrementQueueEnter(concertId);
                     return getPosition(concertId, userId);
                 }
@@ -48,9 +62,18 @@ public class RedisQueueService implements QueueService {
         return processingSet.contains(concertId, userId);
     }
 
+    @Override
+    public Long getProcessingRemainingSeconds(Long concertId, String userId) {
+        Long remainingMillis = processingSet.remainingMillis(concertId, userId);
+        return remainingMillis != null ? (remainingMillis + 999) / 1000 : null;
+    }
+
+    /**
+     * 스케줄러 스레드에서 호출되므로 락을 기다리지 않는다. 다른 곳에서 입장 처리 중이면 빈 목록을 반환하고 다음 틱에 다시 처리한다.
+     */
     @Override
     public List<String> permitProcessing(Long concertId) {
-        return redissonLockTemplate.executeWithLock(LockKey.queueEnter(concertId), () -> moveToProcessing(concertId));
+        return redissonLockTemplate.tryExecuteWithLock(LockKey.queueEnter(concertId), () -> moveToProcessing(concertId), List.of());
     }
 
     @Override
@@ -64,10 +87,30 @@ public class RedisQueueService implements QueueService {
     }
 
     @Override
-    public List<String> getWaitingUsers(Long concertId) {
-        return waitingQueue.getAll(concertId);
+    public Map<String, Long> getAllPositions(Long concertId) {
+        return waitingQueue.getAllPositions(concertId);
+    }
+
+    @Override
+    public Map<String, Long> getPositions(Long concertId, List<String> userIds) {
+        return waitingQueue.ranks(concertId, userIds);
     }
 
+    @Override
+    public List<String> expireProcessing(Long concertId, List<String> candidates) {
+        List<String> expiredUsers = processingSet.removeExpired(concertId, candidates, System.currentTimeMillis());
+        queueMetrics.incrementProcessingExpired(concertId, expiredUsers.size());
+        return expiredUsers;
+    }
+
+    @Override
+    public List<String> reclaimExpiredProcessing(Long concertId, int limit) {
+        List<String> expiredUsers = processingSet.pollExpired(concertId, System.currentTimeMillis(), limit);
+        queueMetrics.incrementProcessingExpired(concertId, expiredUsers.size());
+        return expiredUsers;
+    }
+
+    @Override
     public Long getPosition(Long concertId, String userId) {
         return waitingQueue.rank(concertId, userId);
     }
@@ -87,7 +130,8 @@ public class RedisQueueService implements QueueService {
                 .map(PolledUser::userId)
                 .toList();
 
-        processingSet.addAll(concertId, userIds);
+        long deadline = processingSet.addAll(concertId, userIds);
+        slotExpiryWheel.schedule(concertId, userIds, deadline);
 
         for (PolledUser polledUser : polledUsers) {
             queueMetrics.recordWaitingTime(concertId, polledUser.waitingTimeMs());
@@ -104,7 +148,8 @@ public class RedisQueueService implements QueueService {
 
         PolledUser polledUser = waitingQueue.pollTopUserWithWaitingTime(concertId);
         if (polledUser != null) {
-            processingSet.add(concertId, polledUser.userId());
+            long deadline = processingSet.add(concertId, polledUser.userId());
+            slotExpiryWheel.schedule(concertId, List.of(polledUser.userId()), deadline);
             queueMetrics.recordWaitingTime(concertId, polledUser.waitingTimeMs());
             queueMetrics.incrementProcessingEntered(concertId);
             return polledUser.userId();
@@ -125,5 +170,20 @@ public class RedisQueueService implements QueueService {
             queueMetrics.incrementQueueRejected(concertId, "full");
             throw new QueueFullException("현재 대기 인원이 많아 접수가 어렵습니다. 잠시 후 다시 시도해주세요.");
         }
+        if (isLikelySoldOut(concertId)) {
+            queueMetrics.incrementQueueRejected(concertId, "sold_out");
+            throw new LikelySoldOutException("남은 좌석보다 대기 인원이 많아 매진이 예상됩니다.");
+        }
+    }
+
+    /**
+     * 대기 + 처리 인원이 남은 재고로 구매 가능한 인원을 넘었는지 확인한다.
+     */
+    private boolean isLikelySoldOut(Long concertId) {
+        long capacity = stockAwareQueueCap.capacity(concertId);
+        if (capacity == Long.MAX_VALUE) {
+            return false;
+        }
+        return waitingQueue.size(concertId) + processingSet.size(concertId) >= capacity;
     }
 }
@@ -0,0 +1,92 @@
+package com.ticket_service.queue.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 처리열 만료 예정을 관리하는 해시 타이밍 휠
+ * 만료 시각을 틱 단위로 나눠 슬롯에 넣고, 매 틱마다 현재 슬롯만 확인하므로
+ * 입장 인원이 많아도 틱당 비용은 그 틱에 만료되는 묶음 수에 비례한다.
+ * 한 바퀴보다 먼 만료 시각은 같은 슬롯에 남겨두었다가 해당 바퀴에 꺼낸다.
+ *
+ * 이 서버가 입장시킨 사용자만 등록되므로, 서버 재시작이나 다른 서버 입장분은
+ * ProcessingExpiryReaper의 주기적 정리가 처리한다.
+ */
+@Component
+public class SlotExpiryWheel {
+
+    private final long tickMillis;
+    private final List<List<ExpiringSlot>> buckets;
+    private long lastTick = -1;
+
+    public SlotExpiryWheel(@Value("${queue.expiry.tick:1s}") Duration tick,
+                           @Value("${queue.expiry.wheel-size:512}") int wheelSize) {
+        this.tickMillis = tick.toMillis();
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    public synchronized void schedule(Long concertId, List<String> userIds, long deadline) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // 만료 시각 이후의 첫 틱에 넣어, 슬롯을 확인할 때 그 안의 묶음은 이번 바퀴 것이면 모두 만료되어 있도록 한다
+        // 이미 지나간 틱에 넣으면 한 바퀴를 더 기다리게 되므로 다음 틱으로 당긴다
+        long tick = Math.max(ceilTickOf(deadline), lastTick + 1);
+        bucketOf(tick).add(new ExpiringSlot(concertId, List.copyOf(userIds), deadline));
+    }
+
+    /**
+     * 마지막 호출 이후 지나간 틱의 슬롯을 확인하고 만료된 묶음을 꺼낸다.
+     */
+    public synchronized List<ExpiringSlot> advance(long now) {
+        long currentTick = tickOf(now);
+        if (lastTick < 0) {
+            lastTick = currentTick - 1;
+        }
+
+        List<ExpiringSlot> expired = new ArrayList<>();
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인하면 된다
+        long fromTick = Math.max(lastTick + 1, currentTick - buckets.size() + 1);
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            Iterator<ExpiringSlot> iterator = bucketOf(tick).iterator();
+            while (iterator.hasNext()) {
+                ExpiringSlot slot = iterator.next();
+                if (slot.deadline() <= now) {
+                    expired.add(slot);
+                    iterator.remove();
+                }
+            }
+        }
+        lastTick = Math.max(lastTick, currentTick);
+        return expired;
+    }
+
+    public synchronized int size() {
+        int size = 0;
+        for (List<ExpiringSlot> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    private long tickOf(long epochMillis) {
+        return epochMillis / tickMillis;
+    }
+
+    private long ceilTickOf(long epochMillis) {
+        return (epochMillis + tickMillis - 1) / tickMillis;
+    }
+
+    private List<ExpiringSlot> bucketOf(long tick) {
+        return buckets.get((int) (tick % buckets.size()));
+    }
+}
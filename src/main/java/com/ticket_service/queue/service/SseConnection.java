@@ -0,0 +1,99 @@
+package com.ticket_service.queue.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이 서버에 연결된 사용자 한 명의 SSE 연결
+ * 순번 변화가 있을 때만 전송하기 위해 마지막으로 관측/전송한 순번을 함께 보관한다.
+ *
+ * 전송은 연결별 ReentrantLock으로 직렬화한다.
+ * SseEmitter 내부 동기화 구간에 여러 스레드가 동시에 진입하려 하면, 가상 스레드는 모니터 대기 중 캐리어 스레드를 점유한다.
+ * 먼저 이 락에서 대기시키면 대기 중인 가상 스레드는 캐리어에서 내려간다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SseConnection {
+
+    private static final long NONE = -1L;
+
+    private final Long concertId;
+    private final String userId;
+    private final SseEmitter emitter;
+
+    private volatile long observedPosition = NONE;
+    private volatile long lastSentPosition = NONE;
+    private volatile long lastSentAtMillis;
+
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock sendLock = new ReentrantLock();
+
+    public void send(SseEventBuilder event) throws IOException {
+        sendLock.lock();
+        try {
+            emitter.send(event);
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    public void send(Set<DataWithMediaType> items) throws IOException {
+        sendLock.lock();
+        try {
+            emitter.send(items);
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * 전송 후 연결을 완료한다. 진행 중인 전송이 끝난 뒤에 완료된다.
+     */
+    public void sendAndComplete(Set<DataWithMediaType> items) throws IOException {
+        sendLock.lock();
+        try {
+            emitter.send(items);
+            emitter.complete();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    public void sendAndComplete(SseEventBuilder event) throws IOException {
+        sendLock.lock();
+        try {
+            emitter.send(event);
+            emitter.complete();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * 이번 틱에 조회된 순번을 기록한다.
+     *
+     * @return 처음 관측했거나 이전 틱에 관측한 순번과 다르면 true
+     */
+    public boolean observePosition(long position) {
+        long previous = observedPosition;
+        observedPosition = position;
+        return previous != position;
+    }
+
+    public void markPositionSent(long position, long sentAtMillis) {
+        lastSentPosition = position;
+        lastSentAtMillis = sentAtMillis;
+    }
+
+    public boolean hasSentPosition() {
+        return lastSentPosition != NONE;
+    }
+}
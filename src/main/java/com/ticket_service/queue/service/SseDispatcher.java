@@ -0,0 +1,97 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.config.BoundedVirtualThreadExecutor;
+import com.ticket_service.common.metrics.QueueMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 우선순위에 따른 SSE 작업 실행
+ * 입장 이벤트를 받지 못한 사용자는 입장 시간 동안 자리만 차지하다 만료되므로, 부하 상황에서도 입장 이벤트는 버리지 않는다.
+ *
+ * 1. critical (입장): 실행기가 거절하면 호출 스레드에서 직접 실행한다. 호출한 쪽이 느려지는 것으로 부하가 전달된다.
+ * 2. best-effort (순번): 실행기 큐(가상 스레드 모드에서는 동시 실행 허가)가 shed-threshold 이상 차 있으면 제출하지 않고 버린다.
+ *    입장 이벤트가 쓸 큐 여유를 남겨두며, 버려진 순번은 다음 브로드캐스트에서 최신 값으로 다시 전송된다.
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final Executor sseTaskExecutor;
+    private final QueueMetrics queueMetrics;
+    private final double shedThreshold;
+
+    public SseDispatcher(@Qualifier("sseTaskExecutor") Executor sseTaskExecutor,
+                         QueueMetrics queueMetrics,
+                         @Value("${sse.dispatch.shed-threshold:0.5}") double shedThreshold) {
+        this.sseTaskExecutor = sseTaskExecutor;
+        this.queueMetrics = queueMetrics;
+        this.shedThreshold = shedThreshold;
+        if (sseTaskExecutor instanceof ThreadPoolTaskExecutor threadPool) {
+            queueMetrics.registerSseExecutorGauges(threadPool);
+        } else if (sseTaskExecutor instanceof BoundedVirtualThreadExecutor virtualThreads) {
+            queueMetrics.registerSseExecutorGauges(virtualThreads);
+        }
+    }
+
+    /**
+     * 버려지지 않는 작업을 실행한다.
+     */
+    public <T> CompletableFuture<T> submitCritical(String eventName, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, sseTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            queueMetrics.incrementSseDispatchCallerRuns(eventName);
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException taskFailure) {
+                return CompletableFuture.failedFuture(taskFailure);
+            }
+        }
+    }
+
+    /**
+     * 여유가 있을 때만 실행한다.
+     *
+     * @return 작업이 실행되면 true, 버려지면 false로 완료되는 Future
+     */
+    public CompletableFuture<Boolean> submitBestEffort(String eventName, Runnable task) {
+        if (isSaturated()) {
+            queueMetrics.incrementSseDispatchDropped(eventName, "shed");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                task.run();
+                return true;
+            }, sseTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("SSE 작업 거절: event={}", eventName);
+            queueMetrics.incrementSseDispatchDropped(eventName, "rejected");
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    /**
+     * 스레드 풀은 큐 사용률, 가상 스레드 모드는 동시 실행 허가 사용률로 판단한다.
+     */
+    private boolean isSaturated() {
+        if (sseTaskExecutor instanceof ThreadPoolTaskExecutor threadPool) {
+            int capacity = threadPool.getQueueCapacity();
+            return capacity > 0 && threadPool.getQueueSize() >= capacity * shedThreshold;
+        }
+        if (sseTaskExecutor instanceof BoundedVirtualThreadExecutor virtualThreads) {
+            return virtualThreads.getActiveCount() >= virtualThreads.getConcurrencyLimit() * shedThreshold;
+        }
+        return false;
+    }
+}
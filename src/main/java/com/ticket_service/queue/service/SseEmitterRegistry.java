@@ -0,0 +1,94 @@
+package com.ticket_service.queue.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공연별로 인덱싱된 SSE 연결 저장소
+ * 공연 ID -> (사용자 ID -> 연결) 2단계 맵으로 관리하여
+ * 공연 목록 조회와 공연별 순회에 키 파싱이 필요 없고, 전체 연결 수는 별도로 유지한다.
+ */
+public class SseEmitterRegistry {
+
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<String, SseConnection>> connectionsByConcert = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    /**
+     * 연결을 등록한다.
+     *
+     * @return 같은 사용자의 기존 연결, 없으면 null
+     */
+    public SseConnection register(SseConnection connection) {
+        ConcurrentHashMap<String, SseConnection> connections =
+                connectionsByConcert.computeIfAbsent(connection.getConcertId(), id -> new ConcurrentHashMap<>());
+
+        SseConnection previous = connections.put(connection.getUserId(), connection);
+        if (previous == null) {
+            connectionCount.incrementAndGet();
+        }
+        return previous;
+    }
+
+    public SseConnection get(Long concertId, String userId) {
+        Map<String, SseConnection> connections = connectionsByConcert.get(concertId);
+        return connections != null ? connections.get(userId) : null;
+    }
+
+    /**
+     * 현재 등록된 연결을 꺼낸다. 동시에 호출되어도 한 호출만 연결을 받는다.
+     */
+    public SseConnection take(Long concertId, String userId) {
+        Map<String, SseConnection> connections = connectionsByConcert.get(concertId);
+        if (connections == null) {
+            return null;
+        }
+
+        SseConnection connection = connections.remove(userId);
+        if (connection != null) {
+            connectionCount.decrementAndGet();
+        }
+        return connection;
+    }
+
+    /**
+     * 주어진 연결이 아직 등록된 연결일 때만 제거한다.
+     * 재연결로 교체된 이전 연결의 콜백이 새 연결을 지우지 않도록 한다.
+     */
+    public boolean remove(SseConnection connection) {
+        Map<String, SseConnection> connections = connectionsByConcert.get(connection.getConcertId());
+        if (connections != null && connections.remove(connection.getUserId(), connection)) {
+            connectionCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    public Set<Long> concertIds() {
+        Set<Long> concertIds = new HashSet<>();
+        connectionsByConcert.forEach((concertId, connections) -> {
+            if (!connections.isEmpty()) {
+                concertIds.add(concertId);
+            }
+        });
+        return concertIds;
+    }
+
+    public Collection<SseConnection> connections(Long concertId) {
+        Map<String, SseConnection> connections = connectionsByConcert.get(concertId);
+        return connections != null ? connections.values() : Collections.emptyList();
+    }
+
+    public int count() {
+        return connectionCount.get();
+    }
+
+    public int count(Long concertId) {
+        Map<String, SseConnection> connections = connectionsByConcert.get(concertId);
+        return connections != null ? connections.size() : 0;
+    }
+}
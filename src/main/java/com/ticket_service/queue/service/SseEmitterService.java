@@ -1,24 +1,20 @@
 package com.ticket_service.queue.service;
 
 import com.ticket_service.queue.service.dto.QueueEventType;
-import com.ticket_service.queue.service.dto.QueuePositionEvent;
+import com.ticket_service.queue.service.dto.QueueReconnectEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
@@ -27,143 +23,306 @@ public class SseEmitterService {
     @Value("${queue.sse-timeout}")
     private Duration sseTimeout;
 
-    private final ConcurrentHashMap<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Executor sseTaskExecutor;
+    private final SseEmitterRegistry registry = new SseEmitterRegistry();
+    private final SseDispatcher sseDispatcher;
+    private final SseFanOutEngine sseFanOutEngine;
+    private final SseFrameCache sseFrameCache;
 
-    public SseEmitterService(@Qualifier("sseTaskExecutor") Executor sseTaskExecutor) {
-        this.sseTaskExecutor = sseTaskExecutor;
+    public SseEmitterService(SseDispatcher sseDispatcher,
+                             SseFanOutEngine sseFanOutEngine,
+                             SseFrameCache sseFrameCache) {
+        this.sseDispatcher = sseDispatcher;
+        this.sseFanOutEngine = sseFanOutEngine;
+        this.sseFrameCache = sseFrameCache;
     }
 
     public SseEmitter createEmitter(Long concertId, String userId) {
-        String key = buildKey(concertId, userId);
-
-        emitters.computeIfPresent(key, (k, existing) -> {
-            existing.complete();
-            return null;
-        });
-
         SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
-        registerCallbacks(emitter, key, concertId, userId);
+        SseConnection connection = new SseConnection(concertId, userId, emitter);
+        registerCallbacks(connection);
 
-        emitters.put(key, emitter);
+        SseConnection previous = registry.register(connection);
+        if (previous != null) {
+            previous.getEmitter().complete();
+        }
         return emitter;
     }
 
-    public void sendEvent(Long concertId, String userId, QueueEventType eventType, Object data) {
-        String key = buildKey(concertId, userId);
+    /**
+     * @return emitter가 존재하고 전송 성공 시 true
+     */
+    public boolean sendEvent(Long concertId, String userId, QueueEventType eventType, Object data) {
+        SseConnection connection = registry.get(concertId, userId);
+        if (connection == null) {
+            return false;
+        }
 
-        emitters.computeIfPresent(key, (k, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventType.getValue())
-                        .data(data));
-                return emitter;
-            } catch (IOException e) {
-                log.warn("SSE 이벤트 전송 실패: concertId={}, userId={}", concertId, userId, e);
-                return null;
-            }
-        });
+        try {
+            connection.send(SseEmitter.event()
+                    .name(eventType.getValue())
+                    .id(SseEventIds.of(eventType, data))
+                    .data(data));
+            return true;
+        } catch (IOException e) {
+            log.warn("SSE 이벤트 전송 실패: concertId={}, userId={}", concertId, userId, e);
+            registry.remove(connection);
+            return false;
+        }
+    }
+
+    /**
+     * 미리 인코딩된 프레임을 그대로 전송한다.
+     *
+     * @return emitter가 존재하고 전송 성공 시 true
+     */
+    public boolean sendFrame(Long concertId, String userId, SseFrame frame) {
+        SseConnection connection = registry.get(concertId, userId);
+        return connection != null && sendFrame(connection, frame);
+    }
+
+    /**
+     * 이미 완료된 emitter(IllegalStateException)나 끊어진 연결(IOException)은 저장소에서 제거한다.
+     */
+    private boolean sendFrame(SseConnection connection, SseFrame frame) {
+        try {
+            connection.send(frame.getItems());
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 이벤트 전송 실패: concertId={}, userId={}", connection.getConcertId(), connection.getUserId(), e);
+            registry.remove(connection);
+            return false;
+        }
     }
 
     /**
-     * 비동기로 SSE 이벤트를 전송한다.
+     * 비동기로 SSE 이벤트를 전송한다. 실행기가 밀려 있으면 전송하지 않는다.
      */
     public CompletableFuture<Void> sendEventAsync(Long concertId, String userId, QueueEventType eventType, Object data) {
-        return CompletableFuture.runAsync(
-                () -> sendEvent(concertId, userId, eventType, data),
-                sseTaskExecutor
-        );
+        return sseDispatcher.submitBestEffort(
+                eventType.getValue(),
+                () -> sendEvent(concertId, userId, eventType, data)
+        ).thenAccept(executed -> {
+        });
     }
 
     /**
      * 이벤트 전송 후 emitter를 완료 처리한다. (원자적 연산)
      * Pub/Sub에서 enter 이벤트 수신 시 사용한다.
+     * 연결을 먼저 저장소에서 꺼내므로 동시에 호출되어도 한 번만 전송된다.
      *
      * @return emitter가 존재하고 전송 성공 시 true
      */
     public boolean sendEventAndComplete(Long concertId, String userId, QueueEventType eventType, Object data) {
-        String key = buildKey(concertId, userId);
-        AtomicBoolean sent = new AtomicBoolean(false);
-
-        emitters.computeIfPresent(key, (k, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventType.getValue())
-                        .data(data));
-                sent.set(true);
-                emitter.complete();
-            } catch (IOException e) {
-                log.warn("SSE 이벤트 전송 실패: concertId={}, userId={}", concertId, userId, e);
-            }
-            return null;
-        });
+        SseConnection connection = registry.take(concertId, userId);
+        if (connection == null) {
+            return false;
+        }
+
+        try {
+            connection.sendAndComplete(SseEmitter.event()
+                    .name(eventType.getValue())
+                    .id(SseEventIds.of(eventType, data))
+                    .data(data));
+            return true;
+        } catch (IOException e) {
+            log.warn("SSE 이벤트 전송 실패: concertId={}, userId={}", concertId, userId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 미리 인코딩된 프레임을 전송한 후 emitter를 완료 처리한다. (원자적 연산)
+     *
+     * @return emitter가 존재하고 전송 성공 시 true
+     */
+    public boolean sendFrameAndComplete(Long concertId, String userId, SseFrame frame) {
+        SseConnection connection = registry.take(concertId, userId);
+        if (connection == null) {
+            return false;
+        }
 
-        return sent.get();
+        try {
+            connection.sendAndComplete(frame.getItems());
+            return true;
+        } catch (IOException e) {
+            log.warn("SSE 이벤트 전송 실패: concertId={}, userId={}", concertId, userId, e);
+            return false;
+        }
     }
 
     /**
-     * 비동기로 이벤트 전송 후 emitter를 완료 처리한다.
+     * 비동기로 이벤트 전송 후 emitter를 완료 처리한다. 실행기가 거절하면 호출 스레드에서 전송한다.
      */
     public CompletableFuture<Boolean> sendEventAndCompleteAsync(Long concertId, String userId, QueueEventType eventType, Object data) {
-        return CompletableFuture.supplyAsync(
-                () -> sendEventAndComplete(concertId, userId, eventType, data),
-                sseTaskExecutor
+        return sseDispatcher.submitCritical(
+                eventType.getValue(),
+                () -> sendEventAndComplete(concertId, userId, eventType, data)
+        );
+    }
+
+    /**
+     * 입장 이벤트를 전송한 후 emitter를 완료 처리한다.
+     *
+     * @return emitter가 존재하고 전송 성공 시 true
+     */
+    public boolean sendEnterAndComplete(Long concertId, String userId) {
+        return sendFrameAndComplete(concertId, userId, sseFrameCache.enter());
+    }
+
+    /**
+     * 남은 구매 가능 시간을 담은 입장 이벤트를 전송한 후 emitter를 완료 처리한다.
+     * 재연결한 사용자가 연결이 끊긴 동안 놓친 입장 이벤트를 다시 받을 때 사용한다.
+     *
+     * @return emitter가 존재하고 전송 성공 시 true
+     */
+    public boolean sendEnterAndComplete(Long concertId, String userId, long expiresInSeconds) {
+        return sendFrameAndComplete(concertId, userId, sseFrameCache.enter(expiresInSeconds));
+    }
+
+    /**
+     * 비동기로 입장 이벤트를 전송한 후 emitter를 완료 처리한다.
+     * 입장 이벤트는 내용이 항상 같으므로 공유 프레임을 사용하며, 실행기가 거절해도 버리지 않는다.
+     */
+    public CompletableFuture<Boolean> sendEnterAndCompleteAsync(Long concertId, String userId) {
+        return sseDispatcher.submitCritical(
+                QueueEventType.ENTER.getValue(),
+                () -> sendEnterAndComplete(concertId, userId)
         );
     }
 
+    /**
+     * 이 서버에 연결된 사용자에게만 입장 이벤트 전송 작업을 만든다. 연결이 없는 사용자는 맵 조회만 하고 건너뛴다.
+     *
+     * @return 전송 작업을 만든 사용자 수
+     */
+    public int sendEnterAndCompleteToLocal(Long concertId, List<String> userIds) {
+        int local = 0;
+        for (String userId : userIds) {
+            if (registry.get(concertId, userId) != null) {
+                sendEnterAndCompleteAsync(concertId, userId);
+                local++;
+            }
+        }
+        return local;
+    }
+
+    /**
+     * 이 서버에 연결된 사용자에게만 입장 이벤트를 전송하고, 모든 전송이 끝나면 완료되는 Future를 반환한다.
+     * 전송 결과를 확인한 뒤에 메시지를 ACK해야 하는 Streams 전달 방식에서 사용한다.
+     *
+     * @return 모든 전송이 성공하면 true, 전송에 실패한 사용자가 있으면 false로 완료되는 Future
+     */
+    public CompletableFuture<Boolean> sendEnterAndCompleteToLocalAsync(Long concertId, List<String> userIds) {
+        List<CompletableFuture<Boolean>> sends = new ArrayList<>();
+        for (String userId : userIds) {
+            if (registry.get(concertId, userId) != null) {
+                sends.add(sendEnterAndCompleteAsync(concertId, userId));
+            }
+        }
+        return CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .thenApply(done -> sends.stream().allMatch(CompletableFuture::join));
+    }
+
     public void completeEmitter(Long concertId, String userId) {
-        String key = buildKey(concertId, userId);
-        emitters.computeIfPresent(key, (k, emitter) -> {
-            emitter.complete();
-            return null;
-        });
+        SseConnection connection = registry.take(concertId, userId);
+        if (connection != null) {
+            connection.getEmitter().complete();
+        }
+    }
+
+    /**
+     * 모든 연결에 재연결 이벤트를 보내고 종료한다. (서버 종료 시)
+     * 재연결 대기 시간은 연결마다 jitterWindowMillis 안에서 무작위로 정하며, SSE retry 필드에도 같은 값을 설정한다.
+     *
+     * @return 재연결 이벤트를 보낸 연결 수
+     */
+    public int reconnectAll(long jitterWindowMillis) {
+        int sent = 0;
+        for (Long concertId : registry.concertIds()) {
+            for (String userId : getConnectedUserIds(concertId)) {
+                SseConnection connection = registry.take(concertId, userId);
+                if (connection == null) {
+                    continue;
+                }
+
+                long reconnectAfterMillis = jitterWindowMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterWindowMillis) : 0L;
+                try {
+                    connection.sendAndComplete(SseEmitter.event()
+                            .name(QueueEventType.RECONNECT.getValue())
+                            .reconnectTime(reconnectAfterMillis)
+                            .data(new QueueReconnectEvent(reconnectAfterMillis, true)));
+                    sent++;
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("재연결 이벤트 전송 실패: concertId={}, userId={}", concertId, userId, e);
+                }
+            }
+        }
+        return sent;
     }
 
-    private String buildKey(Long concertId, String userId) {
-        return concertId + ":" + userId;
+    public boolean isConnected(Long concertId, String userId) {
+        return registry.get(concertId, userId) != null;
     }
 
     public Set<Long> getActiveConcertIds() {
-        return emitters.keySet().stream()
-                .map(key -> Long.parseLong(key.split(":")[0]))
-                .collect(Collectors.toSet());
+        return registry.concertIds();
     }
 
     public int getActiveConnectionCount() {
-        return emitters.size();
+        return registry.count();
     }
 
-    public void broadcastPositions(Long concertId, List<String> waitingUsers) {
-        for (int i = 0; i < waitingUsers.size(); i++) {
-            sendEvent(concertId, waitingUsers.get(i), QueueEventType.QUEUE_POSITION, new QueuePositionEvent(i));
-        }
+    public int getActiveConnectionCount(Long concertId) {
+        return registry.count(concertId);
     }
 
     /**
-     * 비동기로 모든 대기자에게 순번 정보를 병렬 전송한다.
-     * 모든 전송이 완료될 때까지 기다린다.
+     * 이 서버에 연결된 사용자들의 연결 목록을 반환한다.
+     * 순번 브로드캐스트는 이 연결들에 대해서만 순번을 조회하고 전송한다.
      */
-    public CompletableFuture<Void> broadcastPositionsAsync(Long concertId, List<String> waitingUsers) {
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-        for (int i = 0; i < waitingUsers.size(); i++) {
-            final int position = i;
-            CompletableFuture<Void> future = CompletableFuture.runAsync(
-                    () -> sendEvent(concertId, waitingUsers.get(position), QueueEventType.QUEUE_POSITION, new QueuePositionEvent(position)),
-                    sseTaskExecutor
-            );
-            futures.add(future);
+    public Collection<SseConnection> getConnections(Long concertId) {
+        return registry.connections(concertId);
+    }
+
+    public List<String> getConnectedUserIds(Long concertId) {
+        Collection<SseConnection> connections = registry.connections(concertId);
+        List<String> userIds = new ArrayList<>(connections.size());
+        for (SseConnection connection : connections) {
+            userIds.add(connection.getUserId());
         }
+        return userIds;
+    }
 
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    /**
+     * 비동기로 순번 변경분을 청크 단위로 병렬 전송한다.
+     * 순번 이벤트는 캐시된 프레임을 사용하므로 사용자마다 JSON 직렬화를 하지 않으며,
+     * 전송에 성공한 연결에는 전송한 순번과 시각을 기록한다.
+     * 모든 청크의 전송이 완료되면 전송/유실 건수와 소요 시간을 반환한다.
+     */
+    public CompletableFuture<FanOutResult> broadcastPositionsAsync(List<PositionUpdate> updates) {
+        return sseFanOutEngine.fanOut(
+                QueueEventType.QUEUE_POSITION.getValue(),
+                updates,
+                update -> {
+                    boolean sent = sendFrame(update.connection(), sseFrameCache.position(update.position(), update.estimatedWaitSeconds()));
+                    if (sent) {
+                        update.connection().markPositionSent(update.position(), System.currentTimeMillis());
+                    }
+                    return sent;
+                }
+        );
     }
 
-    private void registerCallbacks(SseEmitter emitter, String key, Long concertId, String userId) {
-        emitter.onCompletion(() -> emitters.remove(key, emitter));
+    private void registerCallbacks(SseConnection connection) {
+        SseEmitter emitter = connection.getEmitter();
+        Long concertId = connection.getConcertId();
+        String userId = connection.getUserId();
+
+        emitter.onCompletion(() -> registry.remove(connection));
 
         emitter.onTimeout(() -> {
             emitter.complete();
-            log.info("SSE 연결 타임아웃: key={}", key);
+            log.info("SSE 연결 타임아웃: concertId={}, userId={}", concertId, userId);
         });
 
         emitter.onError(e -> {
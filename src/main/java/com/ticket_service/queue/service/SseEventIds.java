@@ -0,0 +1,32 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.queue.service.dto.QueueEventType;
+import com.ticket_service.queue.service.dto.QueuePositionEvent;
+
+/**
+ * SSE 이벤트 id
+ * 이벤트 종류에 순번을 붙인 값이며, 클라이언트가 재연결할 때 Last-Event-ID 헤더로 돌려받는다.
+ * 서버의 상태 조회 결과만으로 다시 만들 수 있는 값이므로 서버 간 공유 저장소가 필요 없다.
+ */
+final class SseEventIds {
+
+    private static final String SEPARATOR = ":";
+
+    private SseEventIds() {
+    }
+
+    static String of(QueueEventType eventType, Object data) {
+        if (data instanceof QueuePositionEvent positionEvent) {
+            return position(positionEvent.getPosition());
+        }
+        return eventType.getValue();
+    }
+
+    static String position(long position) {
+        return QueueEventType.QUEUE_POSITION.getValue() + SEPARATOR + position;
+    }
+
+    static boolean isEnter(String eventId) {
+        return QueueEventType.ENTER.getValue().equals(eventId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 대량 SSE 전송을 청크 단위로 나눠 실행한다.
+ * 수신자마다 작업을 만들지 않고 워커 수만큼의 청크로 나눠 각 청크를 한 작업에서 순차 전송하므로,
+ * 생성되는 작업과 Future 수는 대기 인원과 무관하게 max-chunks 이하로 유지된다.
+ */
+@Slf4j
+@Component
+public class SseFanOutEngine {
+
+    private final SseDispatcher sseDispatcher;
+    private final QueueMetrics queueMetrics;
+
+    @Value("${sse.fan-out.max-chunks:8}")
+    private int maxChunks;
+
+    @Value("${sse.fan-out.min-chunk-size:200}")
+    private int minChunkSize;
+
+    public SseFanOutEngine(SseDispatcher sseDispatcher, QueueMetrics queueMetrics) {
+        this.sseDispatcher = sseDispatcher;
+        this.queueMetrics = queueMetrics;
+    }
+
+    /**
+     * 수신자 목록을 청크로 나눠 전송한다.
+     * delivery가 false를 반환하거나 예외가 발생한 수신자, 부하로 버려진 청크의 수신자는 유실로 집계한다.
+     * 청크는 best-effort로 제출되므로 실행기가 밀려 있으면 입장 이벤트보다 먼저 버려진다.
+     *
+     * @param eventName 메트릭 태그로 사용할 이벤트 이름
+     * @param delivery  수신자 한 명에게 전송하고 성공 여부를 반환한다
+     */
+    public <T> CompletableFuture<FanOutResult> fanOut(String eventName, List<T> recipients, Predicate<T> delivery) {
+        long startedAt = System.nanoTime();
+        if (recipients.isEmpty()) {
+            return CompletableFuture.completedFuture(new FanOutResult(0, 0, 0L));
+        }
+
+        int chunkCount = chunkCount(recipients.size());
+        int chunkSize = (recipients.size() + chunkCount - 1) / chunkCount;
+        AtomicInteger delivered = new AtomicInteger();
+        AtomicInteger dropped = new AtomicInteger();
+
+        CompletableFuture<?>[] futures = new CompletableFuture[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            int from = i * chunkSize;
+            List<T> chunk = recipients.subList(from, Math.min(from + chunkSize, recipients.size()));
+            futures[i] = submitChunk(eventName, chunk, delivery, delivered, dropped);
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(ignored -> {
+            long durationNanos = System.nanoTime() - startedAt;
+            queueMetrics.recordSseFanOut(eventName, durationNanos, delivered.get(), dropped.get());
+            return new FanOutResult(delivered.get(), dropped.get(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        });
+    }
+
+    private int chunkCount(int recipientCount) {
+        int byMinChunkSize = (recipientCount + Math.max(minChunkSize, 1) - 1) / Math.max(minChunkSize, 1);
+        return Math.max(1, Math.min(Math.max(maxChunks, 1), byMinChunkSize));
+    }
+
+    private <T> CompletableFuture<Void> submitChunk(String eventName, List<T> chunk, Predicate<T> delivery,
+                                                    AtomicInteger delivered, AtomicInteger dropped) {
+        return sseDispatcher.submitBestEffort(eventName, () -> deliverChunk(chunk, delivery, delivered, dropped))
+                .thenAccept(executed -> {
+                    if (!executed) {
+                        log.debug("SSE 전송 청크 버림: event={}, size={}", eventName, chunk.size());
+                        dropped.addAndGet(chunk.size());
+                    }
+                });
+    }
+
+    private <T> void deliverChunk(List<T> chunk, Predicate<T> delivery,
+                                  AtomicInteger delivered, AtomicInteger dropped) {
+        int sent = 0;
+        int failed = 0;
+        for (T recipient : chunk) {
+            try {
+                if (delivery.test(recipient)) {
+                    sent++;
+                } else {
+                    failed++;
+                }
+            } catch (RuntimeException e) {
+                failed++;
+            }
+        }
+        delivered.addAndGet(sent);
+        dropped.addAndGet(failed);
+    }
+}
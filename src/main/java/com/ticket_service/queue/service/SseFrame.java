@@ -0,0 +1,40 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.queue.service.dto.QueueEventType;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 미리 인코딩된 SSE 이벤트 한 건 ("event:...\nid:...\ndata:...\n\n")
+ * 불변 바이트 배열이므로 여러 emitter가 같은 인스턴스를 공유해서 쓸 수 있다.
+ */
+@Getter
+public class SseFrame {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final Set<DataWithMediaType> items;
+
+    private SseFrame(byte[] bytes) {
+        this.items = Set.of(new DataWithMediaType(bytes, TEXT_PLAIN_UTF8));
+    }
+
+    public static SseFrame of(QueueEventType eventType, String eventId, byte[] jsonData) {
+        byte[] prefix = ("event:" + eventType.getValue() + "\nid:" + eventId + "\ndata:").getBytes(StandardCharsets.UTF_8);
+        byte[] suffix = "\n\n".getBytes(StandardCharsets.UTF_8);
+
+        byte[] bytes = new byte[prefix.length + jsonData.length + suffix.length];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        System.arraycopy(jsonData, 0, bytes, prefix.length, jsonData.length);
+        System.arraycopy(suffix, 0, bytes, prefix.length + jsonData.length, suffix.length);
+        return new SseFrame(bytes);
+    }
+
+    public byte[] getBytes() {
+        return (byte[]) items.iterator().next().getData();
+    }
+}
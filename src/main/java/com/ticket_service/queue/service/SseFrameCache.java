@@ -0,0 +1,91 @@
+package com.ticket_service.queue.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket_service.queue.service.dto.QueueCountdownEvent;
+import com.ticket_service.queue.service.dto.QueueEnterEvent;
+import com.ticket_service.queue.service.dto.QueueEventType;
+import com.ticket_service.queue.service.dto.QueuePositionEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 대기열 이벤트의 SSE 프레임 캐시
+ * 같은 내용의 이벤트는 한 번만 JSON으로 인코딩하고, 이후에는 인코딩된 바이트를 그대로 전송한다.
+ * 입장 이벤트는 구매 가능 시간이 모든 사용자에게 같으므로 하나의 프레임을 공유한다.
+ * 순번 이벤트는 순번별로 캐시하므로 대기열이 줄어드는 동안 이전 틱에 만든 프레임이 재사용된다.
+ * 모든 프레임에는 재연결 시 상태를 이어받을 수 있도록 이벤트 id(SseEventIds)가 포함된다.
+ */
+@Component
+public class SseFrameCache {
+
+    private final ObjectMapper objectMapper;
+    private final AtomicReferenceArray<PositionFrame> positionFrames;
+    private final SseFrame enterFrame;
+
+    public SseFrameCache(ObjectMapper objectMapper,
+                         @Value("${sse.frame-cache.max-position:20000}") int maxCachedPosition,
+                         @Value("${queue.entry-timeout}") Duration entryTimeout) {
+        this.objectMapper = objectMapper;
+        this.positionFrames = new AtomicReferenceArray<>(maxCachedPosition);
+        this.enterFrame = encode(QueueEventType.ENTER, QueueEnterEvent.processing(entryTimeout.toSeconds()));
+    }
+
+    public SseFrame enter() {
+        return enterFrame;
+    }
+
+    /**
+     * 남은 구매 가능 시간을 담은 입장 프레임. 재연결한 사용자마다 값이 다르므로 캐시하지 않는다.
+     */
+    public SseFrame enter(long expiresInSeconds) {
+        return encode(QueueEventType.ENTER, QueueEnterEvent.processing(expiresInSeconds));
+    }
+
+    public SseFrame position(long position) {
+        return position(position, null);
+    }
+
+    /**
+     * 순번 프레임을 반환한다.
+     * 캐시된 프레임의 예상 대기 시간이 다르면 새로 인코딩해 교체한다.
+     * 예상 시간은 일정 단위로 올림되어 있어, 입장 속도가 안정적이면 대부분 캐시된 프레임이 재사용된다.
+     */
+    public SseFrame position(long position, Long estimatedWaitSeconds) {
+        if (position < 0 || position >= positionFrames.length()) {
+            return encode(QueueEventType.QUEUE_POSITION, new QueuePositionEvent(position, estimatedWaitSeconds));
+        }
+
+        int index = (int) position;
+        PositionFrame cached = positionFrames.get(index);
+        if (cached != null && Objects.equals(cached.estimatedWaitSeconds(), estimatedWaitSeconds)) {
+            return cached.frame();
+        }
+
+        SseFrame frame = encode(QueueEventType.QUEUE_POSITION, new QueuePositionEvent(position, estimatedWaitSeconds));
+        positionFrames.lazySet(index, new PositionFrame(estimatedWaitSeconds, frame));
+        return frame;
+    }
+
+    /**
+     * 오픈 전 대기실의 카운트다운 프레임. 한 공연의 대기자 전원이 같은 프레임을 공유한다.
+     */
+    public SseFrame countdown(long secondsUntilOpen) {
+        return encode(QueueEventType.COUNTDOWN, new QueueCountdownEvent(secondsUntilOpen));
+    }
+
+    private SseFrame encode(QueueEventType eventType, Object data) {
+        try {
+            return SseFrame.of(eventType, SseEventIds.of(eventType, data), objectMapper.writeValueAsBytes(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 프레임 인코딩 실패: event=" + eventType.getValue(), e);
+        }
+    }
+
+    private record PositionFrame(Long estimatedWaitSeconds, SseFrame frame) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.ticket.entity.TicketStock;
+import com.ticket_service.ticket.repository.TicketStockRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 남은 재고에 따른 대기열 인원 상한
+ * 대기 + 처리 인원이 (남은 재고 / 구매당 평균 수량) × 초과 허용 비율을 넘으면 더 받아도 구매할 수 없을 가능성이 높다.
+ * 재고는 DB에서 읽으므로 서버별로 짧은 시간 동안 캐시한다.
+ */
+@Component
+public class StockAwareQueueCap {
+
+    private final TicketStockRepository ticketStockRepository;
+    private final QueueMetrics queueMetrics;
+    private final boolean enabled;
+    private final double oversubscription;
+    private final double defaultQuantity;
+    private final long cacheTtlMillis;
+    private final ConcurrentHashMap<Long, CachedStock> cache = new ConcurrentHashMap<>();
+
+    public StockAwareQueueCap(TicketStockRepository ticketStockRepository,
+                              QueueMetrics queueMetrics,
+                              @Value("${queue.stock-cap.enabled:true}") boolean enabled,
+                              @Value("${queue.stock-cap.oversubscription:1.5}") double oversubscription,
+                              @Value("${queue.stock-cap.default-quantity:1}") double defaultQuantity,
+                              @Value("${queue.stock-cap.cache-ttl:2s}") Duration cacheTtl) {
+        this.ticketStockRepository = ticketStockRepository;
+        this.queueMetrics = queueMetrics;
+        this.enabled = enabled;
+        this.oversubscription = oversubscription;
+        this.defaultQuantity = defaultQuantity;
+        this.cacheTtlMillis = cacheTtl.toMillis();
+    }
+
+    /**
+     * @return 대기 + 처리 인원 상한 (비활성화되었거나 재고 정보가 없으면 Long.MAX_VALUE)
+     */
+    public long capacity(Long concertId) {
+        if (!enabled) {
+            return Long.MAX_VALUE;
+        }
+
+        Integer remaining = remainingStock(concertId);
+        if (remaining == null) {
+            return Long.MAX_VALUE;
+        }
+
+        double averageQuantity = queueMetrics.getAverageSoldQuantity(concertId);
+        return capacity(remaining, averageQuantity > 0 ? averageQuantity : defaultQuantity);
+    }
+
+    long capacity(int remainingStock, double averageQuantity) {
+        return (long) Math.ceil(remainingStock / averageQuantity * oversubscription);
+    }
+
+    private Integer remainingStock(Long concertId) {
+        long now = System.currentTimeMillis();
+        CachedStock cached = cache.get(concertId);
+        if (cached != null && now - cached.fetchedAt() < cacheTtlMillis) {
+            return cached.remaining();
+        }
+
+        Optional<TicketStock> stock = ticketStockRepository.findByConcertId(concertId);
+        Integer remaining = stock.map(TicketStock::getRemainingQuantity).orElse(null);
+        cache.put(concertId, new CachedStock(remaining, now));
+        return remaining;
+    }
+
+    private record CachedStock(Integer remaining, long fetchedAt) {
+    }
+}
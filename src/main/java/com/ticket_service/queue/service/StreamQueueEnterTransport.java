@@ -0,0 +1,60 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.queue.service.dto.QueueEnterMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Redis Streams로 입장 메시지를 전달한다.
+ * 서버별 스트림과 전체 스트림 두 종류를 쓰며, 읽기는 QueueEventStreamConsumer가 담당한다.
+ * 스트림은 대략 max-length 건으로 유지되므로 오래 멈춘 서버는 그보다 오래된 메시지를 받지 못한다.
+ */
+@Component
+@ConditionalOnProperty(name = QueueEnterTransport.PROPERTY, havingValue = "stream")
+public class StreamQueueEnterTransport implements QueueEnterTransport {
+
+    static final String PAYLOAD_FIELD = "m";
+    private static final byte[] PAYLOAD_FIELD_BYTES = PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final XAddOptions addOptions;
+
+    public StreamQueueEnterTransport(RedisTemplate<String, String> queueRedisTemplate,
+                                     @Value("${queue.enter-stream.max-length:10000}") long maxLength) {
+        this.queueRedisTemplate = queueRedisTemplate;
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    @Override
+    public void sendToNode(String nodeId, QueueEnterMessage message) {
+        append(QueueKey.nodeEnterStream(nodeId), message);
+    }
+
+    @Override
+    public void broadcast(QueueEnterMessage message) {
+        append(QueueKey.enterStream(), message);
+    }
+
+    /**
+     * 바이너리 메시지이므로 템플릿의 문자열 직렬화를 거치지 않고 그대로 추가한다.
+     * 길이 제한은 XADD의 MAXLEN ~ 옵션으로 함께 적용하므로 발행당 한 번만 왕복한다.
+     */
+    private void append(String key, QueueEnterMessage message) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = message.encode();
+        queueRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.streamCommands().xAdd(
+                        StreamRecords.rawBytes(Map.of(PAYLOAD_FIELD_BYTES, payload)).withStreamKey(rawKey),
+                        addOptions
+                ));
+    }
+}
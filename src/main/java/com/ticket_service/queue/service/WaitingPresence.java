@@ -0,0 +1,134 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대기자의 연결 상태 (클러스터 공용)
+ * 각 서버는 자신에게 SSE로 연결된 대기자의 마지막 확인 시각을 주기적으로 갱신한다.
+ * 유예 시간 동안 어느 서버에서도 갱신되지 않은 대기자는 연결이 끊긴 것으로 보고 대기열에서 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingPresence {
+
+    private static final int TOUCH_BATCH_SIZE = 500;
+
+    // 마지막 확인 시각이 ARGV[1] 이전인 사용자를 최대 ARGV[2]명까지 대기열(KEYS[2..], 레인별)에서 제거한다
+    // 확인 시각 조회와 제거를 한 번에 수행하므로, 그 사이 재연결한 사용자는 제거되지 않는다
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REAP_SCRIPT = new DefaultRedisScript<>(
+            "local stale = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "local removed = {} " +
+            "for _, userId in ipairs(stale) do " +
+            "  redis.call('ZREM', KEYS[1], userId) " +
+            "  for i = 2, #KEYS do " +
+            "    if redis.call('ZREM', KEYS[i], userId) == 1 then " +
+            "      table.insert(removed, userId) " +
+            "      break " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return {#stale, removed}",
+            List.class
+    );
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final QueueLanes queueLanes;
+
+    @Value("${queue.waiting-timeout}")
+    private Duration waitingTimeout;
+
+    public void touch(Long concertId, String userId, long now) {
+        touch(concertId, List.of(userId), now);
+    }
+
+    /**
+     * 연결된 대기자들의 마지막 확인 시각을 갱신한다.
+     */
+    public void touch(Long concertId, Collection<String> userIds, long now) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        String key = QueueKey.presence(concertId);
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (String userId : userIds) {
+            tuples.add(TypedTuple.of(userId, (double) now));
+            if (tuples.size() == TOUCH_BATCH_SIZE) {
+                queueRedisTemplate.opsForZSet().add(key, tuples);
+                tuples = new HashSet<>();
+            }
+        }
+        if (!tuples.isEmpty()) {
+            queueRedisTemplate.opsForZSet().add(key, tuples);
+        }
+        queueRedisTemplate.expire(key, waitingTimeout);
+
+        queueRedisTemplate.opsForSet().add(QueueKey.presenceConcerts(), String.valueOf(concertId));
+        queueRedisTemplate.expire(QueueKey.presenceConcerts(), waitingTimeout);
+    }
+
+    public void remove(Long concertId, String userId) {
+        queueRedisTemplate.opsForZSet().remove(QueueKey.presence(concertId), userId);
+    }
+
+    /**
+     * 마지막 확인 시각이 cutoff 이전인 사용자를 최대 limit명까지 확인 대상에서 빼고 대기열에서 제거한다.
+     * 이미 입장했거나 취소한 사용자는 확인 대상에서만 빠진다.
+     */
+    @SuppressWarnings("unchecked")
+    public ReapResult reap(Long concertId, long cutoff, int limit) {
+        List<String> keys = new ArrayList<>();
+        keys.add(QueueKey.presence(concertId));
+        keys.addAll(queueLanes.keys(concertId));
+
+        List<Object> result = queueRedisTemplate.execute(
+                REAP_SCRIPT,
+                keys,
+                String.valueOf(cutoff),
+                String.valueOf(limit)
+        );
+        if (result == null || result.size() < 2) {
+            return new ReapResult(0, Collections.emptyList());
+        }
+
+        int scanned = ((Number) result.get(0)).intValue();
+        List<String> removed = (List<String>) result.get(1);
+        return new ReapResult(scanned, removed);
+    }
+
+    public Set<Long> getConcertIds() {
+        Set<String> members = queueRedisTemplate.opsForSet().members(QueueKey.presenceConcerts());
+        if (members == null || members.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> concertIds = new HashSet<>();
+        for (String member : members) {
+            concertIds.add(Long.parseLong(member));
+        }
+        return concertIds;
+    }
+
+    /**
+     * @param scanned 확인 대상에서 뺀 사용자 수
+     * @param removedUserIds 대기열에서 제거된 사용자
+     */
+    public record ReapResult(int scanned, List<String> removedUserIds) {
+    }
+}
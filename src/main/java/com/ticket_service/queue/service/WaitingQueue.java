@@ -3,22 +3,88 @@ package com.ticket_service.queue.service;
 import com.ticket_service.common.redis.QueueKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 대기열
+ * 레인(QueueLanes)마다 입장 요청 시각을 score로 갖는 ZSET이며, 순번은 레인 안에서의 순서다.
+ * 한 사용자는 한 레인에만 존재하므로 조회/삭제는 모든 레인에 대해 파이프라인으로 수행한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class WaitingQueue {
 
+    private static final int RANK_PIPELINE_BATCH_SIZE = 500;
+    private static final int BULK_ADD_BATCH_SIZE = 1000;
+
+    /*
+     * 레인별 가중치로 deficit round-robin을 수행하며 최대 ARGV[1]명을 꺼낸다.
+     * KEYS: 레인별 대기열 키..., 상태 키 / ARGV: 인원, 레인별 가중치..., 상태 TTL(ms)
+     * 상태 키에는 다음 차례 레인(cursor)과, 인원이 다 차서 중단된 레인의 남은 기회(carry)를 저장해
+     * 입장 배치가 작아도 호출을 거듭하면 가중치 비율이 유지되도록 한다.
+     * 결과는 [userId, score, userId, score, ...] 이다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 1 " +
+            "local stateKey = KEYS[#KEYS] " +
+            "local sizes = {} " +
+            "local total = 0 " +
+            "for i = 1, n do " +
+            "  sizes[i] = redis.call('ZCARD', KEYS[i]) " +
+            "  total = total + sizes[i] " +
+            "end " +
+            "local remaining = math.min(tonumber(ARGV[1]), total) " +
+            "local cursor = tonumber(redis.call('HGET', stateKey, 'cursor') or '1') " +
+            "if cursor > n then cursor = 1 end " +
+            "local carry = tonumber(redis.call('HGET', stateKey, 'carry') or '0') " +
+            "local result = {} " +
+            "while remaining > 0 do " +
+            "  local stay = false " +
+            "  if sizes[cursor] > 0 then " +
+            "    local quantum = carry > 0 and carry or tonumber(ARGV[1 + cursor]) " +
+            "    if n == 1 then quantum = remaining end " +
+            "    carry = 0 " +
+            "    local take = math.min(quantum, sizes[cursor], remaining) " +
+            "    local popped = redis.call('ZPOPMIN', KEYS[cursor], take) " +
+            "    for j = 1, #popped do result[#result + 1] = popped[j] end " +
+            "    sizes[cursor] = sizes[cursor] - take " +
+            "    remaining = remaining - take " +
+            "    if remaining == 0 and sizes[cursor] > 0 and quantum > take then " +
+            "      carry = quantum - take " +
+            "      stay = true " +
+            "    end " +
+            "  else " +
+            "    carry = 0 " +
+            "  end " +
+            "  if not stay then cursor = cursor % n + 1 end " +
+            "end " +
+            "redis.call('HSET', stateKey, 'cursor', cursor, 'carry', carry) " +
+            "redis.call('PEXPIRE', stateKey, ARGV[n + 2]) " +
+            "return result",
+            List.class
+    );
+
     private final RedisTemplate<String, String> queueRedisTemplate;
+    private final QueueLanes queueLanes;
 
     @Value("${queue.waiting-timeout}")
     private Duration waitingTimeout;
@@ -27,14 +93,34 @@ public class WaitingQueue {
     private int maxWaitingCount;
 
     public boolean contains(Long concertId, String userId) {
-        String key = QueueKey.waitingQueue(concertId);
-        return queueRedisTemplate.opsForZSet().score(key, userId) != null;
+        if (queueLanes.isSingleLane()) {
+            return queueRedisTemplate.opsForZSet().score(QueueKey.waitingQueue(concertId), userId) != null;
+        }
+
+        byte[] rawUserId = raw(userId);
+        List<Object> scores = executeOnLanes(concertId, (connection, rawKey) ->
+                connection.zSetCommands().zScore(rawKey, rawUserId));
+        return scores.stream().anyMatch(score -> score != null);
     }
 
+    /**
+     * @return 모든 레인의 대기 인원 합계
+     */
     public long size(Long concertId) {
-        String key = QueueKey.waitingQueue(concertId);
-        Long size = queueRedisTemplate.opsForZSet().zCard(key);
-        return size != null ? size : 0L;
+        if (queueLanes.isSingleLane()) {
+            Long size = queueRedisTemplate.opsForZSet().zCard(QueueKey.waitingQueue(concertId));
+            return size != null ? size : 0L;
+        }
+
+        List<Object> sizes = executeOnLanes(concertId, (connection, rawKey) ->
+                connection.zSetCommands().zCard(rawKey));
+        long total = 0;
+        for (Object size : sizes) {
+            if (size instanceof Long laneSize) {
+                total += laneSize;
+            }
+        }
+        return total;
     }
 
     public boolean hasCapacity(Long concertId) {
@@ -42,100 +128,202 @@ public class WaitingQueue {
     }
 
     public void add(Long concertId, String userId) {
-        String key = QueueKey.waitingQueue(concertId);
-        double score = System.currentTimeMillis();
+        add(concertId, userId, QueueLanes.DEFAULT_LANE);
+    }
+
+    public void add(Long concertId, String userId, String lane) {
+        add(concertId, userId, lane, System.currentTimeMillis());
+    }
+
+    /**
+     * 지정한 score로 등록한다. 오픈 전 대기실에서 나온 사용자는 오픈 전 입장 시각을 score로 사용한다.
+     */
+    public void add(Long concertId, String userId, String lane, long score) {
+        String key = queueLanes.key(concertId, lane);
         queueRedisTemplate.opsForZSet().add(key, userId, score);
         queueRedisTemplate.expire(key, waitingTimeout.toMillis(), TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * 주어진 순서대로 한 레인에 일괄 등록한다. (추첨 등록)
+     * score는 firstScore부터 1씩 증가하므로 목록 순서가 곧 순번이며,
+     * ZADD 여러 건을 한 번의 파이프라인으로 전송한다.
+     */
+    public void addAll(Long concertId, String lane, List<String> userIds, long firstScore) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        String key = queueLanes.key(concertId, lane);
+        byte[] rawKey = raw(key);
+        queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Set<Tuple> tuples = new HashSet<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                tuples.add(new DefaultTuple(raw(userIds.get(i)), (double) (firstScore + i)));
+                if (tuples.size() == BULK_ADD_BATCH_SIZE) {
+                    connection.zSetCommands().zAdd(rawKey, tuples);
+                    tuples = new HashSet<>();
+                }
+            }
+            if (!tuples.isEmpty()) {
+                connection.zSetCommands().zAdd(rawKey, tuples);
+            }
+            connection.keyCommands().pExpire(rawKey, waitingTimeout.toMillis());
+            return null;
+        });
+    }
+
     public void remove(Long concertId, String userId) {
-        String key = QueueKey.waitingQueue(concertId);
-        queueRedisTemplate.opsForZSet().remove(key, userId);
+        if (queueLanes.isSingleLane()) {
+            queueRedisTemplate.opsForZSet().remove(QueueKey.waitingQueue(concertId), userId);
+            return;
+        }
+
+        byte[] rawUserId = raw(userId);
+        executeOnLanes(concertId, (connection, rawKey) ->
+                connection.zSetCommands().zRem(rawKey, rawUserId));
     }
 
+    /**
+     * @return 사용자가 속한 레인에서의 순번 (대기열에 없으면 null)
+     */
     public Long rank(Long concertId, String userId) {
-        String key = QueueKey.waitingQueue(concertId);
-        return queueRedisTemplate.opsForZSet().rank(key, userId);
-    }
+        if (queueLanes.isSingleLane()) {
+            return queueRedisTemplate.opsForZSet().rank(QueueKey.waitingQueue(concertId), userId);
+        }
 
-    public List<String> getAll(Long concertId) {
-        String key = QueueKey.waitingQueue(concertId);
-        Set<String> users = queueRedisTemplate.opsForZSet().range(key, 0, -1);
-        if (users == null || users.isEmpty()) {
-            return Collections.emptyList();
+        byte[] rawUserId = raw(userId);
+        List<Object> ranks = executeOnLanes(concertId, (connection, rawKey) ->
+                connection.zSetCommands().zRank(rawKey, rawUserId));
+        for (Object rank : ranks) {
+            if (rank instanceof Long laneRank) {
+                return laneRank;
+            }
         }
-        return new ArrayList<>(users);
+        return null;
     }
 
-    public List<String> pollTopUsers(Long concertId, long count) {
-        String key = QueueKey.waitingQueue(concertId);
-        Set<String> users = queueRedisTemplate.opsForZSet().range(key, 0, count - 1);
-
-        if (users == null || users.isEmpty()) {
-            return Collections.emptyList();
+    /**
+     * 여러 사용자의 순번을 파이프라인으로 한 번에 조회한다.
+     * 레인이 여러 개면 사용자마다 모든 레인을 조회하고, 속한 레인에서의 순번을 사용한다.
+     * 대기열에 없는 사용자는 결과에서 제외된다.
+     */
+    public Map<String, Long> ranks(Long concertId, List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        List<String> result = new ArrayList<>(users);
-        for (String userId : result) {
-            queueRedisTemplate.opsForZSet().remove(key, userId);
+        List<byte[]> rawKeys = rawKeys(concertId);
+        Map<String, Long> result = new HashMap<>();
+
+        for (int from = 0; from < userIds.size(); from += RANK_PIPELINE_BATCH_SIZE) {
+            List<String> batch = userIds.subList(from, Math.min(from + RANK_PIPELINE_BATCH_SIZE, userIds.size()));
+            List<Object> ranks = queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String userId : batch) {
+                    byte[] rawUserId = raw(userId);
+                    for (byte[] rawKey : rawKeys) {
+                        connection.zSetCommands().zRank(rawKey, rawUserId);
+                    }
+                }
+                return null;
+            });
+
+            for (int i = 0; i < batch.size(); i++) {
+                for (int lane = 0; lane < rawKeys.size(); lane++) {
+                    if (ranks.get(i * rawKeys.size() + lane) instanceof Long rank) {
+                        result.put(batch.get(i), rank);
+                        break;
+                    }
+                }
+            }
         }
         return result;
     }
 
-    public String pollTopUser(Long concertId) {
-        String key = QueueKey.waitingQueue(concertId);
-        Set<String> users = queueRedisTemplate.opsForZSet().range(key, 0, 0);
+    /**
+     * @return 전체 대기자의 레인별 순번
+     */
+    public Map<String, Long> getAllPositions(Long concertId) {
+        Map<String, Long> positions = new HashMap<>();
+        for (String key : queueLanes.keys(concertId)) {
+            Set<String> users = queueRedisTemplate.opsForZSet().range(key, 0, -1);
+            if (users == null) {
+                continue;
+            }
 
-        if (users == null || users.isEmpty()) {
-            return null;
+            long position = 0;
+            for (String userId : users) {
+                positions.put(userId, position++);
+            }
         }
-
-        String userId = users.iterator().next();
-        queueRedisTemplate.opsForZSet().remove(key, userId);
-        return userId;
+        return positions;
     }
 
+    /**
+     * 레인별 가중치 비율로 최대 count명을 꺼낸다. (레인 수와 관계없이 한 번의 EVAL)
+     * 비어 있는 레인의 몫은 다른 레인이 가져간다.
+     */
+    @SuppressWarnings("unchecked")
     public List<PolledUser> pollTopUsersWithWaitingTime(Long concertId, long count) {
-        String key = QueueKey.waitingQueue(concertId);
-        Set<TypedTuple<String>> usersWithScores = queueRedisTemplate.opsForZSet().rangeWithScores(key, 0, count - 1);
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
 
-        if (usersWithScores == null || usersWithScores.isEmpty()) {
+        List<String> keys = new ArrayList<>(queueLanes.keys(concertId));
+        keys.add(QueueKey.laneDeficit(concertId));
+
+        List<Integer> weights = queueLanes.getWeights();
+        Object[] args = new Object[weights.size() + 2];
+        args[0] = String.valueOf(count);
+        for (int i = 0; i < weights.size(); i++) {
+            args[i + 1] = String.valueOf(weights.get(i));
+        }
+        args[weights.size() + 1] = String.valueOf(waitingTimeout.toMillis());
+
+        List<String> polled = queueRedisTemplate.execute(POLL_SCRIPT, keys, args);
+        if (polled == null || polled.isEmpty()) {
             return Collections.emptyList();
         }
 
         long currentTime = System.currentTimeMillis();
-        List<PolledUser> result = new ArrayList<>();
-
-        for (TypedTuple<String> tuple : usersWithScores) {
-            String userId = tuple.getValue();
-            Double score = tuple.getScore();
-            if (userId != null) {
-                queueRedisTemplate.opsForZSet().remove(key, userId);
-                long waitingTimeMs = score != null ? currentTime - score.longValue() : 0L;
-                result.add(new PolledUser(userId, waitingTimeMs));
-            }
+        List<PolledUser> result = new ArrayList<>(polled.size() / 2);
+        for (int i = 0; i + 1 < polled.size(); i += 2) {
+            long enteredAt = (long) Double.parseDouble(polled.get(i + 1));
+            result.add(new PolledUser(polled.get(i), currentTime - enteredAt));
         }
         return result;
     }
 
     public PolledUser pollTopUserWithWaitingTime(Long concertId) {
-        String key = QueueKey.waitingQueue(concertId);
-        Set<TypedTuple<String>> usersWithScores = queueRedisTemplate.opsForZSet().rangeWithScores(key, 0, 0);
+        List<PolledUser> polled = pollTopUsersWithWaitingTime(concertId, 1);
+        return polled.isEmpty() ? null : polled.get(0);
+    }
 
-        if (usersWithScores == null || usersWithScores.isEmpty()) {
+    private List<Object> executeOnLanes(Long concertId, LaneCommand command) {
+        List<byte[]> rawKeys = rawKeys(concertId);
+        return queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] rawKey : rawKeys) {
+                command.execute(connection, rawKey);
+            }
             return null;
+        });
+    }
+
+    private List<byte[]> rawKeys(Long concertId) {
+        List<String> keys = queueLanes.keys(concertId);
+        List<byte[]> rawKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            rawKeys.add(raw(key));
         }
+        return rawKeys;
+    }
 
-        TypedTuple<String> tuple = usersWithScores.iterator().next();
-        String userId = tuple.getValue();
-        Double score = tuple.getScore();
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
 
-        if (userId != null) {
-            queueRedisTemplate.opsForZSet().remove(key, userId);
-            long currentTime = System.currentTimeMillis();
-            long waitingTimeMs = score != null ? currentTime - score.longValue() : 0L;
-            return new PolledUser(userId, waitingTimeMs);
-        }
-        return null;
+    @FunctionalInterface
+    private interface LaneCommand {
+        void execute(RedisConnection connection, byte[] rawKey);
     }
 }
@@ -0,0 +1,125 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 오픈 전 대기실의 공용 타이머
+ * 대기자마다 타이머를 두지 않고, 한 번의 틱으로 모든 대기실의 카운트다운 전송과 입장 처리를 수행한다.
+ *
+ * 1. 오픈 전: countdown-interval마다 공연별로 한 번 인코딩한 카운트다운 프레임을 전송 (전송 실패 시 대기실에서 제거)
+ * 2. 오픈 후: 입장 시각이 된 대기자만 실제 대기열에 등록하므로, 오픈 순간의 등록이 release-jitter 동안 나뉘어 들어간다.
+ *    순번은 대기실에 들어온 시각으로 정해지므로 입장 시각이 늦은 대기자도 오픈 후 등록한 사용자보다 앞선다.
+ *    등록은 waitingRoomReleaseExecutor에 넘기므로 대기자가 많아도 틱 스레드가 등록을 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class WaitingRoomScheduler {
+
+    private final PreOpenWaitingRoom preOpenWaitingRoom;
+    private final QueueOrchestrationService queueOrchestrationService;
+    private final SseEmitterService sseEmitterService;
+    private final SseFrameCache sseFrameCache;
+    private final QueueMetrics queueMetrics;
+    private final Executor waitingRoomReleaseExecutor;
+    private final long countdownIntervalMillis;
+    private long lastCountdownAt;
+
+    public WaitingRoomScheduler(PreOpenWaitingRoom preOpenWaitingRoom,
+                                QueueOrchestrationService queueOrchestrationService,
+                                SseEmitterService sseEmitterService,
+                                SseFrameCache sseFrameCache,
+                                QueueMetrics queueMetrics,
+                                @Qualifier("waitingRoomReleaseExecutor") Executor waitingRoomReleaseExecutor,
+                                @Value("${queue.waiting-room.countdown-interval:5s}") Duration countdownInterval) {
+        this.preOpenWaitingRoom = preOpenWaitingRoom;
+        this.queueOrchestrationService = queueOrchestrationService;
+        this.sseEmitterService = sseEmitterService;
+        this.sseFrameCache = sseFrameCache;
+        this.queueMetrics = queueMetrics;
+        this.waitingRoomReleaseExecutor = waitingRoomReleaseExecutor;
+        this.countdownIntervalMillis = countdownInterval.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${queue.waiting-room.tick:200ms}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        boolean countdownDue = now - lastCountdownAt >= countdownIntervalMillis;
+        if (countdownDue) {
+            lastCountdownAt = now;
+        }
+
+        for (Long concertId : preOpenWaitingRoom.getConcertIds()) {
+            try {
+                long openAtMillis = preOpenWaitingRoom.getOpenAtMillis(concertId);
+                if (now < openAtMillis) {
+                    if (countdownDue) {
+                        sendCountdown(concertId, openAtMillis, now);
+                    }
+                } else {
+                    release(concertId, openAtMillis, now);
+                }
+                queueMetrics.recordWaitingRoomSize(concertId, preOpenWaitingRoom.size(concertId));
+            } catch (Exception e) {
+                log.warn("대기실 처리 실패: concertId={}", concertId, e);
+            }
+        }
+    }
+
+    private void sendCountdown(Long concertId, long openAtMillis, long now) {
+        SseFrame frame = sseFrameCache.countdown((openAtMillis - now + 999) / 1000);
+        for (PreOpenWaitingRoom.Guest guest : preOpenWaitingRoom.getGuests(concertId)) {
+            if (!sseEmitterService.sendFrame(concertId, guest.userId(), frame)) {
+                preOpenWaitingRoom.leave(concertId, guest.userId());
+            }
+        }
+    }
+
+    /**
+     * 연결이 끊긴 대기자는 대기열에 등록하지 않는다.
+     * 등록 작업 풀이 가득 차면 남은 대기자를 대기실에 되돌리고 다음 틱에 이어서 넘긴다.
+     */
+    private void release(Long concertId, long openAtMillis, long now) {
+        List<PreOpenWaitingRoom.Guest> dueGuests = preOpenWaitingRoom.pollDue(concertId, now);
+        int submitted = 0;
+        for (int i = 0; i < dueGuests.size(); i++) {
+            PreOpenWaitingRoom.Guest guest = dueGuests.get(i);
+            if (!sseEmitterService.isConnected(concertId, guest.userId())) {
+                continue;
+            }
+            try {
+                waitingRoomReleaseExecutor.execute(() -> releaseGuest(concertId, guest));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                for (PreOpenWaitingRoom.Guest remaining : dueGuests.subList(i, dueGuests.size())) {
+                    preOpenWaitingRoom.requeue(concertId, openAtMillis, remaining);
+                }
+                log.debug("대기실 입장 지연: concertId={}, requeued={}", concertId, dueGuests.size() - i);
+                break;
+            }
+        }
+        if (submitted > 0) {
+            log.debug("대기실 입장: concertId={}, count={}", concertId, submitted);
+        }
+    }
+
+    /**
+     * 등록이 거절되면 (가득 참, 매진 예상 등) QueueOrchestrationService가 연결을 정리한다.
+     */
+    private void releaseGuest(Long concertId, PreOpenWaitingRoom.Guest guest) {
+        try {
+            queueOrchestrationService.releaseFromWaitingRoom(concertId, guest.userId(), guest.lane(), guest.queueScore());
+        } catch (RuntimeException e) {
+            log.debug("대기실 입장 거절: concertId={}, userId={}, reason={}", concertId, guest.userId(), e.getMessage());
+        }
+    }
+}
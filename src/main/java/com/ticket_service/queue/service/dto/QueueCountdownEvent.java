@@ -0,0 +1,12 @@
+package com.ticket_service.queue.service.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class QueueCountdownEvent {
+
+    // 오픈까지 남은 시간(초)
+    private final long secondsUntilOpen;
+}
@@ -8,8 +8,10 @@ import lombok.RequiredArgsConstructor;
 public class QueueEnterEvent {
 
     private final String status;
+    // 입장 후 구매 가능 시간 (초). 클라이언트는 이 값으로 남은 시간을 표시한다.
+    private final long expiresInSeconds;
 
-    public static QueueEnterEvent processing() {
-        return new QueueEnterEvent("PROCESSING");
+    public static QueueEnterEvent processing(long expiresInSeconds) {
+        return new QueueEnterEvent("PROCESSING", expiresInSeconds);
     }
 }
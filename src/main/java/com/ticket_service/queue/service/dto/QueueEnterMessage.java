@@ -1,18 +1,175 @@
 package com.ticket_service.queue.service.dto;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 입장 처리 한 번에 입장한 사용자 목록
+ * JSON 대신 아래 바이너리 형식으로 인코딩한다. 수신한 바이트 배열에서 바로 읽으므로 메시지 전체를 문자열로 만들지 않는다.
+ *
+ * [형식 버전 1byte][공연 id varint][사용자 수 varint]([사용자 id 길이 varint][사용자 id UTF-8])...
+ * varint는 7bit 단위의 가변 길이 정수(LEB128)로, 일반적인 공연 id와 사용자 id 길이는 1~2byte에 들어간다.
+ *
+ * 이전 버전 서버가 발행하는 JSON 형식({"concertId":1,"userId":"user-1"}, 메시지 하나에 사용자 한 명)도 디코딩한다.
+ * JSON은 '{'로 시작하므로 형식 버전 바이트와 겹치지 않는다.
+ * 반대로 이전 버전 서버는 바이너리 형식을 읽지 못해 새 서버가 보낸 입장 이벤트를 버린다.
+ * 따라서 JSON 형식 서버에서 올릴 때는 단계적으로 배포해야 한다. (입장 처리를 멈추고 모든 서버를 교체한 뒤 재개)
+ */
 @Getter
-@NoArgsConstructor
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class QueueEnterMessage {
 
-    private Long concertId;
-    private String userId;
+    private static final byte FORMAT_VERSION = 1;
+    private static final ObjectReader JSON_READER = new ObjectMapper()
+            .readerFor(JsonEnterMessage.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final Long concertId;
+    private final List<String> userIds;
+
+    public static QueueEnterMessage of(Long concertId, List<String> userIds) {
+        return new QueueEnterMessage(concertId, userIds);
+    }
+
+    public byte[] encode() {
+        byte[][] encodedUserIds = new byte[userIds.size()][];
+        int size = 1 + varintSize(concertId) + varintSize(userIds.size());
+        for (int i = 0; i < encodedUserIds.length; i++) {
+            encodedUserIds[i] = userIds.get(i).getBytes(StandardCharsets.UTF_8);
+            size += varintSize(encodedUserIds[i].length) + encodedUserIds[i].length;
+        }
+
+        byte[] bytes = new byte[size];
+        bytes[0] = FORMAT_VERSION;
+        int offset = writeVarint(bytes, 1, concertId);
+        offset = writeVarint(bytes, offset, encodedUserIds.length);
+        for (byte[] userId : encodedUserIds) {
+            offset = writeVarint(bytes, offset, userId.length);
+            System.arraycopy(userId, 0, bytes, offset, userId.length);
+            offset += userId.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 형식이거나 메시지가 잘렸거나 길이 값이 잘못된 경우
+     */
+    public static QueueEnterMessage decode(byte[] bytes) {
+        if (bytes.length > 0 && bytes[0] == '{') {
+            return decodeJson(bytes);
+        }
+        if (bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 입장 메시지 형식: " + (bytes.length == 0 ? "empty" : bytes[0]));
+        }
+
+        Reader reader = new Reader(bytes, 1);
+        long concertId = reader.readVarint();
+        // 사용자마다 최소 1byte(길이)가 필요하므로 남은 바이트 수보다 많을 수 없다
+        int count = reader.readLength();
+
+        List<String> userIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userIds.add(reader.readString(reader.readLength()));
+        }
+        return new QueueEnterMessage(concertId, userIds);
+    }
+
+    /**
+     * 이전 버전 서버의 JSON 형식: {"concertId":1,"userId":"user-1"}
+     */
+    private static QueueEnterMessage decodeJson(byte[] bytes) {
+        JsonEnterMessage json;
+        try {
+            json = JSON_READER.readValue(bytes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("잘못된 JSON 입장 메시지", e);
+        }
+        if (json.concertId() == null || json.userId() == null) {
+            throw new IllegalArgumentException("잘못된 JSON 입장 메시지: concertId=" + json.concertId() + ", userId=" + json.userId());
+        }
+        return new QueueEnterMessage(json.concertId(), List.of(json.userId()));
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int writeVarint(byte[] bytes, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[offset++] = (byte) value;
+        return offset;
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int offset;
+
+        private Reader(byte[] bytes, int offset) {
+            this.bytes = bytes;
+            this.offset = offset;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint: offset=" + offset);
+        }
+
+        /**
+         * 길이/개수 값을 읽는다. 남은 바이트 수를 넘는 값은 잘못된 메시지이므로 int 범위를 넘는 값도 여기서 걸러진다.
+         */
+        private int readLength() {
+            long value = readVarint();
+            if (value < 0 || value > bytes.length - offset) {
+                throw new IllegalArgumentException("잘못된 길이 값: " + Long.toUnsignedString(value) + ", offset=" + offset);
+            }
+            return (int) value;
+        }
+
+        private String readString(int length) {
+            if (length > bytes.length - offset) {
+                throw truncated();
+            }
+            String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+            offset += length;
+            return value;
+        }
+
+        private byte next() {
+            if (offset >= bytes.length) {
+                throw truncated();
+            }
+            return bytes[offset++];
+        }
+
+        private IllegalArgumentException truncated() {
+            return new IllegalArgumentException("잘린 입장 메시지: length=" + bytes.length);
+        }
+    }
 
-    public static QueueEnterMessage of(Long concertId, String userId) {
-        return new QueueEnterMessage(concertId, userId);
+    record JsonEnterMessage(Long concertId, String userId) {
     }
 }
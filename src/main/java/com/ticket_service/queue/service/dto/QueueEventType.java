@@ -8,6 +8,9 @@ import lombok.RequiredArgsConstructor;
 public enum QueueEventType {
 
     QUEUE_POSITION("queue-position"),
+    LOTTERY_REGISTERED("lottery-registered"),
+    COUNTDOWN("countdown"),
+    RECONNECT("reconnect"),
     ENTER("enter");
 
     private final String value;
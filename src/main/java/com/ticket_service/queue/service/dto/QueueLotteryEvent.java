@@ -0,0 +1,12 @@
+package com.ticket_service.queue.service.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class QueueLotteryEvent {
+
+    // 추첨(오픈)까지 남은 시간(초). 추첨 후 순번은 queue-position 이벤트로 전달된다.
+    private final long secondsUntilDraw;
+}
@@ -1,11 +1,20 @@
 package com.ticket_service.queue.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class QueuePositionEvent {
 
     private final long position;
+
+    // 예상 입장 대기 시간(초). 입장 속도를 아직 모르면 null
+    private final Long estimatedWaitSeconds;
+
+    public QueuePositionEvent(long position) {
+        this(position, null);
+    }
 }
@@ -0,0 +1,15 @@
+package com.ticket_service.queue.service.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class QueueReconnectEvent {
+
+    // 다시 구독하기 전에 기다릴 시간(ms). 서버마다 흩어지도록 무작위로 정해진다.
+    private final long reconnectAfterMillis;
+
+    // 다시 구독하면 기존 순번을 이어가는지 여부
+    private final boolean resume;
+}
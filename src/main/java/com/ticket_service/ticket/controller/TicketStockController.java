@@ -1,8 +1,11 @@
 package com.ticket_service.ticket.controller;
 
 import com.ticket_service.common.dto.ApiResponse;
+import com.ticket_service.common.ratelimit.RateLimitScope;
+import com.ticket_service.common.ratelimit.RateLimiter;
 import com.ticket_service.ticket.controller.dto.PurchaseRequest;
 import com.ticket_service.ticket.service.TicketPurchaseService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,9 +17,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class TicketStockController {
 
     private final TicketPurchaseService ticketPurchaseService;
+    private final RateLimiter rateLimiter;
 
     @PostMapping("/concerts/{concertId}/purchase")
-    public ApiResponse<String> purchase(@PathVariable Long concertId, @RequestBody PurchaseRequest request) {
+    public ApiResponse<String> purchase(@PathVariable Long concertId, @RequestBody PurchaseRequest request, HttpServletRequest servletRequest) {
+        rateLimiter.check(RateLimitScope.PURCHASE, concertId, request.getUserId(), servletRequest.getRemoteAddr());
         ticketPurchaseService.purchase(concertId, request.getUserId(), request.getRequestQuantity());
         return ApiResponse.ok("success");
     }
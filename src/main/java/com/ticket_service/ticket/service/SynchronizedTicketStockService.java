@@ -4,15 +4,27 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 단일 락으로 재고 차감을 직렬화한다.
+ * synchronized 대신 ReentrantLock을 사용해, 가상 스레드 모드에서 DB 대기 중인 스레드가 캐리어 스레드를 점유(pinning)하지 않도록 한다.
+ */
 @Service
 @ConditionalOnProperty(name = "ticket.lock.strategy", havingValue = "synchronized")
 @RequiredArgsConstructor
 public class SynchronizedTicketStockService implements TicketStockService {
 
     private final TicketStockTransactionalService ticketStockTransactionalService;
+    private final ReentrantLock lock = new ReentrantLock();
 
     @Override
-    public synchronized void decreaseByConcertId(Long concertId, int requestQuantity) {
-        ticketStockTransactionalService.decreaseByConcertId(concertId, requestQuantity);
+    public void decreaseByConcertId(Long concertId, int requestQuantity) {
+        lock.lock();
+        try {
+            ticketStockTransactionalService.decreaseByConcertId(concertId, requestQuantity);
+        } finally {
+            lock.unlock();
+        }
     }
 }
@@ -1,3 +1,3 @@
-INSERT INTO ticket.concert (title, open_at, close_at) VALUES ('2025 Performance Test Concert', '2025-01-01 10:00:00', '2025-12-31 23:59:59');
+INSERT INTO ticket.concert (title, open_at, close_at) VALUES ('2025 Performance Test Concert', '2025-01-01 10:00:00', '2099-12-31 23:59:59');
 
 INSERT INTO ticket.ticket_stock (remaining_quantity, total_quantity, concert_id, version) VALUES (5000, 5000, 1, 0)
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.ticket_service.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedVirtualThreadExecutorTest {
+
+    @DisplayName("동시 실행 수가 한도에 도달하면 RejectedExecutionException으로 거절한다")
+    @Test
+    void execute_rejected_at_limit() throws InterruptedException {
+        // given
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            started.countDown();
+            awaitQuietly(release);
+        };
+        executor.execute(blocking);
+        executor.execute(blocking);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+    }
+
+    @DisplayName("작업이 끝나면 허가를 돌려주므로 다시 실행할 수 있다")
+    @Test
+    void execute_releases_permit_after_task() throws InterruptedException {
+        // given
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 1);
+        CountDownLatch first = new CountDownLatch(1);
+        executor.execute(() -> {
+            first.countDown();
+            throw new IllegalStateException("task failure");
+        });
+        assertThat(first.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitIdle(executor);
+
+        // when
+        CountDownLatch second = new CountDownLatch(1);
+        executor.execute(second::countDown);
+
+        // then
+        assertThat(second.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("작업은 가상 스레드에서 실행된다")
+    @Test
+    void execute_on_virtual_thread() throws InterruptedException {
+        // given
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 1);
+        CountDownLatch done = new CountDownLatch(1);
+        boolean[] virtual = new boolean[1];
+
+        // when
+        executor.execute(() -> {
+            virtual[0] = Thread.currentThread().isVirtual();
+            done.countDown();
+        });
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual[0]).isTrue();
+    }
+
+    private static void awaitIdle(BoundedVirtualThreadExecutor executor) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (executor.getActiveCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
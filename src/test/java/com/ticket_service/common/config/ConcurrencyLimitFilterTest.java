@@ -0,0 +1,96 @@
+package com.ticket_service.common.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitFilterTest {
+
+    @DisplayName("허가를 얻으면 다음 필터로 넘긴다")
+    @Test
+    void doFilter_passes_through() throws Exception {
+        // given
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest(), response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @DisplayName("시간 안에 허가를 얻지 못하면 Retry-After와 함께 503으로 거절한다")
+    @Test
+    void doFilter_rejects_with_503_when_saturated() throws Exception {
+        // given
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest(), rejected, chain);
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(chain.getRequest()).isNull();
+
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+    }
+
+    @DisplayName("다음 필터에서 예외가 나도 허가를 돌려준다")
+    @Test
+    void doFilter_releases_permit_on_exception() throws Exception {
+        // given
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10));
+        FilterChain failingChain = (request, response) -> {
+            throw new IllegalStateException("handler failure");
+        };
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), failingChain))
+                .isInstanceOf(IllegalStateException.class);
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest(), response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+}
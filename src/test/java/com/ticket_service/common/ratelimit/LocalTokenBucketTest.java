@@ -0,0 +1,56 @@
+package com.ticket_service.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTokenBucketTest {
+
+    @DisplayName("한 번에 permits회까지 허용하고, 이후에는 요청 간격만큼 기다려야 한다")
+    @Test
+    void tryConsume_burst_then_interval() {
+        // given
+        LocalTokenBucket bucket = new LocalTokenBucket(new RateLimit(5, Duration.ofSeconds(10)), 0L);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(0L)).isZero();
+        }
+        long retryAfter = bucket.tryConsume(0L);
+
+        // then
+        assertThat(retryAfter).isEqualTo(2_000L);
+        assertThat(bucket.tryConsume(2_000L)).isZero();
+    }
+
+    @DisplayName("사용하지 않은 버킷은 가득 차면 유휴 상태가 된다")
+    @Test
+    void isIdle_after_refill() {
+        // given
+        LocalTokenBucket bucket = new LocalTokenBucket(new RateLimit(5, Duration.ofSeconds(10)), 0L);
+        bucket.tryConsume(0L);
+
+        // when & then
+        assertThat(bucket.isIdle(1_000L)).isFalse();
+        assertThat(bucket.isIdle(2_000L)).isTrue();
+    }
+
+    @DisplayName("돌려받은 토큰은 바로 다시 쓸 수 있고 용량을 넘지 않는다")
+    @Test
+    void refund_restores_token_up_to_capacity() {
+        // given
+        LocalTokenBucket bucket = new LocalTokenBucket(new RateLimit(1, Duration.ofSeconds(10)), 0L);
+        bucket.tryConsume(0L);
+
+        // when
+        bucket.refund();
+        bucket.refund();
+
+        // then
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isPositive();
+    }
+}
@@ -0,0 +1,106 @@
+package com.ticket_service.common.ratelimit;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RateLimiterTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final String USER_ID = "user-1";
+    private static final String IP = "10.0.0.1";
+
+    private GcraRateLimiter gcraRateLimiter;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        gcraRateLimiter = mock(GcraRateLimiter.class);
+        RateLimitPolicy policy = new RateLimitPolicy(true, "2/10s", "100/10s", "", "5/1s", "50/1s", "");
+        rateLimiter = new RateLimiter(policy, gcraRateLimiter, mock(QueueMetrics.class));
+    }
+
+    @Nested
+    @DisplayName("check 메서드")
+    class CheckTest {
+
+        @DisplayName("로컬 한도를 넘으면 Redis를 거치지 않고 거절한다")
+        @Test
+        void check_rejected_locally() {
+            // given
+            rateLimiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP);
+            rateLimiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP);
+
+            // when & then
+            assertThatThrownBy(() -> rateLimiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP))
+                    .isInstanceOf(RateLimitExceededException.class);
+            verify(gcraRateLimiter, times(2)).tryAcquire(anyList(), anyList());
+        }
+
+        @DisplayName("클러스터 한도를 넘으면 남은 시간을 초 단위로 올림해 알려준다")
+        @Test
+        void check_rejected_by_cluster() {
+            // given
+            given(gcraRateLimiter.tryAcquire(anyList(), anyList())).willReturn(1_500L);
+
+            // when & then
+            assertThatThrownBy(() -> rateLimiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .extracting("retryAfterSeconds")
+                    .isEqualTo(2L);
+        }
+
+        @DisplayName("클러스터 한도에서 거절된 요청은 로컬 토큰을 쓰지 않는다")
+        @Test
+        void check_rejected_by_cluster_refunds_local_tokens() {
+            // given: 로컬 한도(2/10s)보다 많이 클러스터에서 거절된 뒤
+            given(gcraRateLimiter.tryAcquire(anyList(), anyList())).willReturn(1_000L);
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> rateLimiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP))
+                        .isInstanceOf(RateLimitExceededException.class);
+            }
+            given(gcraRateLimiter.tryAcquire(anyList(), anyList())).willReturn(0L);
+
+            // when & then: 클러스터가 허용하면 로컬에서도 허용된다
+            assertThatNoException().isThrownBy(() -> rateLimiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP));
+            verify(gcraRateLimiter, times(4)).tryAcquire(anyList(), anyList());
+        }
+
+        @DisplayName("사용자 한도만 로컬에서 거절되면 IP 버킷의 토큰은 돌려준다")
+        @Test
+        void check_rejected_locally_refunds_other_bucket() {
+            // given: 사용자 한도 1/10s, IP 한도 3/10s
+            RateLimitPolicy policy = new RateLimitPolicy(true, "1/10s", "3/10s", "", "5/1s", "50/1s", "");
+            RateLimiter limiter = new RateLimiter(policy, gcraRateLimiter, mock(QueueMetrics.class));
+            limiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP);
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> limiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP))
+                        .isInstanceOf(RateLimitExceededException.class);
+            }
+
+            // when & then: 거절된 요청이 IP 토큰을 쓰지 않았으므로 같은 IP의 다른 사용자 2명이 허용된다
+            assertThatNoException().isThrownBy(() -> limiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, "user-2", IP));
+            assertThatNoException().isThrownBy(() -> limiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, "user-3", IP));
+        }
+
+        @DisplayName("Redis 장애 시에는 허용한다")
+        @Test
+        void check_allowed_when_redis_fails() {
+            // given
+            given(gcraRateLimiter.tryAcquire(anyList(), anyList())).willThrow(new IllegalStateException("redis down"));
+
+            // when & then
+            assertThatNoException().isThrownBy(() -> rateLimiter.check(RateLimitScope.SUBSCRIBE, CONCERT_ID, USER_ID, IP));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ticket_service.common.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class RedisLeaseIntegrationTest {
+
+    @Autowired
+    private RedisLease redisLease;
+
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    private static final String LEASE_KEY = QueueKey.admissionLease(1L);
+    private static final String OTHER_NODE_ID = "other-node";
+
+    @BeforeEach
+    void setUp() {
+        queueRedisTemplate.delete(LEASE_KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queueRedisTemplate.delete(LEASE_KEY);
+    }
+
+    @Nested
+    @DisplayName("tryAcquire 메서드")
+    class TryAcquireTest {
+
+        @DisplayName("비어 있는 리스는 획득하고 리스 시간만큼 TTL을 설정한다")
+        @Test
+        void tryAcquire_empty_lease() {
+            // when
+            boolean acquired = redisLease.tryAcquire(LEASE_KEY, Duration.ofSeconds(10));
+
+            // then
+            assertThat(acquired).isTrue();
+            assertThat(queueRedisTemplate.getExpire(LEASE_KEY, TimeUnit.MILLISECONDS)).isBetween(1L, 10_000L);
+        }
+
+        @DisplayName("이미 보유한 리스를 다시 획득하면 TTL이 연장된다")
+        @Test
+        void tryAcquire_renews_own_lease() {
+            // given
+            redisLease.tryAcquire(LEASE_KEY, Duration.ofSeconds(1));
+
+            // when
+            boolean renewed = redisLease.tryAcquire(LEASE_KEY, Duration.ofSeconds(10));
+
+            // then
+            assertThat(renewed).isTrue();
+            assertThat(queueRedisTemplate.getExpire(LEASE_KEY, TimeUnit.MILLISECONDS)).isGreaterThan(1_000L);
+        }
+
+        @DisplayName("다른 서버가 보유한 리스는 획득하지 못하고 TTL도 바꾸지 않는다")
+        @Test
+        void tryAcquire_fails_when_held_by_other_node() {
+            // given
+            queueRedisTemplate.opsForValue().set(LEASE_KEY, OTHER_NODE_ID, Duration.ofSeconds(1));
+
+            // when
+            boolean acquired = redisLease.tryAcquire(LEASE_KEY, Duration.ofSeconds(10));
+
+            // then
+            assertThat(acquired).isFalse();
+            assertThat(queueRedisTemplate.opsForValue().get(LEASE_KEY)).isEqualTo(OTHER_NODE_ID);
+            assertThat(queueRedisTemplate.getExpire(LEASE_KEY, TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(1_000L);
+        }
+
+        @DisplayName("다른 서버의 리스가 만료되면 획득한다")
+        @Test
+        void tryAcquire_after_other_node_lease_expires() throws InterruptedException {
+            // given
+            queueRedisTemplate.opsForValue().set(LEASE_KEY, OTHER_NODE_ID, Duration.ofMillis(100));
+            Thread.sleep(200);
+
+            // when
+            boolean acquired = redisLease.tryAcquire(LEASE_KEY, Duration.ofSeconds(10));
+
+            // then
+            assertThat(acquired).isTrue();
+            assertThat(queueRedisTemplate.opsForValue().get(LEASE_KEY)).isNotEqualTo(OTHER_NODE_ID);
+        }
+    }
+}
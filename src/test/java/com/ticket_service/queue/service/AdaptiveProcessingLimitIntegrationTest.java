@@ -0,0 +1,111 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.redis.QueueKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AdaptiveProcessingLimitIntegrationTest {
+
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long OTHER_CONCERT_ID = 2L;
+    private static final int INITIAL_LIMIT = 100;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    private void clear() {
+        queueRedisTemplate.delete(List.of(
+                QueueKey.processingLimit(CONCERT_ID),
+                QueueKey.processingLimit(OTHER_CONCERT_ID),
+                QueueKey.processingShare(CONCERT_ID),
+                QueueKey.processingShare(OTHER_CONCERT_ID),
+                QueueKey.processingShareConcerts()
+        ));
+    }
+
+    private AdaptiveProcessingLimit limit(int globalBudget) {
+        // 캐시 없이 매번 Redis에서 읽는다
+        return new AdaptiveProcessingLimit(queueRedisTemplate, mock(QueueMetrics.class), INITIAL_LIMIT, globalBudget, Duration.ZERO);
+    }
+
+    @Nested
+    @DisplayName("updateShares 메서드")
+    class UpdateSharesTest {
+
+        @DisplayName("이번 배분에서 빠진 공연의 몫은 지워 제한이 풀린다")
+        @Test
+        void updateShares_clears_dropped_concerts() {
+            // given
+            AdaptiveProcessingLimit adaptiveProcessingLimit = limit(600);
+            adaptiveProcessingLimit.updateShares(Map.of(CONCERT_ID, 50, OTHER_CONCERT_ID, 70));
+
+            // when
+            adaptiveProcessingLimit.updateShares(Map.of(CONCERT_ID, 60));
+
+            // then
+            assertThat(adaptiveProcessingLimit.get(CONCERT_ID)).isEqualTo(60);
+            assertThat(adaptiveProcessingLimit.get(OTHER_CONCERT_ID)).isEqualTo(INITIAL_LIMIT);
+            assertThat(queueRedisTemplate.hasKey(QueueKey.processingShare(OTHER_CONCERT_ID))).isFalse();
+        }
+
+        @DisplayName("빈 배분으로 교체하면 남아 있던 몫을 모두 지운다")
+        @Test
+        void updateShares_empty_clears_all() {
+            // given
+            AdaptiveProcessingLimit adaptiveProcessingLimit = limit(600);
+            adaptiveProcessingLimit.updateShares(Map.of(CONCERT_ID, 50));
+
+            // when
+            adaptiveProcessingLimit.updateShares(Map.of());
+
+            // then
+            assertThat(adaptiveProcessingLimit.get(CONCERT_ID)).isEqualTo(INITIAL_LIMIT);
+            assertThat(queueRedisTemplate.hasKey(QueueKey.processingShareConcerts())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("get 메서드")
+    class GetTest {
+
+        @DisplayName("예산을 쓰지 않으면(total=0) 남아 있는 몫을 적용하지 않는다")
+        @Test
+        void get_ignores_share_when_budget_disabled() {
+            // given
+            limit(600).updateShares(Map.of(CONCERT_ID, 30));
+
+            // when
+            int result = limit(0).get(CONCERT_ID);
+
+            // then
+            assertThat(result).isEqualTo(INITIAL_LIMIT);
+        }
+    }
+}
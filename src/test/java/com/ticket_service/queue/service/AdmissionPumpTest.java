@@ -0,0 +1,152 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.common.redis.RedisLease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionPumpTest {
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private QueueEventPublisher queueEventPublisher;
+
+    @Mock
+    private WaitingPresence waitingPresence;
+
+    @Mock
+    private RedisLease redisLease;
+
+    @Mock
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private NodeDrain nodeDrain;
+
+    private AdmissionPump admissionPump;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long OTHER_CONCERT_ID = 2L;
+
+    @BeforeEach
+    void setUp() {
+        // 주기 실행 간격을 길게 두어 첫 틱 이후에는 신호로만 입장 처리되도록 한다
+        admissionPump = new AdmissionPump(queueService, queueEventPublisher, waitingPresence, redisLease,
+                queueRedisTemplate, redisMessageListenerContainer, nodeDrain, Duration.ofMinutes(1));
+    }
+
+    @Nested
+    @DisplayName("pump 메서드")
+    class PumpTest {
+
+        @DisplayName("첫 틱에는 대기자가 있는 모든 공연을, 이후에는 신호를 받은 공연만 입장 처리한다")
+        @Test
+        void pump_full_run_then_signalled_only() {
+            // given
+            given(waitingPresence.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(redisLease.tryAcquire(anyString(), any(Duration.class))).willReturn(true);
+            given(queueService.permitProcessing(anyLong())).willReturn(List.of());
+
+            // when
+            admissionPump.pump();
+            admissionPump.pump();
+            admissionPump.onMessage(new DefaultMessage(AdmissionPump.ADMISSION_SIGNAL_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(OTHER_CONCERT_ID).getBytes(StandardCharsets.UTF_8)), null);
+            admissionPump.pump();
+
+            // then
+            verify(waitingPresence, times(1)).getConcertIds();
+            verify(queueService, times(1)).permitProcessing(CONCERT_ID);
+            verify(queueService, times(1)).permitProcessing(OTHER_CONCERT_ID);
+        }
+
+        @DisplayName("리스를 얻은 서버는 입장한 사용자 전체를 한 번에 발행한다")
+        @Test
+        void pump_admits_and_publishes_once() {
+            // given
+            given(waitingPresence.getConcertIds()).willReturn(Set.of());
+            given(redisLease.tryAcquire(eq(QueueKey.admissionLease(CONCERT_ID)), any(Duration.class))).willReturn(true);
+            given(queueService.permitProcessing(CONCERT_ID)).willReturn(List.of("user-1", "user-2"));
+            admissionPump.signal(CONCERT_ID);
+
+            // when
+            admissionPump.pump();
+
+            // then
+            verify(queueEventPublisher).publishEnterEvents(CONCERT_ID, List.of("user-1", "user-2"));
+        }
+
+        @DisplayName("입장한 사용자가 없으면 발행하지 않는다")
+        @Test
+        void pump_no_publish_when_nobody_admitted() {
+            // given
+            given(waitingPresence.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(redisLease.tryAcquire(anyString(), any(Duration.class))).willReturn(true);
+            given(queueService.permitProcessing(CONCERT_ID)).willReturn(List.of());
+
+            // when
+            admissionPump.pump();
+
+            // then
+            verify(queueEventPublisher, never()).publishEnterEvents(anyLong(), anyList());
+        }
+
+        @DisplayName("다른 서버가 리스를 가지고 있으면 입장 처리하지 않는다")
+        @Test
+        void pump_skipped_without_lease() {
+            // given
+            given(waitingPresence.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(redisLease.tryAcquire(anyString(), any(Duration.class))).willReturn(false);
+
+            // when
+            admissionPump.pump();
+
+            // then
+            verifyNoInteractions(queueService, queueEventPublisher);
+        }
+
+        @DisplayName("종료 중인 서버는 리스를 시도하지 않는다")
+        @Test
+        void pump_skipped_while_draining() {
+            // given
+            given(nodeDrain.isDraining()).willReturn(true);
+            admissionPump.signal(CONCERT_ID);
+
+            // when
+            admissionPump.pump();
+
+            // then
+            verifyNoInteractions(redisLease, queueService, waitingPresence);
+        }
+    }
+}
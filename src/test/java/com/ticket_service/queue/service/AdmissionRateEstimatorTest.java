@@ -0,0 +1,136 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionRateEstimatorTest {
+
+    @Mock
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private AdmissionRateEstimator admissionRateEstimator;
+
+    private static final Long CONCERT_ID = 1L;
+
+    // 표본 구간은 최소 1초이므로 그보다 조금 길게 기다린다
+    private static final long WINDOW_MILLIS = 1_100L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(admissionRateEstimator, "smoothing", 0.3);
+        ReflectionTestUtils.setField(admissionRateEstimator, "granularity", Duration.ofSeconds(10));
+    }
+
+    @Nested
+    @DisplayName("update 메서드")
+    class UpdateTest {
+
+        @DisplayName("1초가 지나지 않으면 입장 인원이 늘어도 속도를 갱신하지 않는다")
+        @Test
+        void update_ignores_samples_within_window() {
+            // given
+            given(queueRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(QueueKey.admittedCount(CONCERT_ID))).willReturn("0", "100");
+
+            // when
+            admissionRateEstimator.update(CONCERT_ID);
+            double rate = admissionRateEstimator.update(CONCERT_ID);
+
+            // then
+            assertThat(rate).isZero();
+            assertThat(admissionRateEstimator.estimateWaitSeconds(CONCERT_ID, 10)).isNull();
+        }
+
+        @DisplayName("구간 동안 늘어난 입장 인원으로 속도를 계산하고, 다음 구간부터는 지수이동평균으로 반영한다")
+        @Test
+        void update_rate_over_window() throws InterruptedException {
+            // given
+            given(queueRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(QueueKey.admittedCount(CONCERT_ID))).willReturn("0", "100", "100");
+            admissionRateEstimator.update(CONCERT_ID);
+
+            // when
+            Thread.sleep(WINDOW_MILLIS);
+            double firstRate = admissionRateEstimator.update(CONCERT_ID);
+            Thread.sleep(WINDOW_MILLIS);
+            double secondRate = admissionRateEstimator.update(CONCERT_ID);
+
+            // then
+            // 100명 / 1.1초 이상 경과
+            assertThat(firstRate).isBetween(40.0, 100.0 * 1000 / WINDOW_MILLIS);
+            // 두 번째 구간에는 입장이 없으므로 0.3 * 0 + 0.7 * 이전 속도
+            assertThat(secondRate).isCloseTo(firstRate * 0.7, within(1e-9));
+        }
+    }
+
+    @Nested
+    @DisplayName("estimateWaitSeconds 메서드")
+    class EstimateWaitSecondsTest {
+
+        @DisplayName("아직 속도를 추정하지 않은 공연은 예상 시간을 제공하지 않는다")
+        @Test
+        void estimate_unknown_concert() {
+            // when
+            Long seconds = admissionRateEstimator.estimateWaitSeconds(CONCERT_ID, 10);
+
+            // then
+            assertThat(seconds).isNull();
+        }
+
+        @DisplayName("입장 속도로 나눈 시간을 granularity 단위로 올림한다")
+        @Test
+        void estimate_rounds_up_to_granularity() throws InterruptedException {
+            // given
+            given(queueRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(QueueKey.admittedCount(CONCERT_ID))).willReturn("0", "100");
+            admissionRateEstimator.update(CONCERT_ID);
+            Thread.sleep(WINDOW_MILLIS);
+            admissionRateEstimator.update(CONCERT_ID);
+
+            // when
+            // 앞에 99명, 속도 40~91명/초 → 2~3초 → 10초
+            Long seconds = admissionRateEstimator.estimateWaitSeconds(CONCERT_ID, 99);
+
+            // then
+            assertThat(seconds).isEqualTo(10L);
+        }
+
+        @DisplayName("구간 동안 입장이 없으면 대기열이 멈춘 것으로 보고 예상 시간을 제공하지 않는다")
+        @Test
+        void estimate_stalled_queue() throws InterruptedException {
+            // given
+            given(queueRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(QueueKey.admittedCount(CONCERT_ID))).willReturn("50", "50");
+            admissionRateEstimator.update(CONCERT_ID);
+            Thread.sleep(WINDOW_MILLIS);
+            admissionRateEstimator.update(CONCERT_ID);
+
+            // when
+            Long seconds = admissionRateEstimator.estimateWaitSeconds(CONCERT_ID, 10);
+
+            // then
+            assertThat(seconds).isNull();
+        }
+    }
+}
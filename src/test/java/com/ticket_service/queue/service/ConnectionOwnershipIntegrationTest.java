@@ -0,0 +1,73 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class ConnectionOwnershipIntegrationTest {
+
+    @Autowired
+    private ConnectionOwnership connectionOwnership;
+
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        queueRedisTemplate.delete(QueueKey.connectionOwners(CONCERT_ID));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queueRedisTemplate.delete(QueueKey.connectionOwners(CONCERT_ID));
+    }
+
+    @Nested
+    @DisplayName("claim / release 메서드")
+    class ClaimReleaseTest {
+
+        @DisplayName("claim은 이 서버를 소유자로 기록하고 TTL을 설정한다")
+        @Test
+        void claim_records_local_node_with_ttl() {
+            // when
+            connectionOwnership.claim(CONCERT_ID, "user-1");
+
+            // then
+            assertThat(connectionOwnership.owners(CONCERT_ID, List.of("user-1")))
+                    .containsExactly(connectionOwnership.getLocalNodeId());
+            assertThat(queueRedisTemplate.getExpire(QueueKey.connectionOwners(CONCERT_ID))).isPositive();
+        }
+
+        @DisplayName("여러 사용자의 기록을 한 번에 지운다")
+        @Test
+        void release_removes_given_users_only() {
+            // given
+            connectionOwnership.claim(CONCERT_ID, "user-1");
+            connectionOwnership.claim(CONCERT_ID, "user-2");
+            connectionOwnership.claim(CONCERT_ID, "user-3");
+
+            // when
+            connectionOwnership.release(CONCERT_ID, List.of("user-1", "user-2"));
+
+            // then
+            assertThat(connectionOwnership.owners(CONCERT_ID, List.of("user-1", "user-2", "user-3")))
+                    .isEqualTo(Arrays.asList(null, null, connectionOwnership.getLocalNodeId()));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.redis.LockKey;
+import com.ticket_service.common.redis.RedissonLockTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LotteryDrawTest {
+
+    @Mock
+    private LotteryRegistry lotteryRegistry;
+
+    @Mock
+    private ConcertSchedule concertSchedule;
+
+    @Mock
+    private WaitingQueue waitingQueue;
+
+    @Mock
+    private WaitingPresence waitingPresence;
+
+    @Mock
+    private AdmissionPump admissionPump;
+
+    @Mock
+    private QueuePositionBatchScheduler queuePositionBatchScheduler;
+
+    @Mock
+    private RedissonLockTemplate redissonLockTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    @Mock
+    private SseDispatcher sseDispatcher;
+
+    private LotteryDraw lotteryDraw;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        lotteryDraw = new LotteryDraw(lotteryRegistry, concertSchedule, waitingQueue, waitingPresence, admissionPump,
+                queuePositionBatchScheduler, redissonLockTemplate, queueRedisTemplate, redisMessageListenerContainer,
+                queueMetrics, sseDispatcher);
+    }
+
+    private void givenLockAcquired() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).given(redissonLockTemplate).tryExecuteWithLock(eq(LockKey.lotteryDraw(CONCERT_ID)), any(Runnable.class));
+    }
+
+    @Nested
+    @DisplayName("drawDueConcerts 메서드")
+    class DrawDueConcertsTest {
+
+        @DisplayName("응모자의 score는 오픈 시각 이전이므로 오픈 후 추첨 전에 들어온 일반 등록자보다 앞선다")
+        @Test
+        void draw_scores_before_open_time() {
+            // given
+            long openAtMillis = System.currentTimeMillis() - 5_000;
+            given(lotteryRegistry.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(concertSchedule.getOpenAtMillis(eq(CONCERT_ID), anyLong())).willReturn(openAtMillis);
+            given(lotteryRegistry.claim(CONCERT_ID)).willReturn(new ArrayList<>(List.of(
+                    new LotteryRegistry.LotteryEntry("user-1", QueueLanes.DEFAULT_LANE),
+                    new LotteryRegistry.LotteryEntry("user-2", QueueLanes.DEFAULT_LANE),
+                    new LotteryRegistry.LotteryEntry("user-3", QueueLanes.DEFAULT_LANE)
+            )));
+            givenLockAcquired();
+
+            // when
+            lotteryDraw.drawDueConcerts();
+
+            // then
+            ArgumentCaptor<Long> firstScore = ArgumentCaptor.forClass(Long.class);
+            verify(waitingQueue).addAll(eq(CONCERT_ID), eq(QueueLanes.DEFAULT_LANE), anyList(), firstScore.capture());
+            assertThat(firstScore.getValue()).isEqualTo(openAtMillis - 3);
+            assertThat(firstScore.getValue() + 2).isLessThan(openAtMillis);
+            verify(admissionPump).signal(CONCERT_ID);
+        }
+
+        @DisplayName("여러 레인에 응모한 사용자는 한 레인에만 등록한다")
+        @SuppressWarnings("unchecked")
+        @Test
+        void draw_dedupes_users_across_lanes() {
+            // given
+            given(lotteryRegistry.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(concertSchedule.getOpenAtMillis(eq(CONCERT_ID), anyLong())).willReturn(System.currentTimeMillis());
+            given(lotteryRegistry.claim(CONCERT_ID)).willReturn(new ArrayList<>(List.of(
+                    new LotteryRegistry.LotteryEntry("user-1", "vip"),
+                    new LotteryRegistry.LotteryEntry("user-1", QueueLanes.DEFAULT_LANE),
+                    new LotteryRegistry.LotteryEntry("user-2", QueueLanes.DEFAULT_LANE)
+            )));
+            givenLockAcquired();
+
+            // when
+            lotteryDraw.drawDueConcerts();
+
+            // then
+            ArgumentCaptor<List<String>> userIds = ArgumentCaptor.forClass(List.class);
+            verify(waitingQueue, atLeastOnce()).addAll(eq(CONCERT_ID), anyString(), userIds.capture(), anyLong());
+            List<String> added = userIds.getAllValues().stream().flatMap(List::stream).toList();
+            assertThat(added).containsExactlyInAnyOrder("user-1", "user-2");
+            verify(queueMetrics).incrementLotteryDrawn(CONCERT_ID, 2);
+        }
+
+        @DisplayName("응모는 대기열 등록이 끝난 뒤에 지우며, 중복 응모는 등록한 레인과 함께 지운다")
+        @SuppressWarnings("unchecked")
+        @Test
+        void draw_removes_entries_after_insert() {
+            // given
+            LotteryRegistry.LotteryEntry vipEntry = new LotteryRegistry.LotteryEntry("user-1", "vip");
+            LotteryRegistry.LotteryEntry duplicateEntry = new LotteryRegistry.LotteryEntry("user-1", QueueLanes.DEFAULT_LANE);
+            given(lotteryRegistry.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(concertSchedule.getOpenAtMillis(eq(CONCERT_ID), anyLong())).willReturn(System.currentTimeMillis());
+            given(lotteryRegistry.claim(CONCERT_ID)).willReturn(new ArrayList<>(List.of(vipEntry, duplicateEntry)));
+            givenLockAcquired();
+
+            // when
+            lotteryDraw.drawDueConcerts();
+
+            // then
+            ArgumentCaptor<List<String>> userIds = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<Collection<LotteryRegistry.LotteryEntry>> removed = ArgumentCaptor.forClass(Collection.class);
+            InOrder inOrder = inOrder(waitingQueue, lotteryRegistry);
+            inOrder.verify(waitingQueue).addAll(eq(CONCERT_ID), anyString(), userIds.capture(), anyLong());
+            inOrder.verify(lotteryRegistry).remove(eq(CONCERT_ID), removed.capture());
+            assertThat(userIds.getValue()).containsExactly("user-1");
+            assertThat(removed.getValue()).containsExactlyInAnyOrder(vipEntry, duplicateEntry);
+        }
+
+        @DisplayName("대기열 등록이 실패하면 응모를 지우지 않고 추첨 대상으로 남겨 다음 틱에 다시 추첨한다")
+        @Test
+        void draw_keeps_entries_when_insert_fails() {
+            // given
+            given(lotteryRegistry.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(concertSchedule.getOpenAtMillis(eq(CONCERT_ID), anyLong())).willReturn(System.currentTimeMillis());
+            given(lotteryRegistry.claim(CONCERT_ID)).willReturn(new ArrayList<>(List.of(
+                    new LotteryRegistry.LotteryEntry("user-1", QueueLanes.DEFAULT_LANE)
+            )));
+            willThrow(new QueryTimeoutException("timeout"))
+                    .given(waitingQueue).addAll(eq(CONCERT_ID), anyString(), anyList(), anyLong());
+            givenLockAcquired();
+
+            // when
+            lotteryDraw.drawDueConcerts();
+
+            // then
+            verify(lotteryRegistry, never()).remove(any(), anyCollection());
+            verify(lotteryRegistry, never()).complete(CONCERT_ID);
+            verify(admissionPump, never()).signal(CONCERT_ID);
+        }
+
+        @DisplayName("다른 서버가 추첨 락을 가지고 있으면 등록하지 않는다")
+        @Test
+        void draw_skipped_when_lock_not_acquired() {
+            // given
+            given(lotteryRegistry.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+
+            // when
+            lotteryDraw.drawDueConcerts();
+
+            // then
+            verify(redissonLockTemplate).tryExecuteWithLock(eq(LockKey.lotteryDraw(CONCERT_ID)), any(Runnable.class));
+            verify(lotteryRegistry, never()).claim(CONCERT_ID);
+            verify(waitingQueue, never()).addAll(any(), any(), anyList(), anyLong());
+            verify(waitingPresence, never()).touch(any(), anyCollection(), anyLong());
+        }
+
+        @DisplayName("추첨 시각 전인 공연은 건너뛴다")
+        @Test
+        void draw_skipped_before_draw_time() {
+            // given
+            given(lotteryRegistry.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(concertSchedule.isBeforeLotteryDraw(eq(CONCERT_ID), anyLong())).willReturn(true);
+
+            // when
+            lotteryDraw.drawDueConcerts();
+
+            // then
+            verify(redissonLockTemplate, never()).tryExecuteWithLock(anyString(), any(Runnable.class));
+        }
+
+        @DisplayName("남은 응모가 없으면 추첨 대상에서 제거한다")
+        @Test
+        void draw_completes_when_no_entries() {
+            // given
+            given(lotteryRegistry.getConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(lotteryRegistry.claim(CONCERT_ID)).willReturn(new ArrayList<>());
+            givenLockAcquired();
+
+            // when
+            lotteryDraw.drawDueConcerts();
+
+            // then
+            verify(lotteryRegistry).complete(CONCERT_ID);
+            verify(waitingQueue, never()).addAll(any(), any(), anyList(), anyLong());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class LotteryRegistryIntegrationTest {
+
+    @Autowired
+    private LotteryRegistry lotteryRegistry;
+
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    private void clear() {
+        queueRedisTemplate.delete(List.of(
+                QueueKey.lotteryEntries(CONCERT_ID),
+                QueueKey.lotteryDrawing(CONCERT_ID),
+                QueueKey.lotteryConcerts()
+        ));
+    }
+
+    @Nested
+    @DisplayName("claim / remove 메서드")
+    class ClaimRemoveTest {
+
+        @DisplayName("claim은 응모를 지우지 않으므로 remove 전에 다시 claim하면 같은 응모를 읽는다")
+        @Test
+        void claim_keeps_entries_until_removed() {
+            // given
+            lotteryRegistry.register(CONCERT_ID, "user-1", QueueLanes.DEFAULT_LANE);
+            lotteryRegistry.register(CONCERT_ID, "user-2", "vip");
+
+            // when
+            List<LotteryRegistry.LotteryEntry> first = lotteryRegistry.claim(CONCERT_ID);
+            List<LotteryRegistry.LotteryEntry> retried = lotteryRegistry.claim(CONCERT_ID);
+
+            // then
+            assertThat(first).containsExactlyInAnyOrder(
+                    new LotteryRegistry.LotteryEntry("user-1", QueueLanes.DEFAULT_LANE),
+                    new LotteryRegistry.LotteryEntry("user-2", "vip")
+            );
+            assertThat(retried).containsExactlyInAnyOrderElementsOf(first);
+            assertThat(queueRedisTemplate.hasKey(QueueKey.lotteryEntries(CONCERT_ID))).isFalse();
+        }
+
+        @DisplayName("이전 추첨에서 남은 응모와 새 응모를 함께 읽는다")
+        @Test
+        void claim_merges_leftover_and_new_entries() {
+            // given
+            lotteryRegistry.register(CONCERT_ID, "user-1", QueueLanes.DEFAULT_LANE);
+            lotteryRegistry.claim(CONCERT_ID);
+            lotteryRegistry.register(CONCERT_ID, "user-2", QueueLanes.DEFAULT_LANE);
+
+            // when
+            List<LotteryRegistry.LotteryEntry> entries = lotteryRegistry.claim(CONCERT_ID);
+
+            // then
+            assertThat(entries).extracting(LotteryRegistry.LotteryEntry::userId)
+                    .containsExactlyInAnyOrder("user-1", "user-2");
+        }
+
+        @DisplayName("등록한 응모를 지우면 남은 응모만 다시 읽힌다")
+        @Test
+        void remove_then_claim_returns_rest() {
+            // given
+            lotteryRegistry.register(CONCERT_ID, "user-1", QueueLanes.DEFAULT_LANE);
+            lotteryRegistry.register(CONCERT_ID, "user-2", QueueLanes.DEFAULT_LANE);
+            lotteryRegistry.claim(CONCERT_ID);
+
+            // when
+            lotteryRegistry.remove(CONCERT_ID, List.of(new LotteryRegistry.LotteryEntry("user-1", QueueLanes.DEFAULT_LANE)));
+
+            // then
+            assertThat(lotteryRegistry.claim(CONCERT_ID)).containsExactly(
+                    new LotteryRegistry.LotteryEntry("user-2", QueueLanes.DEFAULT_LANE)
+            );
+        }
+
+        @DisplayName("남은 응모가 없으면 빈 목록을 반환한다")
+        @Test
+        void claim_empty() {
+            // when
+            List<LotteryRegistry.LotteryEntry> entries = lotteryRegistry.claim(CONCERT_ID);
+
+            // then
+            assertThat(entries).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class PositionSnapshotIntegrationTest {
+
+    @Autowired
+    private PositionSnapshot positionSnapshot;
+
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    private void clear() {
+        // 버전 포인터와 버전별 스냅샷을 모두 지운다
+        Set<String> keys = queueRedisTemplate.keys(QueueKey.positionSnapshotVersion(CONCERT_ID).replace("VERSION", "*"));
+        if (keys != null && !keys.isEmpty()) {
+            queueRedisTemplate.delete(keys);
+        }
+        queueRedisTemplate.delete(QueueKey.positionSnapshotLease(CONCERT_ID));
+    }
+
+    @Nested
+    @DisplayName("publish / read 메서드")
+    class PublishReadTest {
+
+        @DisplayName("스냅샷이 없으면 null을 반환한다")
+        @Test
+        void read_without_snapshot() {
+            // when
+            Map<String, Long> positions = positionSnapshot.read(CONCERT_ID, List.of("user-1"));
+
+            // then
+            assertThat(positions).isNull();
+        }
+
+        @DisplayName("저장한 스냅샷에서 요청한 사용자 중 존재하는 사용자의 순번만 읽는다")
+        @Test
+        void read_published_positions() {
+            // given
+            positionSnapshot.publish(CONCERT_ID, Map.of("user-1", 0L, "user-2", 1L));
+
+            // when
+            Map<String, Long> positions = positionSnapshot.read(CONCERT_ID, List.of("user-1", "user-2", "user-3"));
+
+            // then
+            assertThat(positions).containsExactlyInAnyOrderEntriesOf(Map.of("user-1", 0L, "user-2", 1L));
+        }
+
+        @DisplayName("스냅샷은 버전 포인터보다 늦게 만료된다")
+        @Test
+        void snapshot_outlives_version_pointer() {
+            // given
+            positionSnapshot.publish(CONCERT_ID, Map.of("user-1", 0L));
+            String version = queueRedisTemplate.opsForValue().get(QueueKey.positionSnapshotVersion(CONCERT_ID));
+
+            // when
+            Long pointerTtl = queueRedisTemplate.getExpire(QueueKey.positionSnapshotVersion(CONCERT_ID), TimeUnit.MILLISECONDS);
+            Long snapshotTtl = queueRedisTemplate.getExpire(QueueKey.positionSnapshot(CONCERT_ID, Long.parseLong(version)), TimeUnit.MILLISECONDS);
+
+            // then
+            assertThat(pointerTtl).isPositive();
+            assertThat(snapshotTtl).isGreaterThan(pointerTtl);
+        }
+
+        @DisplayName("새 스냅샷을 저장하면 이전 스냅샷의 순번은 더 이상 읽히지 않는다")
+        @Test
+        void read_latest_snapshot_only() throws InterruptedException {
+            // given
+            positionSnapshot.publish(CONCERT_ID, Map.of("user-1", 0L, "user-2", 1L));
+            // 버전이 밀리초 단위이므로 다음 버전이 겹치지 않도록 기다린다
+            Thread.sleep(5);
+
+            // when
+            positionSnapshot.publish(CONCERT_ID, Map.of("user-2", 0L));
+            Map<String, Long> positions = positionSnapshot.read(CONCERT_ID, List.of("user-1", "user-2"));
+
+            // then
+            assertThat(positions).containsExactlyEntriesOf(Map.of("user-2", 0L));
+        }
+
+        @DisplayName("대기자가 없으면 버전 포인터를 지워 스냅샷이 없는 상태가 된다")
+        @Test
+        void publish_empty_clears_pointer() {
+            // given
+            positionSnapshot.publish(CONCERT_ID, Map.of("user-1", 0L));
+
+            // when
+            positionSnapshot.publish(CONCERT_ID, Map.of());
+
+            // then
+            assertThat(positionSnapshot.read(CONCERT_ID, List.of("user-1"))).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("tryAcquireLease 메서드")
+    class TryAcquireLeaseTest {
+
+        @DisplayName("같은 서버는 스냅샷 리스를 계속 보유한다")
+        @Test
+        void tryAcquireLease_keeps_lease() {
+            // when
+            boolean first = positionSnapshot.tryAcquireLease(CONCERT_ID);
+            boolean second = positionSnapshot.tryAcquireLease(CONCERT_ID);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+        }
+    }
+}
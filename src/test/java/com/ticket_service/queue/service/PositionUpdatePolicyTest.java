@@ -0,0 +1,72 @@
+package com.ticket_service.queue.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PositionUpdatePolicyTest {
+
+    private PositionUpdatePolicy policy;
+
+    private static final long NOW = 1_000_000L;
+
+    @BeforeEach
+    void setUp() {
+        policy = new PositionUpdatePolicy(
+                1000, 5000,
+                Duration.ofSeconds(15), Duration.ofSeconds(30),
+                10, 0.05,
+                Duration.ofSeconds(60)
+        );
+    }
+
+    @Nested
+    @DisplayName("shouldSend 메서드")
+    class ShouldSendTest {
+
+        @DisplayName("한 번도 전송하지 않은 연결에는 전송")
+        @Test
+        void shouldSend_first_time() {
+            SseConnection connection = new SseConnection(1L, "user-1", new SseEmitter());
+
+            assertThat(policy.shouldSend(connection, 15_000, NOW)).isTrue();
+        }
+
+        @DisplayName("순번이 그대로면 전송하지 않음")
+        @Test
+        void shouldSend_unchanged() {
+            assertThat(policy.shouldSend(500, NOW - 60_000, 500, NOW)).isFalse();
+        }
+
+        @DisplayName("앞쪽 구간은 순번이 바뀔 때마다 전송")
+        @Test
+        void shouldSend_head_every_change() {
+            assertThat(policy.shouldSend(501, NOW - 1, 500, NOW)).isTrue();
+        }
+
+        @DisplayName("뒤쪽 구간은 주기가 지나지 않으면 전송하지 않음")
+        @Test
+        void shouldSend_tail_before_interval() {
+            assertThat(policy.shouldSend(16_000, NOW - 10_000, 15_000, NOW)).isFalse();
+        }
+
+        @DisplayName("뒤쪽 구간은 주기가 지나고 변화가 크면 전송")
+        @Test
+        void shouldSend_tail_significant_change() {
+            assertThat(policy.shouldSend(16_000, NOW - 30_000, 15_000, NOW)).isTrue();
+        }
+
+        @DisplayName("변화가 작으면 max-silence가 지날 때까지 전송하지 않음")
+        @Test
+        void shouldSend_small_change_waits_for_max_silence() {
+            assertThat(policy.shouldSend(15_005, NOW - 30_000, 15_000, NOW)).isFalse();
+            assertThat(policy.shouldSend(15_005, NOW - 60_000, 15_000, NOW)).isTrue();
+        }
+    }
+}
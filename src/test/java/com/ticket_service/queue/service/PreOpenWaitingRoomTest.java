@@ -0,0 +1,109 @@
+package com.ticket_service.queue.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PreOpenWaitingRoomTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final long OPEN_AT = 1_000_000L;
+
+    @Nested
+    @DisplayName("pollDue 메서드")
+    class PollDueTest {
+
+        @DisplayName("오픈 전에는 아무도 꺼내지 않는다")
+        @Test
+        void pollDue_before_open() {
+            // given
+            PreOpenWaitingRoom room = new PreOpenWaitingRoom(Duration.ofSeconds(10));
+            room.join(CONCERT_ID, "user-1", QueueLanes.DEFAULT_LANE, OPEN_AT, OPEN_AT - 60_000);
+
+            // when
+            List<PreOpenWaitingRoom.Guest> due = room.pollDue(CONCERT_ID, OPEN_AT - 1);
+
+            // then
+            assertThat(due).isEmpty();
+            assertThat(room.size(CONCERT_ID)).isEqualTo(1);
+        }
+
+        @DisplayName("입장 시각은 오픈 시각부터 release-jitter 안에 흩어진다")
+        @Test
+        void pollDue_within_jitter() {
+            // given
+            PreOpenWaitingRoom room = new PreOpenWaitingRoom(Duration.ofSeconds(10));
+            for (int i = 0; i < 100; i++) {
+                room.join(CONCERT_ID, "user-" + i, QueueLanes.DEFAULT_LANE, OPEN_AT, OPEN_AT - 60_000);
+            }
+
+            // when
+            List<PreOpenWaitingRoom.Guest> due = room.pollDue(CONCERT_ID, OPEN_AT + 10_000);
+
+            // then
+            assertThat(due).hasSize(100)
+                    .allSatisfy(guest -> assertThat(guest.releaseAtMillis()).isBetween(OPEN_AT, OPEN_AT + 9_999));
+            assertThat(room.getConcertIds()).doesNotContain(CONCERT_ID);
+        }
+
+        @DisplayName("다시 입장한 대기자는 처음 정해진 입장 시각을 유지한다")
+        @Test
+        void join_keeps_release_time() {
+            // given
+            PreOpenWaitingRoom room = new PreOpenWaitingRoom(Duration.ofSeconds(10));
+            room.join(CONCERT_ID, "user-1", QueueLanes.DEFAULT_LANE, OPEN_AT, OPEN_AT - 60_000);
+            long releaseAt = room.getGuests(CONCERT_ID).iterator().next().releaseAtMillis();
+
+            // when
+            room.join(CONCERT_ID, "user-1", QueueLanes.DEFAULT_LANE, OPEN_AT, OPEN_AT - 60_000);
+
+            // then
+            assertThat(room.getGuests(CONCERT_ID)).singleElement()
+                    .extracting(PreOpenWaitingRoom.Guest::releaseAtMillis)
+                    .isEqualTo(releaseAt);
+        }
+
+        @DisplayName("대기열 score는 입장 시각과 관계없이 대기실에 들어온 순서를 따르며 오픈 시각보다 작다")
+        @Test
+        void pollDue_queue_score_keeps_join_order() {
+            // given
+            PreOpenWaitingRoom room = new PreOpenWaitingRoom(Duration.ofSeconds(10));
+            room.join(CONCERT_ID, "user-1", QueueLanes.DEFAULT_LANE, OPEN_AT, OPEN_AT - 2_000);
+            room.join(CONCERT_ID, "user-2", QueueLanes.DEFAULT_LANE, OPEN_AT, OPEN_AT - 1_000);
+            room.join(CONCERT_ID, "user-3", QueueLanes.DEFAULT_LANE, OPEN_AT, OPEN_AT);
+
+            // when
+            List<PreOpenWaitingRoom.Guest> due = room.pollDue(CONCERT_ID, OPEN_AT + 10_000);
+
+            // then
+            assertThat(due).extracting(PreOpenWaitingRoom.Guest::userId, PreOpenWaitingRoom.Guest::queueScore)
+                    .containsExactlyInAnyOrder(
+                            tuple("user-1", OPEN_AT - 2_000),
+                            tuple("user-2", OPEN_AT - 1_000),
+                            tuple("user-3", OPEN_AT - 1)
+                    );
+        }
+
+        @DisplayName("되돌린 대기자는 입장 시각과 score를 유지한 채 다음 pollDue에서 다시 꺼내진다")
+        @Test
+        void requeue_keeps_guest() {
+            // given
+            PreOpenWaitingRoom room = new PreOpenWaitingRoom(Duration.ofSeconds(10));
+            room.join(CONCERT_ID, "user-1", QueueLanes.DEFAULT_LANE, OPEN_AT, OPEN_AT - 2_000);
+            PreOpenWaitingRoom.Guest guest = room.pollDue(CONCERT_ID, OPEN_AT + 10_000).get(0);
+
+            // when
+            room.requeue(CONCERT_ID, OPEN_AT, guest);
+
+            // then
+            assertThat(room.getConcertIds()).contains(CONCERT_ID);
+            assertThat(room.pollDue(CONCERT_ID, OPEN_AT + 10_000)).containsExactly(guest);
+        }
+    }
+}
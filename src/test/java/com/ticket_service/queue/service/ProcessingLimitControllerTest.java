@@ -0,0 +1,146 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.node.NodeIdentity;
+import com.ticket_service.common.redis.RedissonLockTemplate;
+import com.ticket_service.queue.service.ProcessingLimitController.PurchaseHealth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ProcessingLimitControllerTest {
+
+    private ProcessingLimitController controller;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        controller = new ProcessingLimitController(
+                mock(RedisTemplate.class),
+                mock(ProcessingSet.class),
+                mock(WaitingQueue.class),
+                mock(WaitingPresence.class),
+                mock(AdaptiveProcessingLimit.class),
+                mock(QueueMetrics.class),
+                mock(NodeIdentity.class),
+                mock(RedissonLockTemplate.class),
+                20, 2000,
+                10, 0.5,
+                Duration.ofMillis(500), 2,
+                Duration.ofSeconds(5),
+                600, 20
+        );
+    }
+
+    @Nested
+    @DisplayName("nextLimit 메서드")
+    class NextLimitTest {
+
+        @DisplayName("p95가 목표를 넘으면 배수로 감소")
+        @Test
+        void nextLimit_decrease_on_slow_purchase() {
+            PurchaseHealth health = new PurchaseHealth(800, 0, 100);
+
+            assertThat(controller.nextLimit(200, health, 200)).isEqualTo(100);
+        }
+
+        @DisplayName("커넥션 대기가 목표를 넘으면 배수로 감소")
+        @Test
+        void nextLimit_decrease_on_pending_connections() {
+            PurchaseHealth health = new PurchaseHealth(100, 5, 100);
+
+            assertThat(controller.nextLimit(200, health, 200)).isEqualTo(100);
+        }
+
+        @DisplayName("감소해도 최소값 아래로 내려가지 않음")
+        @Test
+        void nextLimit_not_below_min() {
+            PurchaseHealth health = new PurchaseHealth(800, 0, 100);
+
+            assertThat(controller.nextLimit(30, health, 30)).isEqualTo(20);
+        }
+
+        @DisplayName("목표 이내이고 처리열이 가득 차 있으면 일정량 증가")
+        @Test
+        void nextLimit_increase_when_healthy_and_saturated() {
+            PurchaseHealth health = new PurchaseHealth(100, 0, 100);
+
+            assertThat(controller.nextLimit(200, health, 200)).isEqualTo(210);
+        }
+
+        @DisplayName("증가해도 최대값을 넘지 않음")
+        @Test
+        void nextLimit_not_above_max() {
+            PurchaseHealth health = new PurchaseHealth(100, 0, 100);
+
+            assertThat(controller.nextLimit(1995, health, 1995)).isEqualTo(2000);
+        }
+
+        @DisplayName("처리열에 여유가 있으면 유지")
+        @Test
+        void nextLimit_hold_when_not_saturated() {
+            PurchaseHealth health = new PurchaseHealth(100, 0, 100);
+
+            assertThat(controller.nextLimit(200, health, 120)).isEqualTo(200);
+        }
+
+        @DisplayName("구매가 없었으면 유지")
+        @Test
+        void nextLimit_hold_without_purchases() {
+            PurchaseHealth health = new PurchaseHealth(0, 0, 0);
+
+            assertThat(controller.nextLimit(200, health, 200)).isEqualTo(200);
+        }
+    }
+
+    @Nested
+    @DisplayName("divideBudget 메서드")
+    class DivideBudgetTest {
+
+        @DisplayName("공연이 하나면 예산 전체를 배분")
+        @Test
+        void divideBudget_single_concert() {
+            Map<Long, Integer> shares = controller.divideBudget(Map.of(1L, 5000L));
+
+            assertThat(shares).containsEntry(1L, 600);
+        }
+
+        @DisplayName("수요에 비례해 배분")
+        @Test
+        void divideBudget_proportional_to_demand() {
+            Map<Long, Integer> shares = controller.divideBudget(Map.of(1L, 3000L, 2L, 1000L, 3L, 2000L));
+
+            assertThat(shares).containsEntry(1L, 300).containsEntry(2L, 100).containsEntry(3L, 200);
+        }
+
+        @DisplayName("수요가 적은 공연도 최소 몫을 보장")
+        @Test
+        void divideBudget_min_share() {
+            Map<Long, Integer> shares = controller.divideBudget(Map.of(1L, 10_000L, 2L, 10L));
+
+            assertThat(shares.get(2L)).isEqualTo(20);
+        }
+
+        @DisplayName("최소 몫의 합이 예산을 넘으면 균등 배분")
+        @Test
+        void divideBudget_even_split_when_too_many_concerts() {
+            Map<Long, Long> demands = new HashMap<>();
+            for (long concertId = 1; concertId <= 40; concertId++) {
+                demands.put(concertId, 0L);
+            }
+
+            Map<Long, Integer> shares = controller.divideBudget(demands);
+
+            assertThat(shares.values()).allMatch(share -> share == 15);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.queue.service.dto.QueueEnterMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueueEventPublisherTest {
+
+    @Mock
+    private QueueEnterTransport queueEnterTransport;
+
+    @Mock
+    private ConnectionOwnership connectionOwnership;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    @InjectMocks
+    private QueueEventPublisher queueEventPublisher;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Nested
+    @DisplayName("publishEnterEvents 메서드")
+    class PublishEnterEventsTest {
+
+        @DisplayName("연결 소유 서버별로 나눠 이 서버는 바로 전송하고, 다른 서버는 그 서버로, 모르는 사용자는 모든 서버로 보낸다")
+        @Test
+        void publishEnterEvents_routes_by_owner() {
+            // given
+            List<String> userIds = List.of("user-1", "user-2", "user-3", "user-4");
+            given(connectionOwnership.owners(CONCERT_ID, userIds)).willReturn(Arrays.asList("node-a", "node-b", null, "node-b"));
+            given(connectionOwnership.isLocal(anyString())).willAnswer(invocation -> "node-a".equals(invocation.getArgument(0)));
+
+            // when
+            queueEventPublisher.publishEnterEvents(CONCERT_ID, userIds);
+
+            // then
+            verify(sseEmitterService).sendEnterAndCompleteToLocal(CONCERT_ID, List.of("user-1"));
+            ArgumentCaptor<QueueEnterMessage> toNode = ArgumentCaptor.forClass(QueueEnterMessage.class);
+            verify(queueEnterTransport).sendToNode(eq("node-b"), toNode.capture());
+            assertThat(toNode.getValue().getUserIds()).containsExactly("user-2", "user-4");
+
+            ArgumentCaptor<QueueEnterMessage> broadcast = ArgumentCaptor.forClass(QueueEnterMessage.class);
+            verify(queueEnterTransport).broadcast(broadcast.capture());
+            assertThat(broadcast.getValue().getUserIds()).containsExactly("user-3");
+            verify(connectionOwnership).release(CONCERT_ID, List.of("user-1", "user-2", "user-4"));
+        }
+
+        @DisplayName("모든 사용자가 이 서버에 연결되어 있으면 발행하지 않는다")
+        @Test
+        void publishEnterEvents_all_local() {
+            // given
+            List<String> userIds = List.of("user-1", "user-2");
+            given(connectionOwnership.owners(CONCERT_ID, userIds)).willReturn(List.of("node-a", "node-a"));
+            given(connectionOwnership.isLocal("node-a")).willReturn(true);
+
+            // when
+            queueEventPublisher.publishEnterEvents(CONCERT_ID, userIds);
+
+            // then
+            verify(sseEmitterService).sendEnterAndCompleteToLocal(CONCERT_ID, userIds);
+            verify(queueEnterTransport, never()).sendToNode(anyString(), any());
+            verify(queueEnterTransport, never()).broadcast(any());
+            verify(connectionOwnership).release(CONCERT_ID, userIds);
+        }
+
+        @DisplayName("소유 서버를 모르는 사용자만 있으면 연결 소유 기록을 지우지 않는다")
+        @Test
+        void publishEnterEvents_unknown_owner_only() {
+            // given
+            List<String> userIds = List.of("user-1");
+            given(connectionOwnership.owners(CONCERT_ID, userIds)).willReturn(Arrays.asList((String) null));
+
+            // when
+            queueEventPublisher.publishEnterEvents(CONCERT_ID, userIds);
+
+            // then
+            verify(queueEnterTransport).broadcast(any());
+            verify(connectionOwnership, never()).release(eq(CONCERT_ID), anyList());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.common.node.NodeIdentity;
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.queue.service.dto.QueueEnterMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class QueueEventStreamConsumerTest {
+
+    @Mock
+    private RedisConnectionFactory queueRedisConnectionFactory;
+
+    @Mock
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    private QueueEventStreamConsumer consumer;
+
+    private static final String NODE_ID = "node-a";
+    private static final Long CONCERT_ID = 1L;
+    private static final String NODE_STREAM = QueueKey.nodeEnterStream(NODE_ID);
+
+    @BeforeEach
+    void setUp() {
+        consumer = new QueueEventStreamConsumer(queueRedisConnectionFactory, queueRedisTemplate, sseEmitterService, queueMetrics,
+                new NodeIdentity(NODE_ID, 8080), 100, Duration.ofMillis(100), Duration.ofSeconds(5));
+    }
+
+    private static ByteRecord record(String stream, RecordId id, byte[] payload) {
+        return StreamRecords.rawBytes(Map.of(StreamQueueEnterTransport.PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8), payload))
+                .withStreamKey(stream.getBytes(StandardCharsets.UTF_8))
+                .withId(id);
+    }
+
+    @Nested
+    @DisplayName("생성")
+    class CreateTest {
+
+        @DisplayName("queue.node-id를 설정하지 않으면 기동하지 않는다")
+        @Test
+        void create_fails_without_configured_node_id() {
+            assertThatThrownBy(() -> new QueueEventStreamConsumer(queueRedisConnectionFactory, queueRedisTemplate, sseEmitterService,
+                    queueMetrics, new NodeIdentity("", 8080), 100, Duration.ofMillis(100), Duration.ofSeconds(5)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드")
+    class OnMessageTest {
+
+        @DisplayName("전송이 끝나기 전에는 ACK하지 않고, 모든 전송이 성공하면 ACK한다")
+        @Test
+        void onMessage_acknowledges_after_sends_complete() {
+            // given
+            given(queueRedisTemplate.opsForStream()).willReturn(streamOperations);
+            RecordId id = RecordId.of(System.currentTimeMillis(), 0);
+            byte[] payload = QueueEnterMessage.of(CONCERT_ID, List.of("user-1")).encode();
+            CompletableFuture<Boolean> sends = new CompletableFuture<>();
+            given(sseEmitterService.sendEnterAndCompleteToLocalAsync(CONCERT_ID, List.of("user-1"))).willReturn(sends);
+
+            // when
+            consumer.onMessage(record(NODE_STREAM, id, payload));
+
+            // then
+            verify(streamOperations, never()).acknowledge(NODE_STREAM, NODE_ID, id);
+            sends.complete(true);
+            verify(streamOperations).acknowledge(NODE_STREAM, NODE_ID, id);
+        }
+
+        @DisplayName("전송에 실패한 사용자가 있으면 ACK하지 않아 pending 목록에 남긴다")
+        @Test
+        void onMessage_keeps_pending_when_send_fails() {
+            // given
+            RecordId id = RecordId.of(System.currentTimeMillis(), 0);
+            byte[] payload = QueueEnterMessage.of(CONCERT_ID, List.of("user-1", "user-2")).encode();
+            given(sseEmitterService.sendEnterAndCompleteToLocalAsync(CONCERT_ID, List.of("user-1", "user-2")))
+                    .willReturn(CompletableFuture.completedFuture(false));
+
+            // when
+            consumer.onMessage(record(NODE_STREAM, id, payload));
+
+            // then
+            verifyNoInteractions(streamOperations);
+        }
+
+        @DisplayName("전송 작업이 예외로 끝나면 ACK하지 않아 pending 목록에 남긴다")
+        @Test
+        void onMessage_keeps_pending_on_failure() {
+            // given
+            RecordId id = RecordId.of(System.currentTimeMillis(), 0);
+            byte[] payload = QueueEnterMessage.of(CONCERT_ID, List.of("user-1")).encode();
+            given(sseEmitterService.sendEnterAndCompleteToLocalAsync(CONCERT_ID, List.of("user-1")))
+                    .willReturn(CompletableFuture.failedFuture(new IllegalStateException("closed")));
+
+            // when
+            consumer.onMessage(record(NODE_STREAM, id, payload));
+
+            // then
+            verifyNoInteractions(streamOperations);
+        }
+
+        @DisplayName("해석할 수 없는 메시지는 다시 읽지 않도록 ACK한다")
+        @Test
+        void onMessage_acknowledges_invalid_message() {
+            // given
+            given(queueRedisTemplate.opsForStream()).willReturn(streamOperations);
+            RecordId id = RecordId.of(System.currentTimeMillis(), 0);
+
+            // when
+            consumer.onMessage(record(NODE_STREAM, id, new byte[]{99}));
+
+            // then
+            verify(streamOperations).acknowledge(NODE_STREAM, NODE_ID, id);
+            verify(sseEmitterService, never()).sendEnterAndCompleteToLocalAsync(any(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("retryPending 메서드")
+    class RetryPendingTest {
+
+        @Mock
+        private RedisConnection connection;
+
+        @Mock
+        private RedisStreamCommands streamCommands;
+
+        @DisplayName("pending-retry보다 오래된 pending 메시지만 다시 전송하고 ACK한다")
+        @Test
+        void retryPending_redelivers_old_entries() {
+            // given
+            long now = System.currentTimeMillis();
+            RecordId oldId = RecordId.of(now - 60_000, 0);
+            RecordId recentId = RecordId.of(now, 0);
+            byte[] oldPayload = QueueEnterMessage.of(CONCERT_ID, List.of("user-old")).encode();
+            byte[] recentPayload = QueueEnterMessage.of(CONCERT_ID, List.of("user-recent")).encode();
+
+            given(queueRedisTemplate.opsForStream()).willReturn(streamOperations);
+            given(connection.streamCommands()).willReturn(streamCommands);
+            given(streamCommands.xReadGroup(any(), any(), any(StreamOffset.class)))
+                    .willReturn(List.of(record(NODE_STREAM, oldId, oldPayload), record(NODE_STREAM, recentId, recentPayload)))
+                    .willReturn(List.of());
+            willAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection))
+                    .given(queueRedisTemplate).execute(any(RedisCallback.class));
+            given(sseEmitterService.sendEnterAndCompleteToLocalAsync(CONCERT_ID, List.of("user-old")))
+                    .willReturn(CompletableFuture.completedFuture(true));
+
+            // when
+            consumer.retryPending();
+
+            // then
+            verify(sseEmitterService).sendEnterAndCompleteToLocalAsync(CONCERT_ID, List.of("user-old"));
+            verify(sseEmitterService, never()).sendEnterAndCompleteToLocalAsync(CONCERT_ID, List.of("user-recent"));
+            verify(streamOperations).acknowledge(NODE_STREAM, NODE_ID, oldId);
+            verify(streamOperations, never()).acknowledge(NODE_STREAM, NODE_ID, recentId);
+            verify(queueMetrics).incrementEnterRedelivered("node", 1);
+        }
+    }
+}
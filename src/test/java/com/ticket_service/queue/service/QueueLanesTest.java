@@ -0,0 +1,80 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.queue.exception.UnknownQueueLaneException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueueLanesTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Nested
+    @DisplayName("레인 설정")
+    class ParseTest {
+
+        @DisplayName("설정 순서대로 레인과 가중치를 읽음")
+        @Test
+        void parse_lanes_in_order() {
+            QueueLanes queueLanes = new QueueLanes("presale:5, member:3, general:2");
+
+            assertThat(queueLanes.getNames()).containsExactly("presale", "member", "general");
+            assertThat(queueLanes.getWeights()).containsExactly(5, 3, 2);
+            assertThat(queueLanes.isSingleLane()).isFalse();
+        }
+
+        @DisplayName("기본 레인이 없으면 가중치 1로 추가")
+        @Test
+        void parse_adds_default_lane() {
+            QueueLanes queueLanes = new QueueLanes("presale:5");
+
+            assertThat(queueLanes.getNames()).containsExactly("presale", "general");
+            assertThat(queueLanes.getWeights()).containsExactly(5, 1);
+        }
+
+        @DisplayName("0 이하의 가중치는 거부")
+        @Test
+        void parse_rejects_non_positive_weight() {
+            assertThatThrownBy(() -> new QueueLanes("presale:0"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("resolve 메서드")
+    class ResolveTest {
+
+        private final QueueLanes queueLanes = new QueueLanes("presale:5,general:1");
+
+        @DisplayName("레인을 지정하지 않으면 기본 레인")
+        @Test
+        void resolve_default_lane() {
+            assertThat(queueLanes.resolve(null)).isEqualTo(QueueLanes.DEFAULT_LANE);
+            assertThat(queueLanes.resolve("")).isEqualTo(QueueLanes.DEFAULT_LANE);
+        }
+
+        @DisplayName("존재하지 않는 레인은 예외")
+        @Test
+        void resolve_unknown_lane() {
+            assertThatThrownBy(() -> queueLanes.resolve("vip"))
+                    .isInstanceOf(UnknownQueueLaneException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("keys 메서드")
+    class KeysTest {
+
+        @DisplayName("기본 레인은 기존 대기열 키를 사용")
+        @Test
+        void keys_default_lane_uses_existing_key() {
+            QueueLanes queueLanes = new QueueLanes("presale:5,general:1");
+
+            assertThat(queueLanes.keys(CONCERT_ID))
+                    .containsExactly("QUEUE:WAITING:1:presale", "QUEUE:WAITING:1");
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.ticket_service.queue.service;
 
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.queue.exception.ConcertClosedException;
+import com.ticket_service.queue.exception.LikelySoldOutException;
+import com.ticket_service.queue.exception.NodeDrainingException;
+import com.ticket_service.queue.exception.NotInQueueException;
+import com.ticket_service.queue.service.dto.QueueCountdownEvent;
 import com.ticket_service.queue.service.dto.QueueEventType;
+import com.ticket_service.queue.service.dto.QueueLotteryEvent;
 import com.ticket_service.queue.service.dto.QueuePositionEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,11 +22,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class QueueOrchestrationServiceTest {
@@ -31,7 +42,31 @@ class QueueOrchestrationServiceTest {
     private SseEmitterService sseEmitterService;
 
     @Mock
-    private QueueEventPublisher queueEventPublisher;
+    private AdmissionPump admissionPump;
+
+    @Mock
+    private AdmissionRateEstimator admissionRateEstimator;
+
+    @Mock
+    private WaitingPresence waitingPresence;
+
+    @Mock
+    private ConcertSchedule concertSchedule;
+
+    @Mock
+    private LotteryRegistry lotteryRegistry;
+
+    @Mock
+    private PreOpenWaitingRoom preOpenWaitingRoom;
+
+    @Mock
+    private NodeDrain nodeDrain;
+
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    @Mock
+    private ConnectionOwnership connectionOwnership;
 
     @InjectMocks
     private QueueOrchestrationService queueOrchestrationService;
@@ -43,15 +78,14 @@ class QueueOrchestrationServiceTest {
     @DisplayName("registerAndSubscribe 메서드")
     class RegisterAndSubscribeTest {
 
-        @DisplayName("처리열에 여유가 있으면 1명 입장 처리 후 Redis Pub/Sub으로 입장 이벤트를 발행한다")
+        @DisplayName("처리열에 여유가 있으면 입장 신호를 보낸다")
         @Test
         void registerAndSubscribe_with_capacity() {
             // given
             SseEmitter mockEmitter = new SseEmitter();
             given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(mockEmitter);
-            given(queueService.enterWaitingQueue(CONCERT_ID, USER_ID)).willReturn(0L);
+            given(queueService.enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong())).willReturn(0L);
             given(queueService.hasProcessingCapacity(CONCERT_ID)).willReturn(true);
-            given(queueService.permitProcessing(CONCERT_ID)).willReturn(List.of(USER_ID));
 
             // when
             SseEmitter result = queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID);
@@ -59,12 +93,12 @@ class QueueOrchestrationServiceTest {
             // then
             assertThat(result).isSameAs(mockEmitter);
 
-            InOrder inOrder = inOrder(queueService, sseEmitterService, queueEventPublisher);
+            InOrder inOrder = inOrder(queueService, sseEmitterService, admissionPump);
             inOrder.verify(sseEmitterService).createEmitter(CONCERT_ID, USER_ID);
-            inOrder.verify(queueService).enterWaitingQueue(CONCERT_ID, USER_ID);
+            inOrder.verify(queueService).enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong());
             inOrder.verify(queueService).hasProcessingCapacity(CONCERT_ID);
-            inOrder.verify(queueService).permitProcessing(CONCERT_ID);
-            inOrder.verify(queueEventPublisher).publishEnterEvent(CONCERT_ID, USER_ID);
+            inOrder.verify(admissionPump).signal(CONCERT_ID);
+            verify(queueService, never()).permitProcessing(CONCERT_ID);
         }
 
         @DisplayName("처리열이 가득 차면 대기 순번 이벤트만 전송한다")
@@ -72,7 +106,7 @@ class QueueOrchestrationServiceTest {
         void registerAndSubscribe_without_capacity() {
             // given
             Long position = 5L;
-            given(queueService.enterWaitingQueue(CONCERT_ID, USER_ID)).willReturn(position);
+            given(queueService.enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong())).willReturn(position);
             SseEmitter mockEmitter = new SseEmitter();
             given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(mockEmitter);
             given(queueService.hasProcessingCapacity(CONCERT_ID)).willReturn(false);
@@ -85,26 +119,191 @@ class QueueOrchestrationServiceTest {
             verify(sseEmitterService).sendEvent(eq(CONCERT_ID), eq(USER_ID),
                     eq(QueueEventType.QUEUE_POSITION), any(QueuePositionEvent.class));
         }
+
+        @DisplayName("대기열 등록이 거절되면 연결을 정리하고 예외를 전달한다")
+        @Test
+        void registerAndSubscribe_rejected() {
+            // given
+            given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(new SseEmitter());
+            given(queueService.enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong()))
+                    .willThrow(new LikelySoldOutException("매진 예상"));
+
+            // when & then
+            assertThatThrownBy(() -> queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID))
+                    .isInstanceOf(LikelySoldOutException.class);
+            verify(sseEmitterService).completeEmitter(CONCERT_ID, USER_ID);
+            verify(waitingPresence).remove(CONCERT_ID, USER_ID);
+        }
+
+        @DisplayName("추첨 방식 공연의 오픈 전에는 응모만 하고 대기열에 등록하지 않는다")
+        @Test
+        void registerAndSubscribe_lottery_before_open() {
+            // given
+            given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(new SseEmitter());
+            given(concertSchedule.isBeforeLotteryDraw(eq(CONCERT_ID), anyLong())).willReturn(true);
+
+            // when
+            queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID);
+
+            // then
+            verify(lotteryRegistry).register(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE);
+            verify(sseEmitterService).sendEvent(eq(CONCERT_ID), eq(USER_ID),
+                    eq(QueueEventType.LOTTERY_REGISTERED), any(QueueLotteryEvent.class));
+            verify(queueService, never()).enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong());
+            verify(admissionPump, never()).signal(CONCERT_ID);
+        }
+
+        @DisplayName("오픈 전에는 대기열에 등록하지 않고 대기실에 보관한 뒤 카운트다운을 전송한다")
+        @Test
+        void registerAndSubscribe_before_open_joins_waiting_room_without_enqueue() {
+            // given
+            given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(new SseEmitter());
+            given(concertSchedule.isBeforeOpen(eq(CONCERT_ID), anyLong())).willReturn(true);
+            given(concertSchedule.getOpenAtMillis(eq(CONCERT_ID), anyLong())).willReturn(System.currentTimeMillis() + 60_000);
+
+            // when
+            queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID);
+
+            // then
+            verify(preOpenWaitingRoom).join(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong(), anyLong());
+            verify(sseEmitterService).sendEvent(eq(CONCERT_ID), eq(USER_ID),
+                    eq(QueueEventType.COUNTDOWN), any(QueueCountdownEvent.class));
+            verifyNoInteractions(queueService, waitingPresence, lotteryRegistry);
+        }
+
+        @DisplayName("서버가 종료 중이면 새 구독을 받지 않는다")
+        @Test
+        void registerAndSubscribe_draining() {
+            // given
+            given(nodeDrain.isDraining()).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID))
+                    .isInstanceOf(NodeDrainingException.class);
+            verifyNoInteractions(sseEmitterService, queueService);
+        }
+
+        @DisplayName("판매가 종료된 공연은 연결을 만들지 않고 거절한다")
+        @Test
+        void registerAndSubscribe_closed() {
+            // given
+            given(concertSchedule.isClosed(eq(CONCERT_ID), anyLong())).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID))
+                    .isInstanceOf(ConcertClosedException.class);
+            verify(sseEmitterService, never()).createEmitter(CONCERT_ID, USER_ID);
+        }
+
+        @DisplayName("이미 대기 중인 사용자가 다시 구독하면 기존 순번을 이어간다")
+        @Test
+        void registerAndSubscribe_reconnect() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter();
+            given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(mockEmitter);
+            given(queueService.getPosition(CONCERT_ID, USER_ID)).willReturn(3L);
+            given(queueService.hasProcessingCapacity(CONCERT_ID)).willReturn(false);
+
+            // when
+            queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID);
+
+            // then
+            InOrder inOrder = inOrder(waitingPresence, queueService);
+            inOrder.verify(waitingPresence).touch(eq(CONCERT_ID), eq(USER_ID), anyLong());
+            inOrder.verify(queueService).getPosition(CONCERT_ID, USER_ID);
+            verify(queueService, never()).enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong());
+            verify(sseEmitterService).sendEvent(eq(CONCERT_ID), eq(USER_ID),
+                    eq(QueueEventType.QUEUE_POSITION), any(QueuePositionEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("registerAndSubscribe 메서드 - Last-Event-ID로 재연결")
+    class ResumeTest {
+
+        @DisplayName("이미 입장한 사용자는 대기열에 다시 등록하지 않고 남은 구매 가능 시간으로 입장 이벤트를 다시 받는다")
+        @Test
+        void resume_processing_user_replays_enter() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter();
+            given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(mockEmitter);
+            given(queueService.getProcessingRemainingSeconds(CONCERT_ID, USER_ID)).willReturn(42L);
+
+            // when
+            SseEmitter result = queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, "queue-position:0");
+
+            // then
+            assertThat(result).isSameAs(mockEmitter);
+            verify(sseEmitterService).sendEnterAndComplete(CONCERT_ID, USER_ID, 42L);
+            verify(queueService, never()).enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong());
+            verify(admissionPump, never()).signal(CONCERT_ID);
+        }
+
+        @DisplayName("대기 중인 사용자는 기존 순번을 이어간다")
+        @Test
+        void resume_waiting_user_keeps_position() {
+            // given
+            given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(new SseEmitter());
+            given(queueService.getPosition(CONCERT_ID, USER_ID)).willReturn(3L);
+            given(queueService.hasProcessingCapacity(CONCERT_ID)).willReturn(false);
+
+            // when
+            queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, "queue-position:7");
+
+            // then
+            verify(queueService, never()).enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong());
+            verify(sseEmitterService).sendEvent(eq(CONCERT_ID), eq(USER_ID),
+                    eq(QueueEventType.QUEUE_POSITION), any(QueuePositionEvent.class));
+        }
+
+        @DisplayName("입장 이벤트를 받은 후 구매 가능 시간이 지났으면 대기열에 다시 넣지 않는다")
+        @Test
+        void resume_after_enter_expired() {
+            // given
+            given(sseEmitterService.createEmitter(CONCERT_ID, USER_ID)).willReturn(new SseEmitter());
+
+            // when & then
+            assertThatThrownBy(() -> queueOrchestrationService.registerAndSubscribe(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, "enter"))
+                    .isInstanceOf(NotInQueueException.class);
+            verify(sseEmitterService).completeEmitter(CONCERT_ID, USER_ID);
+            verify(queueService, never()).enterWaitingQueue(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("releaseFromWaitingRoom 메서드")
+    class ReleaseFromWaitingRoomTest {
+
+        @DisplayName("대기실에서 나온 사용자는 입장 시각이 아닌 대기실에 들어온 시각을 score로 등록한다")
+        @Test
+        void releaseFromWaitingRoom_uses_queue_score() {
+            // given
+            long queueScore = System.currentTimeMillis() - 10_000;
+            given(queueService.enterWaitingQueue(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, queueScore)).willReturn(0L);
+
+            // when
+            queueOrchestrationService.releaseFromWaitingRoom(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, queueScore);
+
+            // then
+            verify(queueService).enterWaitingQueue(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, queueScore);
+            verify(connectionOwnership).claim(CONCERT_ID, USER_ID);
+        }
     }
 
     @Nested
     @DisplayName("onPurchaseComplete 메서드")
     class OnPurchaseCompleteTest {
 
-        @DisplayName("구매 완료 시 complete → 다음 대기자 입장 이벤트 발행")
+        @DisplayName("구매 완료 시 complete → 입장 신호")
         @Test
         void onPurchaseComplete_success() {
-            // given
-            given(queueService.permitProcessing(CONCERT_ID)).willReturn(List.of("user-2"));
-
             // when
             queueOrchestrationService.onPurchaseComplete(CONCERT_ID, USER_ID);
 
             // then
-            InOrder inOrder = inOrder(queueService, queueEventPublisher);
+            InOrder inOrder = inOrder(queueService, admissionPump);
             inOrder.verify(queueService).completeProcessing(CONCERT_ID, USER_ID);
-            inOrder.verify(queueService).permitProcessing(CONCERT_ID);
-            inOrder.verify(queueEventPublisher).publishEnterEvent(CONCERT_ID, "user-2");
+            inOrder.verify(admissionPump).signal(CONCERT_ID);
         }
     }
 
@@ -112,21 +311,44 @@ class QueueOrchestrationServiceTest {
     @DisplayName("onCancel 메서드")
     class OnCancelTest {
 
-        @DisplayName("취소 시 dequeue → SSE 종료 → 다음 대기자 입장 이벤트 발행")
+        @DisplayName("취소 시 dequeue → SSE 종료 → 입장 신호")
         @Test
         void onCancel_success() {
-            // given
-            given(queueService.permitProcessing(CONCERT_ID)).willReturn(List.of("user-2"));
-
             // when
             queueOrchestrationService.onCancel(CONCERT_ID, USER_ID);
 
             // then
-            InOrder inOrder = inOrder(queueService, sseEmitterService, queueEventPublisher);
+            InOrder inOrder = inOrder(queueService, sseEmitterService, admissionPump);
             inOrder.verify(queueService).removeFromQueue(CONCERT_ID, USER_ID);
             inOrder.verify(sseEmitterService).completeEmitter(CONCERT_ID, USER_ID);
-            inOrder.verify(queueService).permitProcessing(CONCERT_ID);
-            inOrder.verify(queueEventPublisher).publishEnterEvent(CONCERT_ID, "user-2");
+            inOrder.verify(admissionPump).signal(CONCERT_ID);
+            verify(waitingPresence).remove(CONCERT_ID, USER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("onProcessingExpired 메서드")
+    class OnProcessingExpiredTest {
+
+        @DisplayName("만료된 사용자가 있으면 연결 소유 기록을 지우고 입장 신호")
+        @Test
+        void onProcessingExpired_success() {
+            // when
+            queueOrchestrationService.onProcessingExpired(CONCERT_ID, List.of(USER_ID));
+
+            // then
+            verify(connectionOwnership).release(CONCERT_ID, List.of(USER_ID));
+            verify(admissionPump).signal(CONCERT_ID);
+        }
+
+        @DisplayName("만료된 사용자가 없으면 신호를 보내지 않음")
+        @Test
+        void onProcessingExpired_empty() {
+            // when
+            queueOrchestrationService.onProcessingExpired(CONCERT_ID, List.of());
+
+            // then
+            verify(admissionPump, never()).signal(CONCERT_ID);
         }
     }
 }
@@ -0,0 +1,124 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueuePositionBatchSchedulerTest {
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private PositionSnapshot positionSnapshot;
+
+    @Mock
+    private PositionUpdatePolicy positionUpdatePolicy;
+
+    @Mock
+    private AdmissionRateEstimator admissionRateEstimator;
+
+    @Mock
+    private ConcertSchedule concertSchedule;
+
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    @InjectMocks
+    private QueuePositionBatchScheduler queuePositionBatchScheduler;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final String USER_ID = "user-1";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(queuePositionBatchScheduler, "maxIdleBackoff", 6);
+    }
+
+    private void givenIdleConcert() {
+        given(sseEmitterService.getActiveConcertIds()).willReturn(Set.of(CONCERT_ID));
+        given(sseEmitterService.getConnections(CONCERT_ID))
+                .willReturn(List.of(new SseConnection(CONCERT_ID, USER_ID, new SseEmitter())));
+    }
+
+    @Nested
+    @DisplayName("broadcastPositions 메서드")
+    class BroadcastPositionsTest {
+
+        @DisplayName("리스를 가진 서버는 대기열이 멈춰 브로드캐스트 주기가 늘어나도 매 틱 스냅샷을 발행한다")
+        @Test
+        void leader_publishes_every_tick_while_backed_off() {
+            // given
+            givenIdleConcert();
+            given(positionSnapshot.tryAcquireLease(CONCERT_ID)).willReturn(true);
+            given(queueService.getAllPositions(CONCERT_ID)).willReturn(Map.of(USER_ID, 5L));
+            given(positionSnapshot.publish(CONCERT_ID, Map.of(USER_ID, 5L))).willReturn(Map.of(USER_ID, 5L));
+
+            // when
+            for (int i = 0; i < 4; i++) {
+                queuePositionBatchScheduler.broadcastPositions();
+            }
+
+            // then
+            verify(positionSnapshot, times(4)).tryAcquireLease(CONCERT_ID);
+            verify(positionSnapshot, times(4)).publish(CONCERT_ID, Map.of(USER_ID, 5L));
+            // 순번이 그대로이므로 두 번째 브로드캐스트 이후 주기가 두 배로 늘어 틱 3은 건너뛴다
+            verify(sseEmitterService, times(3)).getConnections(CONCERT_ID);
+            verify(positionSnapshot, never()).read(eq(CONCERT_ID), anyList());
+        }
+
+        @DisplayName("리스가 없는 서버는 스냅샷을 발행하지 않고 읽기만 한다")
+        @Test
+        void follower_reads_snapshot() {
+            // given
+            givenIdleConcert();
+            given(positionSnapshot.read(CONCERT_ID, List.of(USER_ID))).willReturn(Map.of(USER_ID, 5L));
+
+            // when
+            queuePositionBatchScheduler.broadcastPositions();
+
+            // then
+            verify(positionSnapshot, never()).publish(eq(CONCERT_ID), anyMap());
+            verify(queueService, never()).getPositions(eq(CONCERT_ID), anyList());
+        }
+
+        @DisplayName("오픈 전 공연은 리스와 스냅샷을 건드리지 않는다")
+        @Test
+        void before_open_skips_snapshot() {
+            // given
+            given(sseEmitterService.getActiveConcertIds()).willReturn(Set.of(CONCERT_ID));
+            given(concertSchedule.isBeforeOpen(eq(CONCERT_ID), anyLong())).willReturn(true);
+
+            // when
+            queuePositionBatchScheduler.broadcastPositions();
+
+            // then
+            verify(positionSnapshot, never()).tryAcquireLease(CONCERT_ID);
+        }
+    }
+}
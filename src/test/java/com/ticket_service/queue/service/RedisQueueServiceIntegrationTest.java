@@ -172,7 +172,7 @@ class RedisQueueServiceIntegrationTest {
             assertThat(enteredUsers).hasSize(maxProcessingCount);
 
             String processingKey = QueueKey.processingSet(CONCERT_ID);
-            Long processingCount = queueRedisTemplate.opsForSet().size(processingKey);
+            Long processingCount = queueRedisTemplate.opsForZSet().zCard(processingKey);
             assertThat(processingCount).isEqualTo(maxProcessingCount);
 
             // 대기열에 나머지 남아있는지 확인
@@ -229,7 +229,7 @@ class RedisQueueServiceIntegrationTest {
             assertThat(enteredUsers).hasSize(50);
 
             String processingKey = QueueKey.processingSet(CONCERT_ID);
-            Long processingCount = queueRedisTemplate.opsForSet().size(processingKey);
+            Long processingCount = queueRedisTemplate.opsForZSet().zCard(processingKey);
             assertThat(processingCount).isEqualTo(maxProcessingCount);
         }
     }
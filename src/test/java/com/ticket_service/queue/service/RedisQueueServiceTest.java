@@ -3,6 +3,7 @@ package com.ticket_service.queue.service;
 import com.ticket_service.common.metrics.QueueMetrics;
 import com.ticket_service.common.redis.RedissonLockTemplate;
 import com.ticket_service.queue.exception.AlreadyInQueueException;
+import com.ticket_service.queue.exception.LikelySoldOutException;
 import com.ticket_service.queue.exception.QueueFullException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.never;
@@ -42,6 +45,12 @@ class RedisQueueServiceTest {
     @Mock
     private QueueMetrics queueMetrics;
 
+    @Mock
+    private SlotExpiryWheel slotExpiryWheel;
+
+    @Mock
+    private StockAwareQueueCap stockAwareQueueCap;
+
     private RedisQueueService redisQueueService;
 
     private static final Long CONCERT_ID = 1L;
@@ -49,13 +58,19 @@ class RedisQueueServiceTest {
 
     @BeforeEach
     void setUp() {
-        redisQueueService = new RedisQueueService(waitingQueue, processingSet, redissonLockTemplate, queueMetrics);
+        redisQueueService = new RedisQueueService(waitingQueue, processingSet, redissonLockTemplate, queueMetrics, slotExpiryWheel, stockAwareQueueCap);
+        given(stockAwareQueueCap.capacity(anyLong())).willReturn(Long.MAX_VALUE);
 
         given(redissonLockTemplate.executeWithLock(anyString(), any(Supplier.class)))
                 .willAnswer(invocation -> {
                     Supplier<?> supplier = invocation.getArgument(1);
                     return supplier.get();
                 });
+        given(redissonLockTemplate.tryExecuteWithLock(anyString(), any(Supplier.class), any()))
+                .willAnswer(invocation -> {
+                    Supplier<?> supplier = invocation.getArgument(1);
+                    return supplier.get();
+                });
         willAnswer(invocation -> {
             Runnable runnable = invocation.getArgument(1);
             runnable.run();
@@ -78,7 +93,35 @@ class RedisQueueServiceTest {
             Long position = redisQueueService.enterWaitingQueue(CONCERT_ID, USER_ID);
 
             assertThat(position).isEqualTo(0L);
-            verify(waitingQueue).add(CONCERT_ID, USER_ID);
+            verify(waitingQueue).add(eq(CONCERT_ID), eq(USER_ID), eq(QueueLanes.DEFAULT_LANE), anyLong());
+        }
+
+        @DisplayName("대기열 등록 성공 - 지정한 레인에 등록")
+        @Test
+        void enqueue_success_with_lane() {
+            given(processingSet.contains(CONCERT_ID, USER_ID)).willReturn(false);
+            given(waitingQueue.contains(CONCERT_ID, USER_ID)).willReturn(false);
+            given(waitingQueue.hasCapacity(CONCERT_ID)).willReturn(true);
+            given(waitingQueue.rank(CONCERT_ID, USER_ID)).willReturn(0L);
+
+            Long position = redisQueueService.enterWaitingQueue(CONCERT_ID, USER_ID, "presale");
+
+            assertThat(position).isEqualTo(0L);
+            verify(waitingQueue).add(eq(CONCERT_ID), eq(USER_ID), eq("presale"), anyLong());
+        }
+
+        @DisplayName("대기열 등록 성공 - 지정한 score로 등록")
+        @Test
+        void enqueue_success_with_score() {
+            given(processingSet.contains(CONCERT_ID, USER_ID)).willReturn(false);
+            given(waitingQueue.contains(CONCERT_ID, USER_ID)).willReturn(false);
+            given(waitingQueue.hasCapacity(CONCERT_ID)).willReturn(true);
+            given(waitingQueue.rank(CONCERT_ID, USER_ID)).willReturn(0L);
+
+            Long position = redisQueueService.enterWaitingQueue(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, 1_000L);
+
+            assertThat(position).isEqualTo(0L);
+            verify(waitingQueue).add(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, 1_000L);
         }
 
         @DisplayName("대기열 등록 실패 - 대기열이 가득 참")
@@ -93,6 +136,22 @@ class RedisQueueServiceTest {
                     .hasMessage("현재 대기 인원이 많아 접수가 어렵습니다. 잠시 후 다시 시도해주세요.");
         }
 
+        @DisplayName("대기열 등록 실패 - 대기 + 처리 인원이 남은 재고 기준 상한을 넘음")
+        @Test
+        void enqueue_fail_likely_sold_out() {
+            given(processingSet.contains(CONCERT_ID, USER_ID)).willReturn(false);
+            given(waitingQueue.contains(CONCERT_ID, USER_ID)).willReturn(false);
+            given(waitingQueue.hasCapacity(CONCERT_ID)).willReturn(true);
+            given(stockAwareQueueCap.capacity(CONCERT_ID)).willReturn(150L);
+            given(waitingQueue.size(CONCERT_ID)).willReturn(100L);
+            given(processingSet.size(CONCERT_ID)).willReturn(50L);
+
+            assertThatThrownBy(() -> redisQueueService.enterWaitingQueue(CONCERT_ID, USER_ID))
+                    .isInstanceOf(LikelySoldOutException.class);
+            verify(waitingQueue, never()).add(anyLong(), anyString(), anyString(), anyLong());
+            verify(queueMetrics).incrementQueueRejected(CONCERT_ID, "sold_out");
+        }
+
         @DisplayName("대기열 등록 실패 - 이미 처리중인 사용자")
         @Test
         void enqueue_fail_already_processing() {
@@ -165,6 +224,26 @@ class RedisQueueServiceTest {
 
             assertThat(result).isFalse();
         }
+
+        @DisplayName("남은 구매 가능 시간은 초 단위로 올림")
+        @Test
+        void getProcessingRemainingSeconds_rounds_up() {
+            given(processingSet.remainingMillis(CONCERT_ID, USER_ID)).willReturn(41_001L);
+
+            Long result = redisQueueService.getProcessingRemainingSeconds(CONCERT_ID, USER_ID);
+
+            assertThat(result).isEqualTo(42L);
+        }
+
+        @DisplayName("처리열에 없는 사용자의 남은 시간 - null 반환")
+        @Test
+        void getProcessingRemainingSeconds_not_processing() {
+            given(processingSet.remainingMillis(CONCERT_ID, USER_ID)).willReturn(null);
+
+            Long result = redisQueueService.getProcessingRemainingSeconds(CONCERT_ID, USER_ID);
+
+            assertThat(result).isNull();
+        }
     }
 
     @Nested
@@ -181,10 +260,13 @@ class RedisQueueServiceTest {
                     new PolledUser("user-3", 3000L)
             ));
 
+            given(processingSet.addAll(CONCERT_ID, List.of("user-1", "user-2", "user-3"))).willReturn(300_000L);
+
             List<String> enteredUsers = redisQueueService.permitProcessing(CONCERT_ID);
 
             assertThat(enteredUsers).containsExactly("user-1", "user-2", "user-3");
             verify(processingSet).addAll(CONCERT_ID, List.of("user-1", "user-2", "user-3"));
+            verify(slotExpiryWheel).schedule(CONCERT_ID, List.of("user-1", "user-2", "user-3"), 300_000L);
             verify(queueMetrics).recordWaitingTime(CONCERT_ID, 1000L);
             verify(queueMetrics).recordWaitingTime(CONCERT_ID, 2000L);
             verify(queueMetrics).recordWaitingTime(CONCERT_ID, 3000L);
@@ -211,6 +293,19 @@ class RedisQueueServiceTest {
 
             assertThat(enteredUsers).isEmpty();
         }
+
+        @DisplayName("다른 곳에서 입장 락을 보유 중이면 기다리지 않고 빈 목록 반환")
+        @Test
+        void enterNextUsers_lock_busy() {
+            given(redissonLockTemplate.tryExecuteWithLock(anyString(), any(Supplier.class), any()))
+                    .willAnswer(invocation -> invocation.getArgument(2));
+
+            List<String> enteredUsers = redisQueueService.permitProcessing(CONCERT_ID);
+
+            assertThat(enteredUsers).isEmpty();
+            verify(processingSet, never()).remainingCapacity(anyLong());
+            verify(redissonLockTemplate, never()).executeWithLock(anyString(), any(Supplier.class));
+        }
     }
 
     @Nested
@@ -237,4 +332,48 @@ class RedisQueueServiceTest {
             assertThat(position).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("getPositions 메서드")
+    class GetPositionsTest {
+
+        @DisplayName("연결된 사용자 목록의 순번만 일괄 조회")
+        @Test
+        void getPositions_success() {
+            List<String> userIds = List.of("user-1", "user-2");
+            given(waitingQueue.ranks(CONCERT_ID, userIds)).willReturn(Map.of("user-1", 0L, "user-2", 1L));
+
+            Map<String, Long> positions = redisQueueService.getPositions(CONCERT_ID, userIds);
+
+            assertThat(positions).containsEntry("user-1", 0L).containsEntry("user-2", 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("expireProcessing 메서드")
+    class ExpireProcessingTest {
+
+        @DisplayName("만료된 사용자만 제거하고 만료 건수를 기록")
+        @Test
+        void expireProcessing_success() {
+            List<String> candidates = List.of("user-1", "user-2");
+            given(processingSet.removeExpired(eq(CONCERT_ID), eq(candidates), anyLong())).willReturn(List.of("user-2"));
+
+            List<String> expiredUsers = redisQueueService.expireProcessing(CONCERT_ID, candidates);
+
+            assertThat(expiredUsers).containsExactly("user-2");
+            verify(queueMetrics).incrementProcessingExpired(CONCERT_ID, 1);
+        }
+
+        @DisplayName("처리열 전체에서 만료된 사용자를 회수")
+        @Test
+        void reclaimExpiredProcessing_success() {
+            given(processingSet.pollExpired(eq(CONCERT_ID), anyLong(), eq(500))).willReturn(List.of("user-1"));
+
+            List<String> expiredUsers = redisQueueService.reclaimExpiredProcessing(CONCERT_ID, 500);
+
+            assertThat(expiredUsers).containsExactly("user-1");
+            verify(queueMetrics).incrementProcessingExpired(CONCERT_ID, 1);
+        }
+    }
 }
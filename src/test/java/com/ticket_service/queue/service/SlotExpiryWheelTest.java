@@ -0,0 +1,90 @@
+package com.ticket_service.queue.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotExpiryWheelTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final long START = 1_000_000L;
+
+    private SlotExpiryWheel slotExpiryWheel;
+
+    @BeforeEach
+    void setUp() {
+        slotExpiryWheel = new SlotExpiryWheel(Duration.ofSeconds(1), 8);
+        slotExpiryWheel.advance(START);
+    }
+
+    @Nested
+    @DisplayName("advance 메서드")
+    class AdvanceTest {
+
+        @DisplayName("만료 시각 전에는 꺼내지 않고, 지나면 꺼냄")
+        @Test
+        void advance_returns_expired_slots() {
+            // given
+            slotExpiryWheel.schedule(CONCERT_ID, List.of("user-1", "user-2"), START + 2_500);
+
+            // when
+            List<ExpiringSlot> beforeDeadline = slotExpiryWheel.advance(START + 2_000);
+            List<ExpiringSlot> afterDeadline = slotExpiryWheel.advance(START + 3_000);
+
+            // then
+            assertThat(beforeDeadline).isEmpty();
+            assertThat(afterDeadline).hasSize(1);
+            assertThat(afterDeadline.get(0).userIds()).containsExactly("user-1", "user-2");
+            assertThat(slotExpiryWheel.size()).isZero();
+        }
+
+        @DisplayName("한 바퀴보다 먼 만료 시각은 해당 바퀴에만 꺼냄")
+        @Test
+        void advance_keeps_slots_of_later_rounds() {
+            // given - 휠 크기 8초, 10초 뒤 만료
+            slotExpiryWheel.schedule(CONCERT_ID, List.of("user-1"), START + 10_000);
+
+            // when
+            List<ExpiringSlot> firstRound = slotExpiryWheel.advance(START + 8_000);
+            List<ExpiringSlot> secondRound = slotExpiryWheel.advance(START + 10_000);
+
+            // then
+            assertThat(firstRound).isEmpty();
+            assertThat(secondRound).hasSize(1);
+        }
+
+        @DisplayName("틱이 밀려도 지나간 슬롯을 모두 확인")
+        @Test
+        void advance_catches_up_missed_ticks() {
+            // given
+            slotExpiryWheel.schedule(CONCERT_ID, List.of("user-1"), START + 1_000);
+            slotExpiryWheel.schedule(CONCERT_ID, List.of("user-2"), START + 3_000);
+
+            // when - 20초 동안 호출되지 않음
+            List<ExpiringSlot> expired = slotExpiryWheel.advance(START + 20_000);
+
+            // then
+            assertThat(expired).hasSize(2);
+        }
+
+        @DisplayName("이미 지난 만료 시각은 다음 틱에 꺼냄")
+        @Test
+        void advance_returns_past_deadline_on_next_tick() {
+            // given
+            slotExpiryWheel.advance(START + 5_000);
+            slotExpiryWheel.schedule(CONCERT_ID, List.of("user-1"), START + 1_000);
+
+            // when
+            List<ExpiringSlot> expired = slotExpiryWheel.advance(START + 6_000);
+
+            // then
+            assertThat(expired).hasSize(1);
+        }
+    }
+}
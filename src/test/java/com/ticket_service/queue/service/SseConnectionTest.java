@@ -0,0 +1,113 @@
+package com.ticket_service.queue.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class SseConnectionTest {
+
+    @Nested
+    @DisplayName("send / sendAndComplete 메서드")
+    class SendTest {
+
+        @DisplayName("여러 스레드가 동시에 보내도 한 번에 하나씩 전송한다")
+        @Test
+        void send_serialized_across_threads() throws Exception {
+            // given
+            SseEmitter emitter = mock(SseEmitter.class);
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            AtomicInteger sent = new AtomicInteger();
+            willAnswer(invocation -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(1);
+                inFlight.decrementAndGet();
+                sent.incrementAndGet();
+                return null;
+            }).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+            SseConnection connection = new SseConnection(1L, "user-1", emitter);
+
+            // when
+            int threadCount = 32;
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < threadCount; i++) {
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            start.await();
+                            connection.send(SseEmitter.event().data("position"));
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }, executor));
+                }
+                start.countDown();
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            }
+
+            // then
+            assertThat(sent.get()).isEqualTo(threadCount);
+            assertThat(maxInFlight.get()).isEqualTo(1);
+        }
+
+        @DisplayName("진행 중인 전송이 끝난 뒤에 입장 이벤트를 보내고 연결을 완료한다")
+        @Test
+        void sendAndComplete_waits_for_in_progress_send() throws Exception {
+            // given
+            SseEmitter emitter = mock(SseEmitter.class);
+            CountDownLatch sending = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            willAnswer(invocation -> {
+                sending.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).willReturn(null).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+            SseConnection connection = new SseConnection(1L, "user-1", emitter);
+
+            CompletableFuture<Void> position = CompletableFuture.runAsync(() -> {
+                try {
+                    connection.send(SseEmitter.event().data("position"));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            CompletableFuture<Void> enter = CompletableFuture.runAsync(() -> {
+                try {
+                    connection.sendAndComplete(SseEmitter.event().data("enter"));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // then
+            Thread.sleep(50);
+            verify(emitter, never()).complete();
+            release.countDown();
+            position.get(5, TimeUnit.SECONDS);
+            enter.get(5, TimeUnit.SECONDS);
+            verify(emitter, timeout(1_000)).complete();
+        }
+    }
+}
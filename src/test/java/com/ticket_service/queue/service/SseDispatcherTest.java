@@ -0,0 +1,58 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseDispatcherTest {
+
+    private final Executor rejectingExecutor = task -> {
+        throw new RejectedExecutionException("full");
+    };
+
+    @Nested
+    @DisplayName("submitCritical 메서드")
+    class SubmitCriticalTest {
+
+        @DisplayName("실행기가 거절하면 호출 스레드에서 실행한다")
+        @Test
+        void submitCritical_caller_runs_when_rejected() {
+            // given
+            SseDispatcher dispatcher = new SseDispatcher(rejectingExecutor, new QueueMetrics(new SimpleMeterRegistry()), 0.5);
+
+            // when
+            Boolean result = dispatcher.submitCritical("enter", () -> true).join();
+
+            // then
+            assertThat(result).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("submitBestEffort 메서드")
+    class SubmitBestEffortTest {
+
+        @DisplayName("실행기가 거절하면 실행하지 않고 false로 완료한다")
+        @Test
+        void submitBestEffort_dropped_when_rejected() {
+            // given
+            SseDispatcher dispatcher = new SseDispatcher(rejectingExecutor, new QueueMetrics(new SimpleMeterRegistry()), 0.5);
+            AtomicBoolean executed = new AtomicBoolean();
+
+            // when
+            Boolean result = dispatcher.submitBestEffort("queue-position", () -> executed.set(true)).join();
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(executed).isFalse();
+        }
+    }
+}
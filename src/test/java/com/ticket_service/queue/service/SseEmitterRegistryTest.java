@@ -0,0 +1,109 @@
+package com.ticket_service.queue.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseEmitterRegistryTest {
+
+    private SseEmitterRegistry registry;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final String USER_ID = "user-1";
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseEmitterRegistry();
+    }
+
+    private SseConnection connection(Long concertId, String userId) {
+        return new SseConnection(concertId, userId, new SseEmitter());
+    }
+
+    @Nested
+    @DisplayName("register 메서드")
+    class RegisterTest {
+
+        @DisplayName("같은 사용자 재등록 시 기존 연결을 반환하고 연결 수는 유지")
+        @Test
+        void register_replaces_existing() {
+            // given
+            SseConnection first = connection(CONCERT_ID, USER_ID);
+            registry.register(first);
+
+            // when
+            SseConnection previous = registry.register(connection(CONCERT_ID, USER_ID));
+
+            // then
+            assertThat(previous).isSameAs(first);
+            assertThat(registry.count()).isEqualTo(1);
+            assertThat(registry.count(CONCERT_ID)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("remove 메서드")
+    class RemoveTest {
+
+        @DisplayName("교체된 이전 연결 제거 시 새 연결은 유지")
+        @Test
+        void remove_stale_connection_keeps_current() {
+            // given
+            SseConnection first = connection(CONCERT_ID, USER_ID);
+            SseConnection second = connection(CONCERT_ID, USER_ID);
+            registry.register(first);
+            registry.register(second);
+
+            // when
+            boolean removed = registry.remove(first);
+
+            // then
+            assertThat(removed).isFalse();
+            assertThat(registry.get(CONCERT_ID, USER_ID)).isSameAs(second);
+            assertThat(registry.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("take 메서드")
+    class TakeTest {
+
+        @DisplayName("연결은 한 번만 꺼낼 수 있다")
+        @Test
+        void take_only_once() {
+            // given
+            SseConnection connection = connection(CONCERT_ID, USER_ID);
+            registry.register(connection);
+
+            // when
+            SseConnection first = registry.take(CONCERT_ID, USER_ID);
+            SseConnection second = registry.take(CONCERT_ID, USER_ID);
+
+            // then
+            assertThat(first).isSameAs(connection);
+            assertThat(second).isNull();
+            assertThat(registry.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("concertIds 메서드")
+    class ConcertIdsTest {
+
+        @DisplayName("연결이 남아있는 공연만 반환")
+        @Test
+        void concertIds_excludes_empty_concerts() {
+            // given
+            registry.register(connection(CONCERT_ID, USER_ID));
+            registry.register(connection(2L, USER_ID));
+            registry.take(2L, USER_ID);
+
+            // when & then
+            assertThat(registry.concertIds()).containsExactly(CONCERT_ID);
+        }
+    }
+}
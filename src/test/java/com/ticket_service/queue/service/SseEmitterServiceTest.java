@@ -1,6 +1,9 @@
 package com.ticket_service.queue.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket_service.common.metrics.QueueMetrics;
 import com.ticket_service.queue.service.dto.QueueEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,6 +12,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,7 +28,13 @@ class SseEmitterServiceTest {
     @BeforeEach
     void setUp() {
         Executor directExecutor = Runnable::run;
-        sseEmitterService = new SseEmitterService(directExecutor);
+        QueueMetrics queueMetrics = new QueueMetrics(new SimpleMeterRegistry());
+        SseDispatcher sseDispatcher = new SseDispatcher(directExecutor, queueMetrics, 0.5);
+        SseFanOutEngine sseFanOutEngine = new SseFanOutEngine(sseDispatcher, queueMetrics);
+        ReflectionTestUtils.setField(sseFanOutEngine, "maxChunks", 4);
+        ReflectionTestUtils.setField(sseFanOutEngine, "minChunkSize", 2);
+        SseFrameCache sseFrameCache = new SseFrameCache(new ObjectMapper(), 100, Duration.ofMinutes(5));
+        sseEmitterService = new SseEmitterService(sseDispatcher, sseFanOutEngine, sseFrameCache);
         ReflectionTestUtils.setField(sseEmitterService, "sseTimeout", Duration.ofMinutes(10));
     }
 
@@ -88,4 +99,94 @@ class SseEmitterServiceTest {
             sseEmitterService.sendEvent(CONCERT_ID, "nonexistent-user", QueueEventType.ENTER, "data");
         }
     }
+
+    @Nested
+    @DisplayName("getConnectedUserIds 메서드")
+    class GetConnectedUserIdsTest {
+
+        @DisplayName("해당 공연에 연결된 사용자만 반환")
+        @Test
+        void getConnectedUserIds_filters_by_concert() {
+            // given
+            sseEmitterService.createEmitter(CONCERT_ID, "user-1");
+            sseEmitterService.createEmitter(CONCERT_ID, "user-2");
+            sseEmitterService.createEmitter(2L, "user-3");
+
+            // when
+            List<String> userIds = sseEmitterService.getConnectedUserIds(CONCERT_ID);
+
+            // then
+            assertThat(userIds).containsExactlyInAnyOrder("user-1", "user-2");
+        }
+    }
+
+    @Nested
+    @DisplayName("sendEnterAndCompleteToLocalAsync 메서드")
+    class SendEnterAndCompleteToLocalAsyncTest {
+
+        @DisplayName("이 서버에 연결된 사용자에게만 전송하고, 전송이 모두 끝나면 true로 완료된다")
+        @Test
+        void sendEnterAndCompleteToLocalAsync_completes_after_sends() {
+            // given
+            sseEmitterService.createEmitter(CONCERT_ID, "user-1");
+            sseEmitterService.createEmitter(CONCERT_ID, "user-2");
+
+            // when
+            boolean sent = sseEmitterService.sendEnterAndCompleteToLocalAsync(CONCERT_ID, List.of("user-1", "user-remote")).join();
+
+            // then
+            assertThat(sent).isTrue();
+            assertThat(sseEmitterService.getConnectedUserIds(CONCERT_ID)).containsExactly("user-2");
+        }
+    }
+
+    @Nested
+    @DisplayName("reconnectAll 메서드")
+    class ReconnectAllTest {
+
+        @DisplayName("모든 연결에 재연결 이벤트를 보내고 저장소에서 제거")
+        @Test
+        void reconnectAll_closes_every_connection() {
+            // given
+            sseEmitterService.createEmitter(CONCERT_ID, "user-1");
+            sseEmitterService.createEmitter(CONCERT_ID, "user-2");
+            sseEmitterService.createEmitter(2L, "user-3");
+
+            // when
+            int reconnected = sseEmitterService.reconnectAll(10_000L);
+
+            // then
+            assertThat(reconnected).isEqualTo(3);
+            assertThat(sseEmitterService.getActiveConnectionCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("broadcastPositionsAsync 메서드")
+    class BroadcastPositionsAsyncTest {
+
+        @DisplayName("연결된 사용자는 전송 후 전송 순번을 기록하고, 이미 종료된 연결은 유실로 집계")
+        @Test
+        void broadcastPositionsAsync_counts_delivered_and_dropped() {
+            // given
+            sseEmitterService.createEmitter(CONCERT_ID, "user-1");
+            sseEmitterService.createEmitter(CONCERT_ID, "user-2");
+            sseEmitterService.createEmitter(CONCERT_ID, "user-3");
+            List<PositionUpdate> updates = new ArrayList<>();
+            for (SseConnection connection : sseEmitterService.getConnections(CONCERT_ID)) {
+                updates.add(new PositionUpdate(connection, updates.size()));
+            }
+            sseEmitterService.completeEmitter(CONCERT_ID, "user-3");
+
+            // when
+            FanOutResult result = sseEmitterService.broadcastPositionsAsync(updates).join();
+
+            // then
+            assertThat(result.delivered()).isEqualTo(2);
+            assertThat(result.dropped()).isEqualTo(1);
+            assertThat(updates)
+                    .filteredOn(update -> !update.connection().getUserId().equals("user-3"))
+                    .allMatch(update -> update.connection().getLastSentPosition() == update.position());
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package com.ticket_service.queue.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseFrameCacheTest {
+
+    private SseFrameCache sseFrameCache;
+
+    @BeforeEach
+    void setUp() {
+        sseFrameCache = new SseFrameCache(new ObjectMapper(), 10, Duration.ofMinutes(5));
+    }
+
+    private String decode(SseFrame frame) {
+        return new String(frame.getBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("position 메서드")
+    class PositionTest {
+
+        @DisplayName("SSE 이벤트 형식으로 인코딩")
+        @Test
+        void position_encodes_sse_event() {
+            // when
+            SseFrame frame = sseFrameCache.position(3);
+
+            // then
+            assertThat(decode(frame)).isEqualTo("event:queue-position\nid:queue-position:3\ndata:{\"position\":3}\n\n");
+        }
+
+        @DisplayName("같은 순번은 같은 프레임을 재사용")
+        @Test
+        void position_reuses_cached_frame() {
+            // when
+            SseFrame first = sseFrameCache.position(3);
+            SseFrame second = sseFrameCache.position(3);
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @DisplayName("예상 대기 시간이 같으면 재사용하고, 달라지면 새로 인코딩")
+        @Test
+        void position_with_estimated_wait() {
+            // when
+            SseFrame first = sseFrameCache.position(3, 60L);
+            SseFrame same = sseFrameCache.position(3, 60L);
+            SseFrame changed = sseFrameCache.position(3, 70L);
+
+            // then
+            assertThat(same).isSameAs(first);
+            assertThat(changed).isNotSameAs(first);
+            assertThat(decode(changed)).isEqualTo("event:queue-position\nid:queue-position:3\ndata:{\"position\":3,\"estimatedWaitSeconds\":70}\n\n");
+        }
+
+        @DisplayName("캐시 범위를 넘는 순번도 인코딩")
+        @Test
+        void position_beyond_cache_limit() {
+            // when
+            SseFrame frame = sseFrameCache.position(10_000);
+
+            // then
+            assertThat(decode(frame)).isEqualTo("event:queue-position\nid:queue-position:10000\ndata:{\"position\":10000}\n\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("enter 메서드")
+    class EnterTest {
+
+        @DisplayName("입장 이벤트는 공유 프레임 하나를 사용")
+        @Test
+        void enter_shared_frame() {
+            // when & then
+            assertThat(sseFrameCache.enter()).isSameAs(sseFrameCache.enter());
+            assertThat(decode(sseFrameCache.enter())).isEqualTo("event:enter\nid:enter\ndata:{\"status\":\"PROCESSING\",\"expiresInSeconds\":300}\n\n");
+        }
+
+        @DisplayName("남은 시간을 지정한 입장 프레임은 그 값을 담는다")
+        @Test
+        void enter_with_remaining_seconds() {
+            // when & then
+            assertThat(decode(sseFrameCache.enter(42L))).isEqualTo("event:enter\nid:enter\ndata:{\"status\":\"PROCESSING\",\"expiresInSeconds\":42}\n\n");
+        }
+    }
+}
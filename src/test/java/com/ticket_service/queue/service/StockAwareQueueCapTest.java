@@ -0,0 +1,64 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import com.ticket_service.ticket.repository.TicketStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StockAwareQueueCapTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    private TicketStockRepository ticketStockRepository;
+    private QueueMetrics queueMetrics;
+    private StockAwareQueueCap stockAwareQueueCap;
+
+    @BeforeEach
+    void setUp() {
+        ticketStockRepository = mock(TicketStockRepository.class);
+        queueMetrics = mock(QueueMetrics.class);
+        stockAwareQueueCap = new StockAwareQueueCap(ticketStockRepository, queueMetrics, true, 1.5, 1, Duration.ofSeconds(2));
+    }
+
+    @Nested
+    @DisplayName("capacity 메서드")
+    class CapacityTest {
+
+        @DisplayName("남은 재고 / 평균 수량 × 초과 허용 비율")
+        @Test
+        void capacity_by_average_quantity() {
+            assertThat(stockAwareQueueCap.capacity(5000, 2.0)).isEqualTo(3750);
+        }
+
+        @DisplayName("재고가 없으면 0")
+        @Test
+        void capacity_zero_when_sold_out() {
+            assertThat(stockAwareQueueCap.capacity(0, 1.0)).isZero();
+        }
+
+        @DisplayName("재고 정보가 없으면 상한 없음")
+        @Test
+        void capacity_unbounded_without_stock() {
+            given(ticketStockRepository.findByConcertId(CONCERT_ID)).willReturn(Optional.empty());
+
+            assertThat(stockAwareQueueCap.capacity(CONCERT_ID)).isEqualTo(Long.MAX_VALUE);
+        }
+
+        @DisplayName("비활성화하면 상한 없음")
+        @Test
+        void capacity_disabled() {
+            StockAwareQueueCap disabled = new StockAwareQueueCap(ticketStockRepository, queueMetrics, false, 1.5, 1, Duration.ofSeconds(2));
+
+            assertThat(disabled.capacity(CONCERT_ID)).isEqualTo(Long.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import com.ticket_service.queue.service.dto.QueueEnterMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StreamQueueEnterTransportTest {
+
+    @Mock
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    private StreamQueueEnterTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport = new StreamQueueEnterTransport(queueRedisTemplate, 500L);
+        given(connection.streamCommands()).willReturn(streamCommands);
+        willAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection))
+                .given(queueRedisTemplate).execute(any(RedisCallback.class));
+    }
+
+    @Nested
+    @DisplayName("sendToNode 메서드")
+    class SendToNodeTest {
+
+        @DisplayName("서버별 스트림에 MAXLEN ~ 옵션을 붙인 XADD 한 번으로 추가한다")
+        @SuppressWarnings("unchecked")
+        @Test
+        void sendToNode_adds_with_approximate_maxlen() {
+            // given
+            QueueEnterMessage message = QueueEnterMessage.of(1L, List.of("user-1"));
+
+            // when
+            transport.sendToNode("node-a", message);
+
+            // then
+            ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> record = ArgumentCaptor.forClass(MapRecord.class);
+            ArgumentCaptor<XAddOptions> options = ArgumentCaptor.forClass(XAddOptions.class);
+            verify(streamCommands).xAdd(record.capture(), options.capture());
+            verifyNoMoreInteractions(streamCommands);
+
+            assertThat(new String(record.getValue().getStream(), StandardCharsets.UTF_8)).isEqualTo(QueueKey.nodeEnterStream("node-a"));
+            assertThat(options.getValue().getMaxlen()).isEqualTo(500L);
+            assertThat(options.getValue().isApproximateTrimming()).isTrue();
+        }
+    }
+}
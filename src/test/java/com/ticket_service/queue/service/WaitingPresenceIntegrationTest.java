@@ -0,0 +1,163 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class WaitingPresenceIntegrationTest {
+
+    @Autowired
+    private WaitingPresence waitingPresence;
+
+    @Autowired
+    private WaitingQueue waitingQueue;
+
+    @Autowired
+    private GhostUserReaper ghostUserReaper;
+
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+
+    // 기본 유예 시간(60s)보다 오래전
+    private static final long STALE_MILLIS = 120_000L;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    private void clear() {
+        queueRedisTemplate.delete(List.of(
+                QueueKey.waitingQueue(CONCERT_ID),
+                QueueKey.presence(CONCERT_ID),
+                QueueKey.presenceConcerts(),
+                QueueKey.connectionOwners(CONCERT_ID)
+        ));
+    }
+
+    private List<String> waitingUsers() {
+        return List.copyOf(queueRedisTemplate.opsForZSet().range(QueueKey.waitingQueue(CONCERT_ID), 0, -1));
+    }
+
+    @Nested
+    @DisplayName("reap 메서드")
+    class ReapTest {
+
+        @DisplayName("cutoff 이전에 확인된 대기자는 대기열과 확인 대상에서 제거하고, 이후에 확인된 대기자는 남긴다")
+        @Test
+        void reap_removes_stale_and_keeps_fresh() {
+            // given
+            long now = System.currentTimeMillis();
+            waitingQueue.add(CONCERT_ID, "stale-user");
+            waitingQueue.add(CONCERT_ID, "fresh-user");
+            waitingPresence.touch(CONCERT_ID, "stale-user", now - STALE_MILLIS);
+            waitingPresence.touch(CONCERT_ID, "fresh-user", now);
+
+            // when
+            WaitingPresence.ReapResult result = waitingPresence.reap(CONCERT_ID, now - 60_000, 500);
+
+            // then
+            assertThat(result.scanned()).isEqualTo(1);
+            assertThat(result.removedUserIds()).containsExactly("stale-user");
+            assertThat(waitingUsers()).containsExactly("fresh-user");
+            assertThat(queueRedisTemplate.opsForZSet().score(QueueKey.presence(CONCERT_ID), "stale-user")).isNull();
+        }
+
+        @DisplayName("확인이 끊겼던 대기자가 제거 전에 다시 연결해 확인 시각이 갱신되면 순번을 유지한다")
+        @Test
+        void reap_keeps_reconnected_user() {
+            // given
+            long now = System.currentTimeMillis();
+            waitingQueue.add(CONCERT_ID, "user-1");
+            waitingQueue.add(CONCERT_ID, "user-2");
+            waitingPresence.touch(CONCERT_ID, List.of("user-1", "user-2"), now - STALE_MILLIS);
+            waitingPresence.touch(CONCERT_ID, "user-1", now);
+
+            // when
+            WaitingPresence.ReapResult result = waitingPresence.reap(CONCERT_ID, now - 60_000, 500);
+
+            // then
+            assertThat(result.removedUserIds()).containsExactly("user-2");
+            assertThat(waitingUsers()).containsExactly("user-1");
+            assertThat(waitingQueue.rank(CONCERT_ID, "user-1")).isZero();
+        }
+
+        @DisplayName("이미 대기열을 떠난 사용자는 확인 대상에서만 빠지고 제거 목록에 포함되지 않는다")
+        @Test
+        void reap_skips_users_not_waiting() {
+            // given
+            long now = System.currentTimeMillis();
+            waitingPresence.touch(CONCERT_ID, "entered-user", now - STALE_MILLIS);
+
+            // when
+            WaitingPresence.ReapResult result = waitingPresence.reap(CONCERT_ID, now - 60_000, 500);
+
+            // then
+            assertThat(result.scanned()).isEqualTo(1);
+            assertThat(result.removedUserIds()).isEmpty();
+            assertThat(queueRedisTemplate.opsForZSet().zCard(QueueKey.presence(CONCERT_ID))).isZero();
+        }
+
+        @DisplayName("limit만큼만 확인하므로 나머지는 다음 호출에서 제거된다")
+        @Test
+        void reap_respects_limit() {
+            // given
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < 3; i++) {
+                waitingQueue.add(CONCERT_ID, "user-" + i);
+                waitingPresence.touch(CONCERT_ID, "user-" + i, now - STALE_MILLIS + i);
+            }
+
+            // when
+            WaitingPresence.ReapResult first = waitingPresence.reap(CONCERT_ID, now - 60_000, 2);
+            WaitingPresence.ReapResult second = waitingPresence.reap(CONCERT_ID, now - 60_000, 2);
+
+            // then
+            assertThat(first.removedUserIds()).containsExactly("user-0", "user-1");
+            assertThat(second.removedUserIds()).containsExactly("user-2");
+            assertThat(waitingUsers()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("GhostUserReaper.reapGhostUsers 메서드")
+    class ReapGhostUsersTest {
+
+        @DisplayName("유예 시간 동안 확인되지 않은 대기자만 대기열에서 제거한다")
+        @Test
+        void reapGhostUsers_removes_only_users_past_grace_period() {
+            // given
+            long now = System.currentTimeMillis();
+            waitingQueue.add(CONCERT_ID, "ghost-user");
+            waitingQueue.add(CONCERT_ID, "connected-user");
+            waitingPresence.touch(CONCERT_ID, "ghost-user", now - STALE_MILLIS);
+            waitingPresence.touch(CONCERT_ID, "connected-user", now - 1_000);
+
+            // when
+            ghostUserReaper.reapGhostUsers();
+
+            // then
+            assertThat(waitingUsers()).containsExactly("connected-user");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class WaitingQueueIntegrationTest {
+
+    @Autowired
+    private WaitingQueue waitingQueue;
+
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        queueRedisTemplate.delete(QueueKey.waitingQueue(CONCERT_ID));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queueRedisTemplate.delete(QueueKey.waitingQueue(CONCERT_ID));
+    }
+
+    @Nested
+    @DisplayName("addAll 메서드")
+    class AddAllTest {
+
+        @DisplayName("목록 순서대로 firstScore부터 1씩 증가하는 score로 등록한다")
+        @Test
+        void addAll_scores_in_list_order() {
+            // given
+            List<String> userIds = List.of("user-c", "user-a", "user-b");
+
+            // when
+            waitingQueue.addAll(CONCERT_ID, QueueLanes.DEFAULT_LANE, userIds, 1_000L);
+
+            // then
+            String key = QueueKey.waitingQueue(CONCERT_ID);
+            assertThat(queueRedisTemplate.opsForZSet().range(key, 0, -1)).containsExactly("user-c", "user-a", "user-b");
+            assertThat(queueRedisTemplate.opsForZSet().score(key, "user-c")).isEqualTo(1_000.0);
+            assertThat(queueRedisTemplate.opsForZSet().score(key, "user-b")).isEqualTo(1_002.0);
+            assertThat(queueRedisTemplate.getExpire(key)).isPositive();
+        }
+
+        @DisplayName("오픈 시각 이전 score로 등록한 응모자는 먼저 들어온 일반 등록자보다 앞선다")
+        @Test
+        void addAll_before_open_ranks_ahead_of_fifo_users() {
+            // given
+            long openAtMillis = System.currentTimeMillis() - 1_000;
+            waitingQueue.add(CONCERT_ID, "fifo-user");
+            List<String> drawn = List.of("drawn-1", "drawn-2");
+
+            // when
+            waitingQueue.addAll(CONCERT_ID, QueueLanes.DEFAULT_LANE, drawn, openAtMillis - drawn.size());
+
+            // then
+            assertThat(waitingQueue.rank(CONCERT_ID, "drawn-1")).isZero();
+            assertThat(waitingQueue.rank(CONCERT_ID, "drawn-2")).isEqualTo(1L);
+            assertThat(waitingQueue.rank(CONCERT_ID, "fifo-user")).isEqualTo(2L);
+        }
+
+        @DisplayName("배치 크기를 넘는 인원도 모두 순서대로 등록한다")
+        @Test
+        void addAll_more_than_batch_size() {
+            // given
+            List<String> userIds = new ArrayList<>();
+            for (int i = 0; i < 2_500; i++) {
+                userIds.add("user-" + i);
+            }
+
+            // when
+            waitingQueue.addAll(CONCERT_ID, QueueLanes.DEFAULT_LANE, userIds, 0L);
+
+            // then
+            assertThat(waitingQueue.size(CONCERT_ID)).isEqualTo(2_500L);
+            assertThat(waitingQueue.rank(CONCERT_ID, "user-1000")).isEqualTo(1_000L);
+            assertThat(waitingQueue.rank(CONCERT_ID, "user-2499")).isEqualTo(2_499L);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.redis.QueueKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = "queue.lanes=vip:3,general:1")
+class WaitingQueueLanesIntegrationTest {
+
+    @Autowired
+    private WaitingQueue waitingQueue;
+
+    @Autowired
+    private QueueLanes queueLanes;
+
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final String VIP = "vip";
+
+    @BeforeEach
+    void setUp() {
+        clearQueue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearQueue();
+    }
+
+    private void clearQueue() {
+        queueRedisTemplate.delete(queueLanes.keys(CONCERT_ID));
+        queueRedisTemplate.delete(QueueKey.laneDeficit(CONCERT_ID));
+    }
+
+    private static List<String> users(String prefix, int count) {
+        List<String> userIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userIds.add(prefix + "-" + i);
+        }
+        return userIds;
+    }
+
+    private List<String> poll(long count) {
+        List<String> userIds = new ArrayList<>();
+        for (PolledUser polled : waitingQueue.pollTopUsersWithWaitingTime(CONCERT_ID, count)) {
+            userIds.add(polled.userId());
+        }
+        return userIds;
+    }
+
+    @Nested
+    @DisplayName("pollTopUsersWithWaitingTime 메서드 - 여러 레인")
+    class PollLanesTest {
+
+        @DisplayName("레인별 가중치 비율(3:1)로 꺼내며 레인 안에서는 먼저 온 순서를 지킨다")
+        @Test
+        void poll_by_weight() {
+            // given
+            waitingQueue.addAll(CONCERT_ID, VIP, users("vip", 6), 0L);
+            waitingQueue.addAll(CONCERT_ID, QueueLanes.DEFAULT_LANE, users("general", 6), 0L);
+
+            // when
+            List<String> first = poll(4);
+            List<String> second = poll(4);
+
+            // then
+            assertThat(first).containsExactly("vip-0", "vip-1", "vip-2", "general-0");
+            assertThat(second).containsExactly("vip-3", "vip-4", "vip-5", "general-1");
+        }
+
+        @DisplayName("인원이 차서 중단된 레인은 남은 기회를 다음 호출에서 이어서 사용한다")
+        @Test
+        void poll_carries_deficit_over_calls() {
+            // given
+            waitingQueue.addAll(CONCERT_ID, VIP, users("vip", 6), 0L);
+            waitingQueue.addAll(CONCERT_ID, QueueLanes.DEFAULT_LANE, users("general", 6), 0L);
+
+            // when
+            List<String> first = poll(2);
+            List<String> second = poll(2);
+
+            // then: 첫 호출에서 vip가 3번의 기회 중 2번을 쓰고, 남은 1번은 다음 호출에서 사용
+            assertThat(first).containsExactly("vip-0", "vip-1");
+            assertThat(second).containsExactly("vip-2", "general-0");
+        }
+
+        @DisplayName("비어 있는 레인은 건너뛰고 다른 레인이 그 몫을 가져간다")
+        @Test
+        void poll_skips_empty_lane() {
+            // given
+            waitingQueue.addAll(CONCERT_ID, QueueLanes.DEFAULT_LANE, users("general", 5), 0L);
+
+            // when
+            List<String> polled = poll(3);
+
+            // then
+            assertThat(polled).containsExactly("general-0", "general-1", "general-2");
+            assertThat(waitingQueue.size(CONCERT_ID)).isEqualTo(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("rank / ranks 메서드 - 여러 레인")
+    class LaneRankTest {
+
+        @DisplayName("순번은 사용자가 속한 레인 안에서의 순서다")
+        @Test
+        void rank_within_lane() {
+            // given
+            waitingQueue.addAll(CONCERT_ID, VIP, users("vip", 2), 100L);
+            waitingQueue.addAll(CONCERT_ID, QueueLanes.DEFAULT_LANE, users("general", 3), 0L);
+
+            // when
+            Map<String, Long> ranks = waitingQueue.ranks(CONCERT_ID, List.of("vip-1", "general-2", "unknown"));
+
+            // then
+            assertThat(waitingQueue.rank(CONCERT_ID, "vip-0")).isZero();
+            assertThat(waitingQueue.rank(CONCERT_ID, "general-0")).isZero();
+            assertThat(ranks).containsEntry("vip-1", 1L)
+                    .containsEntry("general-2", 2L)
+                    .doesNotContainKey("unknown");
+            assertThat(waitingQueue.size(CONCERT_ID)).isEqualTo(5L);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ticket_service.queue.service;
+
+import com.ticket_service.common.metrics.QueueMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomSchedulerTest {
+
+    @Mock
+    private QueueOrchestrationService queueOrchestrationService;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private SseFrameCache sseFrameCache;
+
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    private final PreOpenWaitingRoom preOpenWaitingRoom = new PreOpenWaitingRoom(Duration.ZERO);
+
+    private static final Long CONCERT_ID = 1L;
+    private static final String USER_ID = "user-1";
+
+    private WaitingRoomScheduler scheduler(Executor executor) {
+        return new WaitingRoomScheduler(preOpenWaitingRoom, queueOrchestrationService, sseEmitterService,
+                sseFrameCache, queueMetrics, executor, Duration.ofSeconds(5));
+    }
+
+    @Nested
+    @DisplayName("tick 메서드 - 오픈 후")
+    class ReleaseTest {
+
+        @DisplayName("입장 시각이 된 대기자의 등록을 틱 스레드에서 실행하지 않고 등록 작업 풀에 넘긴다")
+        @Test
+        void tick_hands_release_to_executor() {
+            // given
+            long now = System.currentTimeMillis();
+            preOpenWaitingRoom.join(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, now - 1_000, now - 2_000);
+            given(sseEmitterService.isConnected(CONCERT_ID, USER_ID)).willReturn(true);
+            List<Runnable> submitted = new ArrayList<>();
+
+            // when
+            scheduler(submitted::add).tick();
+
+            // then
+            assertThat(submitted).hasSize(1);
+            verify(queueOrchestrationService, never()).releaseFromWaitingRoom(anyLong(), anyString(), anyString(), anyLong());
+
+            submitted.get(0).run();
+            verify(queueOrchestrationService).releaseFromWaitingRoom(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, now - 2_000);
+        }
+
+        @DisplayName("등록 작업 풀이 가득 차면 대기자를 대기실에 되돌려 다음 틱에 다시 넘긴다")
+        @Test
+        void tick_requeues_when_executor_rejects() {
+            // given
+            long now = System.currentTimeMillis();
+            preOpenWaitingRoom.join(CONCERT_ID, USER_ID, QueueLanes.DEFAULT_LANE, now - 1_000, now - 2_000);
+            given(sseEmitterService.isConnected(CONCERT_ID, USER_ID)).willReturn(true);
+
+            // when
+            scheduler(task -> {
+                throw new RejectedExecutionException("full");
+            }).tick();
+
+            // then
+            assertThat(preOpenWaitingRoom.size(CONCERT_ID)).isEqualTo(1);
+            assertThat(preOpenWaitingRoom.getGuests(CONCERT_ID)).singleElement()
+                    .extracting(PreOpenWaitingRoom.Guest::queueScore)
+                    .isEqualTo(now - 2_000);
+            verify(queueOrchestrationService, never()).releaseFromWaitingRoom(anyLong(), anyString(), anyString(), anyLong());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ticket_service.queue.service.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueueEnterMessageTest {
+
+    @DisplayName("인코딩한 메시지를 디코딩하면 공연과 사용자 목록이 그대로 복원된다")
+    @Test
+    void encode_decode_round_trip() {
+        // given
+        QueueEnterMessage message = QueueEnterMessage.of(300L, List.of("user-1", "사용자-2", ""));
+
+        // when
+        QueueEnterMessage decoded = QueueEnterMessage.decode(message.encode());
+
+        // then
+        assertThat(decoded.getConcertId()).isEqualTo(300L);
+        assertThat(decoded.getUserIds()).containsExactly("user-1", "사용자-2", "");
+    }
+
+    @DisplayName("공연 id와 길이는 varint로 인코딩한다")
+    @Test
+    void encode_uses_varint() {
+        // when
+        byte[] encoded = QueueEnterMessage.of(300L, List.of("ab")).encode();
+
+        // then: [버전][300 = 0xAC 0x02][사용자 수 1][길이 2]['a' 'b']
+        assertThat(encoded).containsExactly(1, 0xAC, 0x02, 1, 2, 'a', 'b');
+    }
+
+    @DisplayName("사용자가 없는 메시지도 디코딩")
+    @Test
+    void decode_empty() {
+        // when
+        QueueEnterMessage decoded = QueueEnterMessage.decode(QueueEnterMessage.of(7L, List.of()).encode());
+
+        // then
+        assertThat(decoded.getConcertId()).isEqualTo(7L);
+        assertThat(decoded.getUserIds()).isEmpty();
+    }
+
+    @DisplayName("잘린 메시지나 다른 형식은 예외")
+    @Test
+    void decode_invalid() {
+        // given
+        byte[] encoded = QueueEnterMessage.of(7L, List.of("user-1")).encode();
+
+        // when & then
+        assertThatThrownBy(() -> QueueEnterMessage.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QueueEnterMessage.decode("{\"concertId\":7}".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("남은 메시지보다 큰 사용자 수나 int 범위를 넘는 길이는 IllegalArgumentException")
+    @Test
+    void decode_oversized_varint() {
+        // given: [버전][공연 id 7][사용자 수 2^35]
+        byte[] oversizedCount = {1, 7, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+        // [버전][공연 id 7][사용자 수 1][길이 2^63 근처]
+        byte[] oversizedLength = {1, 7, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+
+        // when & then
+        assertThatThrownBy(() -> QueueEnterMessage.decode(oversizedCount))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QueueEnterMessage.decode(oversizedLength))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("이전 버전 서버가 보낸 JSON 형식도 디코딩")
+    @Test
+    void decode_json() {
+        // given
+        byte[] json = "{\"concertId\":300,\"userId\":\"사용자-1\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        QueueEnterMessage decoded = QueueEnterMessage.decode(json);
+
+        // then
+        assertThat(decoded.getConcertId()).isEqualTo(300L);
+        assertThat(decoded.getUserIds()).containsExactly("사용자-1");
+    }
+
+    @DisplayName("텍스트 형식이나 필드가 빠진 JSON은 IllegalArgumentException")
+    @Test
+    void decode_unsupported_text() {
+        // when & then
+        assertThatThrownBy(() -> QueueEnterMessage.decode("300\nuser-1".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QueueEnterMessage.decode("{\"concertId\":300".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +31,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ActiveProfiles("test")
 @SpringBootTest
+// 재고보다 많은 인원을 입장시켜 초과 판매 방지를 검증하므로 재고 기반 대기열 상한은 끈다
+@TestPropertySource(properties = "queue.stock-cap.enabled=false")
 class TicketPurchaseServiceIntegrationTest {
 
     @Autowired
@@ -103,8 +106,8 @@ class TicketPurchaseServiceIntegrationTest {
 
             // then - 처리열에서 제거 확인
             String processingKey = QueueKey.processingSet(concertId);
-            Boolean isInProcessing = queueRedisTemplate.opsForSet().isMember(processingKey, userId);
-            assertThat(isInProcessing).isFalse();
+            Double deadline = queueRedisTemplate.opsForZSet().score(processingKey, userId);
+            assertThat(deadline).isNull();
         }
 
         @DisplayName("대기열 미등록 상태에서 구매 시도 → QueueAccessDeniedException")
@@ -143,8 +146,8 @@ class TicketPurchaseServiceIntegrationTest {
 
             // then - 처리열에서 제거 확인 (finally 블록 동작 검증)
             String processingKey = QueueKey.processingSet(concertId);
-            Boolean isInProcessing = queueRedisTemplate.opsForSet().isMember(processingKey, userId);
-            assertThat(isInProcessing).isFalse();
+            Double deadline = queueRedisTemplate.opsForZSet().score(processingKey, userId);
+            assertThat(deadline).isNull();
         }
     }
 
@@ -200,7 +203,7 @@ class TicketPurchaseServiceIntegrationTest {
 
             // 처리열이 비어있는지 확인
             String processingKey = QueueKey.processingSet(concertId);
-            Long processingCount = queueRedisTemplate.opsForSet().size(processingKey);
+            Long processingCount = queueRedisTemplate.opsForZSet().zCard(processingKey);
             assertThat(processingCount).isEqualTo(0);
         }
 
@@ -254,7 +257,7 @@ class TicketPurchaseServiceIntegrationTest {
 
             // 처리열이 비어있는지 확인
             String processingKey = QueueKey.processingSet(concertId);
-            Long processingCount = queueRedisTemplate.opsForSet().size(processingKey);
+            Long processingCount = queueRedisTemplate.opsForZSet().zCard(processingKey);
             assertThat(processingCount).isEqualTo(0);
         }
     }